@@ -0,0 +1,77 @@
+/*
+ *   Licensed to the Indoqa Software Design und Beratung GmbH (Indoqa) under
+ *   one or more contributor license agreements. See the NOTICE file distributed
+ *   with this work for additional information regarding copyright ownership.
+ *   Indoqa licenses this file to You under the Apache License, Version 2.0
+ *   (the "License"); you may not use this file except in compliance with
+ *   the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.indoqa.solr.utils.benchmarks;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import com.indoqa.solr.utils.validation.checks.AttributesValidator;
+import com.indoqa.solr.utils.validation.results.AttributesValidationResult;
+import org.openjdk.jmh.annotations.*;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class AttributesValidatorBenchmark {
+
+    @Param({"4", "16"})
+    private int attributeCount;
+
+    private Map<String, Object> schemaAttributes;
+    private Map<String, Object> equalSolrAttributes;
+    private Map<String, Object> differentSolrAttributes;
+
+    @Setup
+    public void setup() {
+        this.schemaAttributes = new HashMap<>();
+        this.schemaAttributes.put("name", "field");
+        this.schemaAttributes.put("type", "text");
+        for (int i = 0; i < this.attributeCount; i++) {
+            this.schemaAttributes.put("attribute_" + i, i % 2 == 0);
+        }
+
+        this.equalSolrAttributes = new HashMap<>(this.schemaAttributes);
+        for (int i = 0; i < this.attributeCount; i += 2) {
+            // Solr may report boolean attributes as string literals
+            this.equalSolrAttributes.put("attribute_" + i, "true");
+        }
+
+        this.differentSolrAttributes = new HashMap<>(this.schemaAttributes);
+        this.differentSolrAttributes.put("type", "string");
+        this.differentSolrAttributes.remove("attribute_0");
+        this.differentSolrAttributes.put("still_in_solr", Boolean.TRUE);
+    }
+
+    @Benchmark
+    public AttributesValidationResult validateEqual() {
+        return AttributesValidator.validate(this.schemaAttributes, this.equalSolrAttributes);
+    }
+
+    @Benchmark
+    public AttributesValidationResult validateDifferent() {
+        return AttributesValidator.validate(this.schemaAttributes, this.differentSolrAttributes);
+    }
+
+    @Benchmark
+    public AttributesValidationResult validateOnlyInSchema() {
+        return AttributesValidator.validate(this.schemaAttributes, null);
+    }
+}
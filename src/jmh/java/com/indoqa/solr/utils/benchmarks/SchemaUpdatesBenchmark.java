@@ -0,0 +1,94 @@
+/*
+ *   Licensed to the Indoqa Software Design und Beratung GmbH (Indoqa) under
+ *   one or more contributor license agreements. See the NOTICE file distributed
+ *   with this work for additional information regarding copyright ownership.
+ *   Indoqa licenses this file to You under the Apache License, Version 2.0
+ *   (the "License"); you may not use this file except in compliance with
+ *   the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.indoqa.solr.utils.benchmarks;
+
+import static java.util.Collections.singletonList;
+import static java.util.Collections.singletonMap;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import com.indoqa.solr.utils.maintenance.handlers.SchemaUpdates;
+import org.apache.solr.client.solrj.request.schema.FieldTypeDefinition;
+import org.apache.solr.client.solrj.request.schema.SchemaRequest;
+import org.openjdk.jmh.annotations.*;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class SchemaUpdatesBenchmark {
+
+    @Param({"100", "1000", "10000", "50000"})
+    private int updateCount;
+
+    private List<SchemaRequest.AddFieldType> addFieldTypes;
+    private List<SchemaRequest.AddField> addFields;
+    private List<SchemaRequest.ReplaceField> replaceFields;
+    private List<SchemaRequest.DeleteDynamicField> deleteDynamicFields;
+    private List<SchemaRequest.AddCopyField> addCopyFields;
+    private List<SchemaRequest.DeleteCopyField> deleteCopyFields;
+
+    @Setup
+    public void setup() {
+        int fieldTypeCount = SyntheticSchema.getFieldTypeCount(this.updateCount);
+
+        this.addFieldTypes = new ArrayList<>(fieldTypeCount);
+        for (int i = 0; i < fieldTypeCount; i++) {
+            this.addFieldTypes.add(new SchemaRequest.AddFieldType(new FieldTypeDefinition()));
+        }
+
+        this.addFields = new ArrayList<>(this.updateCount);
+        this.replaceFields = new ArrayList<>(this.updateCount);
+        this.deleteDynamicFields = new ArrayList<>(this.updateCount);
+        this.addCopyFields = new ArrayList<>(this.updateCount);
+        this.deleteCopyFields = new ArrayList<>(this.updateCount);
+        for (int i = 0; i < this.updateCount; i++) {
+            this.addFields.add(new SchemaRequest.AddField(singletonMap("name", "field_" + i)));
+            this.replaceFields.add(new SchemaRequest.ReplaceField(singletonMap("name", "modified_" + i)));
+            this.deleteDynamicFields.add(new SchemaRequest.DeleteDynamicField("*_d" + i));
+            this.addCopyFields.add(new SchemaRequest.AddCopyField("field_" + i, singletonList("copy_" + i)));
+            this.deleteCopyFields.add(new SchemaRequest.DeleteCopyField("old_" + i, singletonList("copy_" + i)));
+        }
+    }
+
+    @Benchmark
+    public List<SchemaRequest.Update> getAllUpdates() {
+        return this.createSchemaUpdates().getAllUpdates();
+    }
+
+    @Benchmark
+    public int getAllUpdatesByOperation() {
+        SchemaUpdates schemaUpdates = this.createSchemaUpdates();
+        return schemaUpdates.getAllUpdatesAdd().size() + schemaUpdates.getAllUpdatesRemove().size()
+            + schemaUpdates.getAllUpdatesModify().size();
+    }
+
+    private SchemaUpdates createSchemaUpdates() {
+        SchemaUpdates result = new SchemaUpdates();
+        result.addAllFieldTypeAdd(this.addFieldTypes);
+        result.addAllFieldUpdatesAdd(this.addFields);
+        result.addAllFieldUpdatesModify(this.replaceFields);
+        result.addAllDynamicUpdatesRemove(this.deleteDynamicFields);
+        result.addAllCopyFieldUpdatesAdd(this.addCopyFields);
+        result.addAllCopyFieldUpdatesRemove(this.deleteCopyFields);
+        return result;
+    }
+}
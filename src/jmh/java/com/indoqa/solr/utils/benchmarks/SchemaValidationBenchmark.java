@@ -0,0 +1,86 @@
+/*
+ *   Licensed to the Indoqa Software Design und Beratung GmbH (Indoqa) under
+ *   one or more contributor license agreements. See the NOTICE file distributed
+ *   with this work for additional information regarding copyright ownership.
+ *   Indoqa licenses this file to You under the Apache License, Version 2.0
+ *   (the "License"); you may not use this file except in compliance with
+ *   the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.indoqa.solr.utils.benchmarks;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import com.indoqa.solr.utils.validation.SolrSchema;
+import com.indoqa.solr.utils.validation.SolrSchemaException;
+import com.indoqa.solr.utils.validation.checks.SchemaCopyFieldsValidation;
+import com.indoqa.solr.utils.validation.checks.SchemaDynamicFieldsValidation;
+import com.indoqa.solr.utils.validation.checks.SchemaFieldTypesValidation;
+import com.indoqa.solr.utils.validation.checks.SchemaFieldsValidation;
+import com.indoqa.solr.utils.validation.results.CopyFieldsValidationResult;
+import com.indoqa.solr.utils.validation.results.DynamicFieldsValidationResult;
+import com.indoqa.solr.utils.validation.results.FieldTypesValidationResult;
+import com.indoqa.solr.utils.validation.results.FieldsValidationResult;
+import org.apache.solr.client.solrj.response.schema.SchemaResponse;
+import org.openjdk.jmh.annotations.*;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class SchemaValidationBenchmark {
+
+    @Param({"100", "1000", "10000", "50000"})
+    private int fieldCount;
+
+    private SolrSchema solrSchema;
+    private SchemaResponse schemaResponse;
+
+    private final SchemaFieldsValidation fieldsValidation = new SchemaFieldsValidation();
+    private final SchemaDynamicFieldsValidation dynamicFieldsValidation = new SchemaDynamicFieldsValidation();
+    private final SchemaCopyFieldsValidation copyFieldsValidation = new SchemaCopyFieldsValidation();
+    private final SchemaFieldTypesValidation fieldTypesValidation = new SchemaFieldTypesValidation();
+
+    @Setup
+    public void setup() throws IOException, SolrSchemaException {
+        Path schemaFile = SyntheticSchema.writeSchemaXml(this.fieldCount);
+        try {
+            this.solrSchema = new SolrSchema("synthetic", schemaFile.toAbsolutePath().toString());
+        } finally {
+            Files.deleteIfExists(schemaFile);
+        }
+        this.schemaResponse = SyntheticSchema.createSchemaResponse(this.solrSchema);
+    }
+
+    @Benchmark
+    public FieldsValidationResult validateFields() throws SolrSchemaException {
+        return this.fieldsValidation.validate(this.solrSchema, this.schemaResponse, null);
+    }
+
+    @Benchmark
+    public DynamicFieldsValidationResult validateDynamicFields() throws SolrSchemaException {
+        return this.dynamicFieldsValidation.validate(this.solrSchema, this.schemaResponse, null);
+    }
+
+    @Benchmark
+    public CopyFieldsValidationResult validateCopyFields() throws SolrSchemaException {
+        return this.copyFieldsValidation.validate(this.solrSchema, this.schemaResponse, null);
+    }
+
+    @Benchmark
+    public FieldTypesValidationResult validateFieldTypes() throws SolrSchemaException {
+        return this.fieldTypesValidation.validate(this.solrSchema, this.schemaResponse, null);
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ *   Licensed to the Indoqa Software Design und Beratung GmbH (Indoqa) under
+ *   one or more contributor license agreements. See the NOTICE file distributed
+ *   with this work for additional information regarding copyright ownership.
+ *   Indoqa licenses this file to You under the Apache License, Version 2.0
+ *   (the "License"); you may not use this file except in compliance with
+ *   the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.indoqa.solr.utils.benchmarks;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.EnumSet;
+import java.util.concurrent.TimeUnit;
+
+import com.indoqa.solr.utils.validation.SolrSchema;
+import com.indoqa.solr.utils.validation.SolrSchemaException;
+import com.indoqa.solr.utils.validation.schema.DomSchemaParser;
+import com.indoqa.solr.utils.validation.schema.SchemaParser;
+import com.indoqa.solr.utils.validation.schema.SchemaSection;
+import com.indoqa.solr.utils.validation.schema.StaxSchemaParser;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class SolrSchemaBenchmark {
+
+    @Param({"100", "1000", "10000", "50000"})
+    private int fieldCount;
+
+    @Param({"dom", "stax"})
+    private String parser;
+
+    private Path schemaFile;
+    private SolrSchema solrSchema;
+    private String[] fieldNames;
+
+    @Setup
+    public void setup() throws IOException, SolrSchemaException {
+        this.schemaFile = SyntheticSchema.writeSchemaXml(this.fieldCount);
+        this.solrSchema = this.parse();
+
+        this.fieldNames = new String[this.fieldCount];
+        for (int i = 0; i < this.fieldCount; i++) {
+            this.fieldNames[i] = "field_" + i;
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(this.schemaFile);
+    }
+
+    @Benchmark
+    public SolrSchema parse() throws SolrSchemaException {
+        // sections are parsed lazily, all of them are requested to compare complete parses of both parsers
+        SolrSchema result = this.parseHeader();
+        result.parseSections(EnumSet.allOf(SchemaSection.class));
+        return result;
+    }
+
+    @Benchmark
+    public SolrSchema parseHeader() throws SolrSchemaException {
+        return new SolrSchema("synthetic", this.schemaFile.toAbsolutePath().toString(), this.createSchemaParser());
+    }
+
+    @Benchmark
+    public void getFieldByName(Blackhole blackhole) {
+        for (String eachFieldName : this.fieldNames) {
+            blackhole.consume(this.solrSchema.getField(eachFieldName));
+        }
+    }
+
+    @Benchmark
+    public void getCopyFieldsBySource(Blackhole blackhole) {
+        for (String eachFieldName : this.fieldNames) {
+            blackhole.consume(this.solrSchema.getCopyFields(eachFieldName));
+        }
+    }
+
+    @Benchmark
+    public void getSections(Blackhole blackhole) {
+        blackhole.consume(this.solrSchema.getFields());
+        blackhole.consume(this.solrSchema.getDynamicFields());
+        blackhole.consume(this.solrSchema.getCopyFields());
+        blackhole.consume(this.solrSchema.getFieldTypes());
+    }
+
+    private SchemaParser createSchemaParser() {
+        if ("stax".equals(this.parser)) {
+            return new StaxSchemaParser();
+        }
+        return new DomSchemaParser();
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ *   Licensed to the Indoqa Software Design und Beratung GmbH (Indoqa) under
+ *   one or more contributor license agreements. See the NOTICE file distributed
+ *   with this work for additional information regarding copyright ownership.
+ *   Indoqa licenses this file to You under the Apache License, Version 2.0
+ *   (the "License"); you may not use this file except in compliance with
+ *   the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.indoqa.solr.utils.benchmarks;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.indoqa.solr.utils.validation.SolrSchema;
+import org.apache.solr.client.solrj.request.schema.FieldTypeDefinition;
+import org.apache.solr.client.solrj.response.schema.SchemaRepresentation;
+import org.apache.solr.client.solrj.response.schema.SchemaResponse;
+
+public final class SyntheticSchema {
+
+    private SyntheticSchema() {
+        // hide constructor
+    }
+
+    public static int getFieldTypeCount(int fieldCount) {
+        return Math.max(5, fieldCount / 100);
+    }
+
+    public static String createSchemaXml(int fieldCount) {
+        int fieldTypeCount = getFieldTypeCount(fieldCount);
+        StringBuilder result = new StringBuilder(fieldCount * 160);
+        result.append("<?xml version=\"1.0\" encoding=\"UTF-8\" ?>\n");
+        result.append("<schema name=\"synthetic\" version=\"1.6\">\n");
+        result.append("  <uniqueKey>id</uniqueKey>\n");
+        result.append("  <field name=\"id\" type=\"string\" indexed=\"true\" stored=\"true\" required=\"true\" />\n");
+
+        for (int i = 0; i < fieldCount; i++) {
+            result.append("  <field name=\"field_").append(i);
+            result.append("\" type=\"text_").append(i % fieldTypeCount);
+            result.append("\" indexed=\"true\" stored=\"").append(i % 3 == 0);
+            result.append("\" multiValued=\"").append(i % 2 == 0).append("\" />\n");
+        }
+        for (int i = 0; i < fieldCount / 10; i++) {
+            result.append("  <dynamicField name=\"*_d").append(i);
+            result.append("\" type=\"string\" indexed=\"true\" stored=\"false\" />\n");
+        }
+        for (int i = 0; i < fieldCount / 10; i++) {
+            result.append("  <copyField source=\"field_").append(i).append("\" dest=\"field_").append(i + 1);
+            result.append("\" maxChars=\"").append(100 + i).append("\" />\n");
+        }
+
+        result.append("  <fieldType name=\"string\" class=\"solr.StrField\" sortMissingLast=\"true\" />\n");
+        for (int i = 0; i < fieldTypeCount; i++) {
+            result.append("  <fieldType name=\"text_").append(i).append("\" class=\"solr.TextField\" positionIncrementGap=\"100\">\n");
+            for (String eachType : new String[] {"index", "query"}) {
+                result.append("    <analyzer type=\"").append(eachType).append("\">\n");
+                result.append("      <charFilter class=\"solr.MappingCharFilterFactory\" mapping=\"mapping-").append(i).append(".txt\" />\n");
+                result.append("      <tokenizer class=\"solr.StandardTokenizerFactory\" />\n");
+                result.append("      <filter class=\"solr.LowerCaseFilterFactory\" />\n");
+                result.append("      <filter class=\"solr.NGramFilterFactory\" minGramSize=\"2\" maxGramSize=\"").append(10 + i % 20);
+                result.append("\" />\n");
+                result.append("    </analyzer>\n");
+            }
+            result.append("  </fieldType>\n");
+        }
+
+        result.append("</schema>\n");
+        return result.toString();
+    }
+
+    public static Path writeSchemaXml(int fieldCount) throws IOException {
+        Path result = Files.createTempFile("synthetic-schema-" + fieldCount + "-", ".xml");
+        Files.write(result, createSchemaXml(fieldCount).getBytes(UTF_8));
+        return result;
+    }
+
+    public static SchemaResponse createSchemaResponse(SolrSchema solrSchema) {
+        SchemaRepresentation schemaRepresentation = new SchemaRepresentation();
+        schemaRepresentation.setName(solrSchema.getName());
+        schemaRepresentation.setVersion(solrSchema.getVersion());
+        schemaRepresentation.setUniqueKey(solrSchema.getUniqueKey());
+        // every 10th field differs, the last fields are only present in Solr
+        schemaRepresentation.setFields(modify(solrSchema.getFields(), "stored"));
+        schemaRepresentation.setDynamicFields(modify(solrSchema.getDynamicFields(), "indexed"));
+        schemaRepresentation.setCopyFields(copy(solrSchema.getCopyFields()));
+        schemaRepresentation.setFieldTypes(copyFieldTypes(solrSchema.getFieldTypes()));
+
+        return new SchemaResponse() {
+
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            public SchemaRepresentation getSchemaRepresentation() {
+                return schemaRepresentation;
+            }
+        };
+    }
+
+    private static List<Map<String, Object>> copy(List<Map<String, Object>> values) {
+        List<Map<String, Object>> result = new ArrayList<>(values.size());
+        for (Map<String, Object> eachValue : values) {
+            result.add(new HashMap<>(eachValue));
+        }
+        return result;
+    }
+
+    private static List<FieldTypeDefinition> copyFieldTypes(List<FieldTypeDefinition> fieldTypes) {
+        List<FieldTypeDefinition> result = new ArrayList<>(fieldTypes.size());
+        for (FieldTypeDefinition eachFieldType : fieldTypes) {
+            FieldTypeDefinition fieldType = new FieldTypeDefinition();
+            fieldType.setAttributes(new HashMap<>(eachFieldType.getAttributes()));
+            fieldType.setAnalyzer(eachFieldType.getAnalyzer());
+            fieldType.setIndexAnalyzer(eachFieldType.getIndexAnalyzer());
+            fieldType.setQueryAnalyzer(eachFieldType.getQueryAnalyzer());
+            fieldType.setMultiTermAnalyzer(eachFieldType.getMultiTermAnalyzer());
+            fieldType.setSimilarity(eachFieldType.getSimilarity());
+            result.add(fieldType);
+        }
+        return result;
+    }
+
+    private static List<Map<String, Object>> modify(List<Map<String, Object>> values, String attribute) {
+        List<Map<String, Object>> result = copy(values);
+        for (int i = 0; i < result.size(); i += 10) {
+            result.get(i).put(attribute, "modified");
+        }
+        for (int i = 0; i < Math.max(1, values.size() / 100); i++) {
+            Map<String, Object> stillInSolr = new HashMap<>();
+            stillInSolr.put("name", "still_in_solr_" + attribute + "_" + i);
+            stillInSolr.put("type", "string");
+            result.add(stillInSolr);
+        }
+        return result;
+    }
+}
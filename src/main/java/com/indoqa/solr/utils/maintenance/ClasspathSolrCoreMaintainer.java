@@ -19,63 +19,268 @@ package com.indoqa.solr.utils.maintenance;
 import static com.indoqa.solr.utils.validation.SchemaCheck.COMPLETE;
 import static com.indoqa.solr.utils.validation.SchemaCheckConfiguration.of;
 
-import java.util.Arrays;
+import java.io.IOException;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
 
 import com.indoqa.solr.utils.InitializationFailedException;
-import com.indoqa.solr.utils.maintenance.handlers.*;
 import com.indoqa.solr.utils.maintenance.handlers.SchemaOperations;
+import com.indoqa.solr.utils.maintenance.handlers.SchemaUpdateBatching;
+import com.indoqa.solr.utils.maintenance.handlers.SchemaUpdatePlanner;
+import com.indoqa.solr.utils.validation.SchemaCheck;
 import com.indoqa.solr.utils.validation.SolrSchema;
 import com.indoqa.solr.utils.validation.SolrSchemaException;
 import com.indoqa.solr.utils.validation.classpath.ClasspathSolrSchemaChecker;
 import com.indoqa.solr.utils.validation.classpath.ClasspathSolrSchemaCheckerBuilder;
 import com.indoqa.solr.utils.validation.results.SchemaValidationResult;
 import org.apache.solr.client.solrj.SolrClient;
+import org.apache.solr.client.solrj.impl.CloudSolrClient;
+import org.apache.solr.client.solrj.impl.HttpSolrClient;
 
 public class ClasspathSolrCoreMaintainer {
 
     private final SolrCoreMaintainerConfiguration[] configurations;
-    private final List<AbstractFieldsHandler> handlers;
+    private final SchemaUpdatePlanner schemaUpdatePlanner;
     private ClasspathSolrSchemaChecker schemaChecker;
 
+    private ExecutorService executorService;
+    private int parallelism;
+
+    private boolean watchSchemaChanges;
+    private SchemaWatcher schemaWatcher;
+
     public ClasspathSolrCoreMaintainer(SolrCoreMaintainerConfiguration... configurations) {
         this.configurations = configurations;
-        this.handlers = Arrays.asList(new AddFieldsHandler(), new RemoveFieldsHandler(), new ModifyFieldsHandler());
+        this.schemaUpdatePlanner = new SchemaUpdatePlanner();
         this.schemaChecker = new ClasspathSolrSchemaCheckerBuilder().onlyLogErrors().build();
     }
 
     @PostConstruct
     public void initialize() throws InitializationFailedException {
-        for (SolrCoreMaintainerConfiguration eachConfig : this.configurations) {
-            SolrSchema solrSchema = eachConfig.getSolrSchema();
+        this.maintainAll();
+
+        if (this.watchSchemaChanges && this.schemaWatcher == null) {
             try {
-                SchemaValidationResult schemaValidationResult = this.schemaChecker.validateSolrSchema(of(solrSchema, COMPLETE),
-                    eachConfig.getSolrClient());
-                this.updateCore(eachConfig.getSolrClient(), eachConfig.getSchemaOperations(), solrSchema, schemaValidationResult);
-            } catch (SolrSchemaException e) {
-                throw new InitializationFailedException("Could not initialize schema checker for " + solrSchema.getCollectionName() + ".",
-                    e);
+                this.schemaWatcher = this.watchSchemas();
+            } catch (IOException e) {
+                throw new InitializationFailedException("Could not watch Solr schemas for changes.", e);
             }
         }
     }
 
-    public void setSchemaChecker(ClasspathSolrSchemaChecker schemaChecker) {
-        this.schemaChecker = schemaChecker;
+    @PreDestroy
+    public void destroy() {
+        if (this.schemaWatcher != null) {
+            this.schemaWatcher.close();
+            this.schemaWatcher = null;
+        }
     }
 
-    private void updateCore(SolrClient solrClient, SchemaOperations schemaOperations, SolrSchema solrSchema, SchemaValidationResult validationResult)
+    public SchemaWatcher watchSchemas() throws IOException {
+        SchemaWatcher result = new SchemaWatcher(this, this.configurations);
+        result.start();
+        return result;
+    }
+
+    public void setExecutorService(ExecutorService executorService) {
+        this.executorService = executorService;
+    }
+
+    public void setParallelism(int parallelism) {
+        this.parallelism = parallelism;
+    }
+
+    public void setWatchSchemaChanges(boolean watchSchemaChanges) {
+        this.watchSchemaChanges = watchSchemaChanges;
+    }
+
+    public void setSchemaUpdateBatching(SchemaUpdateBatching schemaUpdateBatching) {
+        this.schemaUpdatePlanner.setBatching(schemaUpdateBatching);
+    }
+
+    private static ExecutorService createExecutorService(int threads) {
+        AtomicInteger threadCount = new AtomicInteger();
+        return Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "solr-core-maintainer-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    private static Object getSolrNode(SolrCoreMaintainerConfiguration configuration) {
+        SolrClient solrClient = configuration.getSolrClient();
+        String collectionName = configuration.getSolrSchema().getCollectionName();
+
+        if (solrClient instanceof HttpSolrClient) {
+            String baseUrl = ((HttpSolrClient) solrClient).getBaseURL();
+            try {
+                URI uri = URI.create(baseUrl);
+                if (uri.getAuthority() != null) {
+                    return uri.getScheme() + "://" + uri.getAuthority();
+                }
+            } catch (IllegalArgumentException e) {
+                // use the complete base URL
+            }
+            return baseUrl;
+        }
+
+        if (solrClient instanceof CloudSolrClient) {
+            CloudSolrClient cloudSolrClient = (CloudSolrClient) solrClient;
+            // collections sharing a configset are updated through the same schema in ZooKeeper
+            String configName = null;
+            try {
+                cloudSolrClient.connect();
+                configName = cloudSolrClient.getZkStateReader().readConfigName(collectionName);
+            } catch (Exception e) {
+                // group by the collection if the configset is not known
+            }
+            return cloudSolrClient.getZkHost() + "/" + (configName == null ? collectionName : configName);
+        }
+
+        if (solrClient == null) {
+            return configuration;
+        }
+        return solrClient;
+    }
+
+    private InitializationFailedException tryMaintain(SolrCoreMaintainerConfiguration configuration) {
+        try {
+            this.maintain(configuration);
+            return null;
+        } catch (InitializationFailedException e) {
+            return e;
+        } catch (RuntimeException e) {
+            return new InitializationFailedException(
+                "Could not maintain schema for " + configuration.getSolrSchema().getCollectionName() + ".", e);
+        }
+    }
+
+    private Collection<List<SolrCoreMaintainerConfiguration>> groupBySolrNode() {
+        Map<Object, List<SolrCoreMaintainerConfiguration>> result = new LinkedHashMap<>();
+        for (SolrCoreMaintainerConfiguration eachConfig : this.configurations) {
+            result.computeIfAbsent(getSolrNode(eachConfig), key -> new ArrayList<>()).add(eachConfig);
+        }
+        return result.values();
+    }
+
+    private void maintainAll() throws InitializationFailedException {
+        // the cores of a Solr node are maintained one after the other, only different nodes are maintained concurrently
+        if (this.executorService != null) {
+            this.maintainConcurrently(this.executorService, this.groupBySolrNode());
+            return;
+        }
+
+        if (this.parallelism > 1 && this.configurations.length > 1) {
+            Collection<List<SolrCoreMaintainerConfiguration>> groups = this.groupBySolrNode();
+            if (groups.size() > 1) {
+                ExecutorService ownExecutorService = createExecutorService(Math.min(this.parallelism, groups.size()));
+                try {
+                    this.maintainConcurrently(ownExecutorService, groups);
+                } finally {
+                    ownExecutorService.shutdownNow();
+                }
+                return;
+            }
+        }
+
+        for (SolrCoreMaintainerConfiguration eachConfig : this.configurations) {
+            this.maintain(eachConfig);
+        }
+    }
+
+    private void maintainConcurrently(ExecutorService executor, Collection<List<SolrCoreMaintainerConfiguration>> groups)
         throws InitializationFailedException {
-        if (validationResult.isEmpty()) {
+        Map<SolrCoreMaintainerConfiguration, InitializationFailedException> failuresByConfiguration = new ConcurrentHashMap<>();
+        List<Future<?>> futures = new ArrayList<>(groups.size());
+        for (List<SolrCoreMaintainerConfiguration> eachGroup : groups) {
+            futures.add(executor.submit(() -> {
+                for (SolrCoreMaintainerConfiguration eachConfig : eachGroup) {
+                    InitializationFailedException failure = this.tryMaintain(eachConfig);
+                    if (failure != null) {
+                        failuresByConfiguration.put(eachConfig, failure);
+                    }
+                }
+            }));
+        }
+
+        try {
+            for (Future<?> eachFuture : futures) {
+                eachFuture.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            futures.forEach(future -> future.cancel(true));
+            throw new InitializationFailedException("Interrupted while maintaining Solr schemas.", e);
+        } catch (ExecutionException e) {
+            throw new InitializationFailedException("Could not maintain Solr schemas.",
+                e.getCause() instanceof Exception ? (Exception) e.getCause() : e);
+        }
+
+        List<InitializationFailedException> failures = new ArrayList<>();
+        for (SolrCoreMaintainerConfiguration eachConfig : this.configurations) {
+            InitializationFailedException failure = failuresByConfiguration.get(eachConfig);
+            if (failure != null) {
+                failures.add(failure);
+            }
+        }
+
+        if (failures.isEmpty()) {
             return;
         }
+        if (failures.size() == 1) {
+            throw failures.get(0);
+        }
 
-        for (AbstractFieldsHandler eachHandler : this.handlers) {
-            eachHandler.checkEarly(schemaOperations, validationResult);
+        StringBuilder message = new StringBuilder();
+        message.append("Could not maintain ");
+        message.append(failures.size());
+        message.append(" of ");
+        message.append(this.configurations.length);
+        message.append(" cores:");
+        for (InitializationFailedException eachFailure : failures) {
+            message.append('\n');
+            message.append(eachFailure.getMessage());
         }
 
-        for (AbstractFieldsHandler eachHandler : this.handlers) {
-            eachHandler.handle(schemaOperations, solrClient, solrSchema, validationResult);
+        InitializationFailedException result = new InitializationFailedException(message.toString());
+        failures.forEach(result::addSuppressed);
+        throw result;
+    }
+
+    private void maintain(SolrCoreMaintainerConfiguration configuration) throws InitializationFailedException {
+        this.maintain(configuration.getSolrClient(), configuration.getSchemaOperations(), configuration.getSolrSchema(), COMPLETE);
+    }
+
+    void maintain(SolrClient solrClient, SchemaOperations schemaOperations, SolrSchema solrSchema, SchemaCheck... schemaChecks)
+        throws InitializationFailedException {
+        try {
+            SchemaValidationResult schemaValidationResult = this.schemaChecker.validateSolrSchema(of(solrSchema, schemaChecks),
+                solrClient);
+            this.updateCore(solrClient, schemaOperations, solrSchema, schemaValidationResult);
+        } catch (SolrSchemaException e) {
+            throw new InitializationFailedException("Could not initialize schema checker for " + solrSchema.getCollectionName() + ".",
+                e);
         }
     }
+
+    public void setSchemaChecker(ClasspathSolrSchemaChecker schemaChecker) {
+        this.schemaChecker = schemaChecker;
+    }
+
+    private void updateCore(SolrClient solrClient, SchemaOperations schemaOperations, SolrSchema solrSchema, SchemaValidationResult validationResult)
+        throws InitializationFailedException {
+        this.schemaUpdatePlanner.apply(schemaOperations, solrClient, solrSchema, validationResult);
+    }
 }
@@ -18,13 +18,19 @@ package com.indoqa.solr.utils.maintenance;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
 
+import com.indoqa.solr.utils.maintenance.handlers.SchemaUpdateBatching;
 import com.indoqa.solr.utils.validation.classpath.ClasspathSolrSchemaChecker;
 
 public class ClasspathSolrCoreMaintainerBuilder {
 
     private List<SolrCoreMaintainerConfiguration> configurations;
     private ClasspathSolrSchemaChecker schemaChecker;
+    private ExecutorService executorService;
+    private int parallelism;
+    private SchemaUpdateBatching schemaUpdateBatching;
+    private boolean watchSchemaChanges;
 
     public ClasspathSolrCoreMaintainerBuilder() {
         this.configurations = new ArrayList<>();
@@ -40,6 +46,27 @@ public class ClasspathSolrCoreMaintainerBuilder {
         return this;
     }
 
+    // the cores of one Solr node (base URL, or ZooKeeper host and configset) are still maintained one after the other
+    public ClasspathSolrCoreMaintainerBuilder maintainCoresConcurrently(int parallelism) {
+        this.parallelism = parallelism;
+        return this;
+    }
+
+    public ClasspathSolrCoreMaintainerBuilder maintainCoresConcurrently(ExecutorService executorService) {
+        this.executorService = executorService;
+        return this;
+    }
+
+    public ClasspathSolrCoreMaintainerBuilder schemaUpdateBatching(SchemaUpdateBatching schemaUpdateBatching) {
+        this.schemaUpdateBatching = schemaUpdateBatching;
+        return this;
+    }
+
+    public ClasspathSolrCoreMaintainerBuilder watchSchemaChanges() {
+        this.watchSchemaChanges = true;
+        return this;
+    }
+
     public ClasspathSolrCoreMaintainer build() {
         SolrCoreMaintainerConfiguration[] configurationsToMaintain = this.configurations.toArray(new SolrCoreMaintainerConfiguration[0]);
         ClasspathSolrCoreMaintainer classpathSolrCoreMaintainer = new ClasspathSolrCoreMaintainer(configurationsToMaintain);
@@ -48,6 +75,14 @@ public class ClasspathSolrCoreMaintainerBuilder {
             classpathSolrCoreMaintainer.setSchemaChecker(this.schemaChecker);
         }
 
+        classpathSolrCoreMaintainer.setExecutorService(this.executorService);
+        classpathSolrCoreMaintainer.setParallelism(this.parallelism);
+        classpathSolrCoreMaintainer.setWatchSchemaChanges(this.watchSchemaChanges);
+
+        if (this.schemaUpdateBatching != null) {
+            classpathSolrCoreMaintainer.setSchemaUpdateBatching(this.schemaUpdateBatching);
+        }
+
         return classpathSolrCoreMaintainer;
     }
 }
@@ -0,0 +1,206 @@
+/*
+ *   Licensed to the Indoqa Software Design und Beratung GmbH (Indoqa) under
+ *   one or more contributor license agreements. See the NOTICE file distributed
+ *   with this work for additional information regarding copyright ownership.
+ *   Indoqa licenses this file to You under the Apache License, Version 2.0
+ *   (the "License"); you may not use this file except in compliance with
+ *   the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.indoqa.solr.utils.maintenance;
+
+import static java.nio.file.StandardWatchEventKinds.*;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.*;
+import java.util.*;
+
+import com.indoqa.solr.utils.InitializationFailedException;
+import com.indoqa.solr.utils.validation.SchemaCheck;
+import com.indoqa.solr.utils.validation.SolrSchema;
+import com.indoqa.solr.utils.validation.SolrSchemaException;
+import com.indoqa.solr.utils.validation.schema.SchemaSection;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public class SchemaWatcher implements Closeable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SchemaWatcher.class);
+
+    private static final long SETTLE_MILLIS = 100;
+
+    private final ClasspathSolrCoreMaintainer solrCoreMaintainer;
+    private final Map<Path, List<SolrCoreMaintainerConfiguration>> configurationsByFile = new HashMap<>();
+    private final Map<Path, Path> realPathsByFile = new HashMap<>();
+    private final WatchService watchService;
+    private final Thread thread;
+
+    private volatile boolean running = true;
+
+    SchemaWatcher(ClasspathSolrCoreMaintainer solrCoreMaintainer, SolrCoreMaintainerConfiguration... configurations) throws IOException {
+        this.solrCoreMaintainer = solrCoreMaintainer;
+        this.watchService = FileSystems.getDefault().newWatchService();
+
+        Set<Path> directories = new HashSet<>();
+        for (SolrCoreMaintainerConfiguration eachConfig : configurations) {
+            SolrSchema solrSchema = eachConfig.getSolrSchema();
+            Optional<Path> file = solrSchema.getSchemaSource().getFile();
+            if (!file.isPresent()) {
+                LOGGER.warn("Schema '{}' of {} is not a file and cannot be watched.", solrSchema.getSchemaLocation(),
+                    solrSchema.getCollectionName());
+                continue;
+            }
+
+            Path schemaFile = file.get().toAbsolutePath().normalize();
+            this.configurationsByFile.computeIfAbsent(schemaFile, path -> new ArrayList<>()).add(eachConfig);
+            this.realPathsByFile.put(schemaFile, getRealPath(schemaFile));
+            if (directories.add(schemaFile.getParent())) {
+                schemaFile.getParent().register(this.watchService, ENTRY_CREATE, ENTRY_MODIFY, ENTRY_DELETE);
+            }
+        }
+
+        this.thread = new Thread(this::run, "solr-schema-watcher");
+        this.thread.setDaemon(true);
+    }
+
+    static SchemaCheck[] getChangedChecks(SolrSchema solrSchema, SolrSchema changedSolrSchema) {
+        List<SchemaCheck> result = new ArrayList<>();
+        if (!Objects.equals(solrSchema.getName(), changedSolrSchema.getName())) {
+            result.add(SchemaCheck.NAME);
+        }
+        if (!Objects.equals(solrSchema.getVersion(), changedSolrSchema.getVersion())) {
+            result.add(SchemaCheck.VERSION);
+        }
+        if (!Objects.equals(solrSchema.getUniqueKey(), changedSolrSchema.getUniqueKey())) {
+            result.add(SchemaCheck.UNIQUE_KEY);
+        }
+        for (SchemaSection eachSection : solrSchema.getSchemaContent().getChangedSections(changedSolrSchema.getSchemaContent())) {
+            result.add(SchemaCheck.of(eachSection));
+        }
+        return result.toArray(new SchemaCheck[0]);
+    }
+
+    private static Path getRealPath(Path file) {
+        try {
+            return file.toRealPath();
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    @Override
+    public void close() {
+        this.running = false;
+        this.thread.interrupt();
+        try {
+            this.watchService.close();
+        } catch (IOException e) {
+            LOGGER.warn("Could not close schema watch service.", e);
+        }
+    }
+
+    public Set<Path> getWatchedFiles() {
+        return Collections.unmodifiableSet(this.configurationsByFile.keySet());
+    }
+
+    void start() {
+        this.thread.start();
+    }
+
+    private void collectChangedFiles(WatchKey watchKey, Set<Path> changedFiles) {
+        Path directory = (Path) watchKey.watchable();
+        for (WatchEvent<?> eachEvent : watchKey.pollEvents()) {
+            if (eachEvent.kind() == OVERFLOW) {
+                changedFiles.addAll(this.configurationsByFile.keySet());
+                continue;
+            }
+
+            Path file = directory.resolve((Path) eachEvent.context());
+            if (!this.configurationsByFile.containsKey(file)) {
+                // Kubernetes updates a mounted ConfigMap by switching its ..data symlink, the watched symlinks stay untouched
+                this.collectRelinkedFiles(directory, changedFiles);
+                continue;
+            }
+
+            // a deleted file is maintained when it is created again
+            if (eachEvent.kind() != ENTRY_DELETE) {
+                this.realPathsByFile.put(file, getRealPath(file));
+                changedFiles.add(file);
+            }
+        }
+        watchKey.reset();
+    }
+
+    private void collectRelinkedFiles(Path directory, Set<Path> changedFiles) {
+        for (Map.Entry<Path, Path> eachRealPath : this.realPathsByFile.entrySet()) {
+            if (!eachRealPath.getKey().getParent().equals(directory)) {
+                continue;
+            }
+
+            Path realPath = getRealPath(eachRealPath.getKey());
+            if (realPath != null && !realPath.equals(eachRealPath.getValue())) {
+                eachRealPath.setValue(realPath);
+                changedFiles.add(eachRealPath.getKey());
+            }
+        }
+    }
+
+    private void run() {
+        while (this.running) {
+            Set<Path> changedFiles = new LinkedHashSet<>();
+            try {
+                this.collectChangedFiles(this.watchService.take(), changedFiles);
+
+                // editors and deployments often write a file in several steps, wait for the events to settle
+                Thread.sleep(SETTLE_MILLIS);
+                WatchKey watchKey;
+                while ((watchKey = this.watchService.poll()) != null) {
+                    this.collectChangedFiles(watchKey, changedFiles);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (ClosedWatchServiceException e) {
+                return;
+            }
+
+            for (Path eachFile : changedFiles) {
+                for (SolrCoreMaintainerConfiguration eachConfig : this.configurationsByFile.get(eachFile)) {
+                    this.update(eachConfig);
+                }
+            }
+        }
+    }
+
+    private void update(SolrCoreMaintainerConfiguration configuration) {
+        SolrSchema solrSchema = configuration.getSolrSchema();
+        try {
+            SolrSchema changedSolrSchema = solrSchema.reload();
+            SchemaCheck[] changedChecks = getChangedChecks(solrSchema, changedSolrSchema);
+            if (changedChecks.length == 0) {
+                LOGGER.debug("Schema '{}' of {} has no relevant changes.", solrSchema.getSchemaLocation(), solrSchema.getCollectionName());
+                configuration.setSolrSchema(changedSolrSchema);
+                return;
+            }
+
+            long start = System.currentTimeMillis();
+            this.solrCoreMaintainer.maintain(configuration.getSolrClient(), configuration.getSchemaOperations(), changedSolrSchema,
+                changedChecks);
+            // the previous schema is kept after a failure, so the next change checks the failed sections again
+            configuration.setSolrSchema(changedSolrSchema);
+            LOGGER.info("Updated schema of {} after changes of {} in {} ms.", solrSchema.getCollectionName(),
+                Arrays.toString(changedChecks), System.currentTimeMillis() - start);
+        } catch (SolrSchemaException | InitializationFailedException | RuntimeException e) {
+            LOGGER.error("Could not update schema of {} after a change of '{}'.", solrSchema.getCollectionName(),
+                solrSchema.getSchemaLocation(), e);
+        }
+    }
+}
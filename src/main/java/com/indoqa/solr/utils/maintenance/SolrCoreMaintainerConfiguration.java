@@ -23,7 +23,7 @@ import org.apache.solr.client.solrj.SolrClient;
 public class SolrCoreMaintainerConfiguration {
 
     private SolrClient solrClient;
-    private SolrSchema solrSchema;
+    private volatile SolrSchema solrSchema;
     private SchemaOperations schemaOperations;
 
     public static SolrCoreMaintainerConfiguration configOf(SolrClient client, SolrSchema solrSchema, SchemaOperations schemaOperations) {
@@ -16,9 +16,6 @@
  */
 package com.indoqa.solr.utils.maintenance.handlers;
 
-import static com.indoqa.solr.utils.SolrConstants.*;
-
-import java.io.IOException;
 import java.util.List;
 
 import com.indoqa.solr.utils.InitializationFailedException;
@@ -29,16 +26,11 @@ import com.indoqa.solr.utils.tests.validation.helper.ValidationExtractor;
 import com.indoqa.solr.utils.validation.results.SchemaValidationResult;
 import com.indoqa.solr.utils.validation.results.AbstractValidationResult;
 import org.apache.solr.client.solrj.SolrClient;
-import org.apache.solr.client.solrj.SolrServerException;
-import org.apache.solr.client.solrj.impl.CloudSolrClient;
 import org.apache.solr.client.solrj.request.schema.SchemaRequest;
-import org.apache.solr.client.solrj.response.schema.SchemaResponse;
 import org.apache.solr.common.params.ModifiableSolrParams;
 
 public abstract class AbstractFieldsHandler {
 
-    private static final int DEFAULT_TIMEOUT = 10;
-
     private Operation operation;
 
     protected AbstractFieldsHandler(Operation operation) {
@@ -53,26 +45,43 @@ public abstract class AbstractFieldsHandler {
             return;
         }
         if (!this.supports(schemaOperations)) {
-            String fieldErrors = buildErrorMessage(extractedValidations);
-            throw new InitializationFailedException(
-                "Could not perform schema updates: '" + schemaOperations + "': Operation to '" + this.operation + "' fields not permitted.\n" + fieldErrors);
+            throw this.createNotPermittedException(schemaOperations, extractedValidations);
         }
 
         handle(solrClient, solrSchema, extractedValidations);
     }
 
+    public void plan(SchemaOperations schemaOperations, SolrSchema solrSchema, SchemaValidationResult validationResult,
+        SchemaUpdates schemaUpdates) throws InitializationFailedException {
+
+        ExtractedValidations extractedValidations = ValidationExtractor.extractValidations(this.operation, validationResult);
+        if (!extractedValidations.hasValidations()) {
+            return;
+        }
+        if (!this.supports(schemaOperations)) {
+            throw this.createNotPermittedException(schemaOperations, extractedValidations);
+        }
+
+        this.addUpdates(solrSchema, extractedValidations, schemaUpdates);
+    }
+
     public void checkEarly(SchemaOperations schemaOperations, SchemaValidationResult validationResult) throws InitializationFailedException {
         if(!ValidationExtractor.hasValidations(this.operation, validationResult)) {
             return;
         }
         if (!this.supports(schemaOperations)) {
             ExtractedValidations extractedValidations = ValidationExtractor.extractValidations(this.operation, validationResult);
-            String fieldErrors = buildErrorMessage(extractedValidations);
-            throw new InitializationFailedException(
-                "Could not perform schema updates: '" + schemaOperations + "': Operation to '" + this.operation + "' fields not permitted.\n" + fieldErrors);
+            throw this.createNotPermittedException(schemaOperations, extractedValidations);
         }
     }
 
+    private InitializationFailedException createNotPermittedException(SchemaOperations schemaOperations,
+        ExtractedValidations extractedValidations) {
+        String fieldErrors = buildErrorMessage(extractedValidations);
+        return new InitializationFailedException(
+            "Could not perform schema updates: '" + schemaOperations + "': Operation to '" + this.operation + "' fields not permitted.\n" + fieldErrors);
+    }
+
     private String buildErrorMessage(ExtractedValidations extractedValidations) {
         List<AbstractValidationResult> validations = extractedValidations.getValidations();
         StringBuilder result = new StringBuilder();
@@ -85,6 +94,8 @@ public abstract class AbstractFieldsHandler {
     protected abstract void handle(SolrClient solrClient, SolrSchema solrSchema, ExtractedValidations extractedValidations)
         throws InitializationFailedException;
 
+    protected abstract void addUpdates(SolrSchema solrSchema, ExtractedValidations extractedValidations, SchemaUpdates schemaUpdates);
+
     protected boolean supports(SchemaOperations schemaOperations) {
         if (schemaOperations.allowsOperation(this.operation)) {
             return true;
@@ -94,30 +105,11 @@ public abstract class AbstractFieldsHandler {
 
     protected void processUpdates(SolrClient solrClient, SolrSchema solrSchema, List<SchemaRequest.Update> updates)
         throws InitializationFailedException {
-        SchemaRequest.MultiUpdate multiUpdate = new SchemaRequest.MultiUpdate(updates, createParams());
-        try {
-            SchemaResponse.UpdateResponse response = process(multiUpdate, solrClient, solrSchema.getCollectionName());
-            if (response.getStatus() > 0 || response.getResponse().get(RESPONSE_ERRORS) != null) {
-                throw new InitializationFailedException(
-                    "Manual intervention needed! Could not update schema: " + response.getResponse().get(RESPONSE_ERRORS));
-            }
-        } catch (SolrServerException | IOException e) {
-            throw new InitializationFailedException("Manual intervention needed! Could not update schema.", e);
-        }
+        SchemaUpdateProcessor.process(solrClient, solrSchema.getCollectionName(), updates, createParams());
     }
 
     protected ModifiableSolrParams createParams() {
-        ModifiableSolrParams solrParams = new ModifiableSolrParams();
-        solrParams.set(PARAMETER_UPDATE_TIMEOUT_SECS, DEFAULT_TIMEOUT);
-        return solrParams;
-    }
-
-    private SchemaResponse.UpdateResponse process(SchemaRequest.Update update, SolrClient solrClient, String collectionName)
-        throws IOException, SolrServerException {
-        if (solrClient instanceof CloudSolrClient) {
-            return update.process(solrClient, collectionName);
-        }
-        return update.process(solrClient);
+        return SchemaUpdateProcessor.createParams();
     }
 
 }
@@ -23,7 +23,6 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.function.Function;
 import java.util.function.Predicate;
 
 import com.indoqa.solr.utils.InitializationFailedException;
@@ -32,7 +31,6 @@ import com.indoqa.solr.utils.tests.validation.helper.ExtractedValidations;
 import com.indoqa.solr.utils.tests.validation.helper.Operation;
 import com.indoqa.solr.utils.validation.results.*;
 import org.apache.solr.client.solrj.SolrClient;
-import org.apache.solr.client.solrj.request.schema.FieldTypeDefinition;
 import org.apache.solr.client.solrj.request.schema.SchemaRequest;
 
 public class ModifyFieldsHandler extends AbstractFieldsHandler {
@@ -44,12 +42,13 @@ public class ModifyFieldsHandler extends AbstractFieldsHandler {
     @Override
     protected void handle(SolrClient solrClient, SolrSchema solrSchema, ExtractedValidations extractedValidations)
         throws InitializationFailedException {
-        SchemaUpdates schemaUpdates = createSchemaUpdates(extractedValidations, solrSchema);
+        SchemaUpdates schemaUpdates = new SchemaUpdates();
+        this.addUpdates(solrSchema, extractedValidations, schemaUpdates);
         processUpdates(solrClient, solrSchema, schemaUpdates.getAllUpdatesModify());
     }
 
-    private SchemaUpdates createSchemaUpdates(ExtractedValidations extractedValidations, SolrSchema solrSchema) {
-        SchemaUpdates schemaUpdates = new SchemaUpdates();
+    @Override
+    protected void addUpdates(SolrSchema solrSchema, ExtractedValidations extractedValidations, SchemaUpdates schemaUpdates) {
         for (AbstractValidationResult validation : extractedValidations.getValidations()) {
             Optional<List<? extends AbstractValidationResult>> modified = validation.getModified();
             if (!modified.isPresent()) {
@@ -71,49 +70,37 @@ public class ModifyFieldsHandler extends AbstractFieldsHandler {
                 }
             }
         }
-        return schemaUpdates;
-    }
-
-    private Function<String, Optional<Map<String, Object>>> mapNameToField(List<Map<String, Object>> fields) {
-        return name -> fields.stream().filter(t -> name.equals(t.get(NAME_ATTRIBUTE))).findFirst();
     }
 
     private List<SchemaRequest.ReplaceField> createFieldUpdates(FieldsValidationResult result, SolrSchema solrSchema) {
-        List<Map<String, Object>> fields = solrSchema.getFields();
         return result
             .getFieldsModified()
             .stream()
             .map(FieldAttributesValidationResult::getName)
-            .map(mapNameToField(fields))
+            .map(solrSchema::getField)
             .map(Optional::get)
             .map(SchemaRequest.ReplaceField::new)
             .collect(toList());
     }
 
     private List<SchemaRequest.ReplaceFieldType> createFieldTypeUpdates(FieldTypesValidationResult result, SolrSchema solrSchema) {
-        List<FieldTypeDefinition> fieldTypes = solrSchema.getFieldTypes();
         return result
             .getFieldsModified()
             .stream()
             .map(FieldAttributesValidationResult::getName)
-            .map(mapNameToFieldType(fieldTypes))
+            .map(solrSchema::getFieldType)
             .map(Optional::get)
             .map(SchemaRequest.ReplaceFieldType::new)
             .collect(toList());
     }
 
-    private Function<String, Optional<FieldTypeDefinition>> mapNameToFieldType(List<FieldTypeDefinition> fieldTypes) {
-        return name -> fieldTypes.stream().filter(t -> name.equals(t.getAttributes().get(NAME_ATTRIBUTE))).findFirst();
-    }
-
     private List<SchemaRequest.ReplaceDynamicField> createDynamicFieldUpdates(DynamicFieldsValidationResult result,
         SolrSchema solrSchema) {
-        List<Map<String, Object>> dynamicFields = solrSchema.getDynamicFields();
         return result
             .getFieldsModified()
             .stream()
             .map(FieldAttributesValidationResult::getName)
-            .map(mapNameToField(dynamicFields))
+            .map(solrSchema::getDynamicField)
             .map(Optional::get)
             .map(SchemaRequest.ReplaceDynamicField::new)
             .collect(toList());
@@ -121,7 +108,11 @@ public class ModifyFieldsHandler extends AbstractFieldsHandler {
 
     private void handleCopyFieldModification(SchemaUpdates schemaUpdates, CopyFieldsValidationResult result, SolrSchema solrSchema) {
         for (FieldAttributesValidationResult field : result.getFieldsModified()) {
-            Optional<Map<String, Object>> possibleAttributes = solrSchema.getCopyFields().stream().filter(filter(field)).findFirst();
+            Optional<Map<String, Object>> possibleAttributes = solrSchema
+                .getCopyFields(field.getName())
+                .stream()
+                .filter(filter(field))
+                .findFirst();
 
             if (!possibleAttributes.isPresent()) {
                 continue;
@@ -40,12 +40,13 @@ public class RemoveFieldsHandler extends AbstractFieldsHandler {
     @Override
     protected void handle(SolrClient solrClient, SolrSchema solrSchema, ExtractedValidations extractedValidations)
         throws InitializationFailedException {
-        SchemaUpdates schemaUpdates = createSchemaUpdates(extractedValidations);
+        SchemaUpdates schemaUpdates = new SchemaUpdates();
+        this.addUpdates(solrSchema, extractedValidations, schemaUpdates);
         processUpdates(solrClient, solrSchema, schemaUpdates.getAllUpdatesRemove());
     }
 
-    private SchemaUpdates createSchemaUpdates(ExtractedValidations extractedValidations) {
-        SchemaUpdates schemaUpdates = new SchemaUpdates();
+    @Override
+    protected void addUpdates(SolrSchema solrSchema, ExtractedValidations extractedValidations, SchemaUpdates schemaUpdates) {
         for (AbstractValidationResult validation : extractedValidations.getValidations()) {
             Optional<List<? extends AbstractValidationResult>> stillInSolr = validation.getStillInSolr();
             if (!stillInSolr.isPresent()) {
@@ -66,7 +67,6 @@ public class RemoveFieldsHandler extends AbstractFieldsHandler {
                 }
             }
         }
-        return schemaUpdates;
     }
 
     private List<SchemaRequest.DeleteFieldType> createFieldTypeUpdates(FieldTypesValidationResult result) {
@@ -0,0 +1,78 @@
+/*
+ *   Licensed to the Indoqa Software Design und Beratung GmbH (Indoqa) under
+ *   one or more contributor license agreements. See the NOTICE file distributed
+ *   with this work for additional information regarding copyright ownership.
+ *   Indoqa licenses this file to You under the Apache License, Version 2.0
+ *   (the "License"); you may not use this file except in compliance with
+ *   the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.indoqa.solr.utils.maintenance.handlers;
+
+public final class SchemaUpdateBatching {
+
+    public static final int DEFAULT_TIMEOUT = 10;
+
+    private static final SchemaUpdateBatching SINGLE_REQUEST = new SchemaUpdateBatching(0, DEFAULT_TIMEOUT, 0);
+
+    private final int chunkSize;
+    private final int timeoutSecs;
+    private final long pauseMillis;
+
+    private SchemaUpdateBatching(int chunkSize, int timeoutSecs, long pauseMillis) {
+        this.chunkSize = chunkSize;
+        this.timeoutSecs = timeoutSecs;
+        this.pauseMillis = pauseMillis;
+    }
+
+    public static SchemaUpdateBatching chunksOf(int chunkSize, int timeoutSecs, long pauseMillis) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("The chunk size must be at least 1, but was " + chunkSize + ".");
+        }
+        if (timeoutSecs < 1) {
+            throw new IllegalArgumentException("The timeout must be at least 1 second, but was " + timeoutSecs + ".");
+        }
+        if (pauseMillis < 0) {
+            throw new IllegalArgumentException("The pause between chunks must not be negative, but was " + pauseMillis + ".");
+        }
+        return new SchemaUpdateBatching(chunkSize, timeoutSecs, pauseMillis);
+    }
+
+    public static SchemaUpdateBatching singleRequest() {
+        return SINGLE_REQUEST;
+    }
+
+    public int getChunkCount(int updateCount) {
+        if (this.chunkSize == 0 || updateCount <= this.chunkSize) {
+            return 1;
+        }
+        return (updateCount + this.chunkSize - 1) / this.chunkSize;
+    }
+
+    public int getChunkSize() {
+        return this.chunkSize;
+    }
+
+    public long getPauseMillis() {
+        return this.pauseMillis;
+    }
+
+    public int getTimeoutSecs() {
+        return this.timeoutSecs;
+    }
+
+    @Override
+    public String toString() {
+        if (this.chunkSize == 0) {
+            return "single request (timeout " + this.timeoutSecs + "s)";
+        }
+        return "chunks of " + this.chunkSize + " (timeout " + this.timeoutSecs + "s, pause " + this.pauseMillis + "ms)";
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ *   Licensed to the Indoqa Software Design und Beratung GmbH (Indoqa) under
+ *   one or more contributor license agreements. See the NOTICE file distributed
+ *   with this work for additional information regarding copyright ownership.
+ *   Indoqa licenses this file to You under the Apache License, Version 2.0
+ *   (the "License"); you may not use this file except in compliance with
+ *   the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.indoqa.solr.utils.maintenance.handlers;
+
+import java.util.Arrays;
+import java.util.List;
+
+import com.indoqa.solr.utils.InitializationFailedException;
+import com.indoqa.solr.utils.validation.SolrSchema;
+import com.indoqa.solr.utils.validation.results.SchemaValidationResult;
+import org.apache.solr.client.solrj.SolrClient;
+import org.apache.solr.client.solrj.request.schema.SchemaRequest;
+
+public class SchemaUpdatePlanner {
+
+    private final List<AbstractFieldsHandler> handlers;
+    private SchemaUpdateBatching batching = SchemaUpdateBatching.singleRequest();
+
+    public SchemaUpdatePlanner() {
+        this(Arrays.asList(new AddFieldsHandler(), new RemoveFieldsHandler(), new ModifyFieldsHandler()));
+    }
+
+    public SchemaUpdatePlanner(List<AbstractFieldsHandler> handlers) {
+        this.handlers = handlers;
+    }
+
+    public List<SchemaRequest.Update> plan(SchemaOperations schemaOperations, SolrSchema solrSchema,
+        SchemaValidationResult validationResult) throws InitializationFailedException {
+        for (AbstractFieldsHandler eachHandler : this.handlers) {
+            eachHandler.checkEarly(schemaOperations, validationResult);
+        }
+
+        SchemaUpdates schemaUpdates = new SchemaUpdates();
+        for (AbstractFieldsHandler eachHandler : this.handlers) {
+            eachHandler.plan(schemaOperations, solrSchema, validationResult, schemaUpdates);
+        }
+        return schemaUpdates.getAllUpdates();
+    }
+
+    public void apply(SchemaOperations schemaOperations, SolrClient solrClient, SolrSchema solrSchema,
+        SchemaValidationResult validationResult) throws InitializationFailedException {
+        if (validationResult.isEmpty()) {
+            return;
+        }
+
+        List<SchemaRequest.Update> updates = this.plan(schemaOperations, solrSchema, validationResult);
+        if (updates.isEmpty()) {
+            return;
+        }
+
+        SchemaUpdateProcessor.process(solrClient, solrSchema.getCollectionName(), updates, this.batching);
+    }
+
+    public void setBatching(SchemaUpdateBatching batching) {
+        this.batching = batching;
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ *   Licensed to the Indoqa Software Design und Beratung GmbH (Indoqa) under
+ *   one or more contributor license agreements. See the NOTICE file distributed
+ *   with this work for additional information regarding copyright ownership.
+ *   Indoqa licenses this file to You under the Apache License, Version 2.0
+ *   (the "License"); you may not use this file except in compliance with
+ *   the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.indoqa.solr.utils.maintenance.handlers;
+
+import static com.indoqa.solr.utils.SolrConstants.*;
+
+import java.io.IOException;
+import java.util.List;
+
+import com.indoqa.solr.utils.InitializationFailedException;
+import org.apache.solr.client.solrj.SolrClient;
+import org.apache.solr.client.solrj.SolrServerException;
+import org.apache.solr.client.solrj.impl.CloudSolrClient;
+import org.apache.solr.client.solrj.request.schema.SchemaRequest;
+import org.apache.solr.client.solrj.response.schema.SchemaResponse;
+import org.apache.solr.common.params.ModifiableSolrParams;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+final class SchemaUpdateProcessor {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SchemaUpdateProcessor.class);
+
+    private SchemaUpdateProcessor() {
+        // hide constructor
+    }
+
+    public static void process(SolrClient solrClient, String collectionName, List<SchemaRequest.Update> updates,
+        ModifiableSolrParams params) throws InitializationFailedException {
+        SchemaRequest.MultiUpdate multiUpdate = new SchemaRequest.MultiUpdate(updates, params);
+        try {
+            SchemaResponse.UpdateResponse response = process(multiUpdate, solrClient, collectionName);
+            if (response.getStatus() > 0 || response.getResponse().get(RESPONSE_ERRORS) != null) {
+                throw new InitializationFailedException(
+                    "Manual intervention needed! Could not update schema: " + response.getResponse().get(RESPONSE_ERRORS));
+            }
+        } catch (SolrServerException | IOException e) {
+            throw new InitializationFailedException("Manual intervention needed! Could not update schema.", e);
+        }
+    }
+
+    public static void process(SolrClient solrClient, String collectionName, List<SchemaRequest.Update> updates,
+        SchemaUpdateBatching batching) throws InitializationFailedException {
+        int chunkCount = batching.getChunkCount(updates.size());
+        if (chunkCount == 1) {
+            process(solrClient, collectionName, updates, createParams(batching.getTimeoutSecs()));
+            return;
+        }
+
+        for (int i = 0; i < chunkCount; i++) {
+            if (i > 0) {
+                pause(batching.getPauseMillis());
+            }
+
+            int from = i * batching.getChunkSize();
+            int to = Math.min(from + batching.getChunkSize(), updates.size());
+            try {
+                process(solrClient, collectionName, updates.subList(from, to), createParams(batching.getTimeoutSecs()));
+            } catch (InitializationFailedException e) {
+                throw new InitializationFailedException("Manual intervention needed! Schema update chunk " + (i + 1) + "/" + chunkCount
+                    + " for " + collectionName + " failed after " + from + " of " + updates.size() + " updates were applied.", e);
+            }
+
+            LOGGER.info("Applied schema update chunk {}/{} for {} ({} of {} updates).", i + 1, chunkCount, collectionName, to,
+                updates.size());
+        }
+    }
+
+    public static ModifiableSolrParams createParams() {
+        return createParams(SchemaUpdateBatching.DEFAULT_TIMEOUT);
+    }
+
+    public static ModifiableSolrParams createParams(int timeoutSecs) {
+        ModifiableSolrParams solrParams = new ModifiableSolrParams();
+        solrParams.set(PARAMETER_UPDATE_TIMEOUT_SECS, timeoutSecs);
+        return solrParams;
+    }
+
+    private static void pause(long pauseMillis) throws InitializationFailedException {
+        if (pauseMillis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(pauseMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InitializationFailedException("Interrupted while pausing between schema update chunks.", e);
+        }
+    }
+
+    private static SchemaResponse.UpdateResponse process(SchemaRequest.Update update, SolrClient solrClient, String collectionName)
+        throws IOException, SolrServerException {
+        if (solrClient instanceof CloudSolrClient) {
+            return update.process(solrClient, collectionName);
+        }
+        return update.process(solrClient);
+    }
+}
@@ -21,6 +21,7 @@ import static java.util.stream.Collectors.toList;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.function.Function;
 import java.util.stream.Stream;
 
 import org.apache.solr.client.solrj.request.schema.SchemaRequest;
@@ -106,6 +107,28 @@ public class SchemaUpdates {
             .collect(toList());
     }
 
+    public List<SchemaRequest.Update> getAllUpdates() {
+        return Stream // copy fields are removed first and added last, field types are added before and removed after fields
+            .of(
+                select(this.fieldTypesUpdates, SchemaRequest.AddFieldType.class),
+                select(this.fieldTypesUpdates, SchemaRequest.ReplaceFieldType.class),
+                select(this.copyFieldUpdates, SchemaRequest.DeleteCopyField.class),
+                select(this.fieldUpdates, SchemaRequest.AddField.class),
+                select(this.dynamicUpdates, SchemaRequest.AddDynamicField.class),
+                select(this.fieldUpdates, SchemaRequest.ReplaceField.class),
+                select(this.dynamicUpdates, SchemaRequest.ReplaceDynamicField.class),
+                select(this.dynamicUpdates, SchemaRequest.DeleteDynamicField.class),
+                select(this.fieldUpdates, SchemaRequest.DeleteField.class),
+                select(this.fieldTypesUpdates, SchemaRequest.DeleteFieldType.class),
+                select(this.copyFieldUpdates, SchemaRequest.AddCopyField.class))
+            .flatMap(Function.identity())
+            .collect(toList());
+    }
+
+    private static Stream<SchemaRequest.Update> select(List<SchemaRequest.Update> updates, Class<? extends SchemaRequest.Update> type) {
+        return updates.stream().filter(type::isInstance);
+    }
+
     private boolean filterModifications(SchemaRequest.Update update) {
         if (update instanceof SchemaRequest.ReplaceFieldType) {
             return true;
@@ -16,6 +16,8 @@
  */
 package com.indoqa.solr.utils.validation;
 
+import com.indoqa.solr.utils.validation.schema.SchemaSection;
+
 public enum SchemaCheck {
     VERSION, NAME, //
     UNIQUE_KEY, //
@@ -33,6 +35,21 @@ public enum SchemaCheck {
         this.checks = checks;
     }
 
+    public static SchemaCheck of(SchemaSection schemaSection) {
+        switch (schemaSection) {
+            case FIELDS:
+                return FIELDS;
+            case DYNAMIC_FIELDS:
+                return DYNAMIC_FIELDS;
+            case COPY_FIELDS:
+                return COPY_FIELDS;
+            case FIELD_TYPES:
+                return FIELD_TYPES;
+            default:
+                throw new IllegalArgumentException("Unknown schema section " + schemaSection + ".");
+        }
+    }
+
     public boolean contains(SchemaCheck schemaCheck) {
         if (this.checks == null || this.checks.length == 0) {
             return false;
@@ -16,6 +16,11 @@
  */
 package com.indoqa.solr.utils.validation;
 
+import java.util.EnumSet;
+import java.util.Set;
+
+import com.indoqa.solr.utils.validation.schema.SchemaSection;
+
 public final class SchemaCheckConfiguration {
 
     private SolrSchema solrSchema;
@@ -54,6 +59,16 @@ public final class SchemaCheckConfiguration {
         }
     }
 
+    public Set<SchemaSection> getSchemaSections() {
+        Set<SchemaSection> result = EnumSet.noneOf(SchemaSection.class);
+        for (SchemaSection eachSection : SchemaSection.values()) {
+            if (this.needsCheck(SchemaCheck.of(eachSection))) {
+                result.add(eachSection);
+            }
+        }
+        return result;
+    }
+
     public boolean needsCheck(SchemaCheck schemaCheck) {
         for (SchemaCheck eachCheck : solrSchemaChecks) {
             if (eachCheck.equals(schemaCheck) || eachCheck.contains(schemaCheck)) {
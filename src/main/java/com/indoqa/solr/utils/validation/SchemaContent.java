@@ -0,0 +1,206 @@
+/*
+ *   Licensed to the Indoqa Software Design und Beratung GmbH (Indoqa) under
+ *   one or more contributor license agreements. See the NOTICE file distributed
+ *   with this work for additional information regarding copyright ownership.
+ *   Indoqa licenses this file to You under the Apache License, Version 2.0
+ *   (the "License"); you may not use this file except in compliance with
+ *   the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.indoqa.solr.utils.validation;
+
+import static com.indoqa.solr.utils.SolrConstants.NAME_ATTRIBUTE;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.indoqa.solr.utils.validation.schema.*;
+import com.indoqa.solr.utils.validation.source.SchemaSource;
+import org.apache.solr.client.solrj.request.schema.FieldTypeDefinition;
+
+public class SchemaContent {
+
+    private final SchemaSource schemaSource;
+    private final SchemaParser schemaParser;
+    private byte[] content;
+    private final String checksum;
+    private final ParsedSchema header;
+    private final Map<SchemaSection, ParsedSchema> sections = new ConcurrentHashMap<>();
+    private final Map<SchemaSection, String> sectionFingerprints = new ConcurrentHashMap<>();
+    private final Map<String, FieldTypeHash> fieldTypeHashes = new ConcurrentHashMap<>();
+    private volatile String fingerprint;
+
+    SchemaContent(SchemaSource schemaSource, byte[] content, String checksum, SchemaParser schemaParser) throws IOException {
+        this.schemaSource = schemaSource;
+        this.schemaParser = schemaParser;
+        this.content = content;
+        this.checksum = checksum;
+        this.header = this.parse(EnumSet.noneOf(SchemaSection.class));
+    }
+
+    private ParsedSchema parse(Set<SchemaSection> schemaSections) throws IOException {
+        ParsedSchema result = this.schemaParser.parse(new ByteArrayInputStream(this.content), schemaSections);
+        // parsers without section support return the complete schema, which can serve all sections at once
+        for (SchemaSection eachSection : result.getSections()) {
+            this.sections.putIfAbsent(eachSection, result);
+        }
+        if (this.sections.size() == SchemaSection.values().length) {
+            // every section is materialized, the raw schema is not needed anymore
+            this.content = null;
+        }
+        return result;
+    }
+
+    public void parseSections(Set<SchemaSection> schemaSections) {
+        if (this.sections.keySet().containsAll(schemaSections)) {
+            return;
+        }
+
+        synchronized (this.sections) {
+            Set<SchemaSection> missingSections = EnumSet.noneOf(SchemaSection.class);
+            for (SchemaSection eachSection : schemaSections) {
+                if (!this.sections.containsKey(eachSection)) {
+                    missingSections.add(eachSection);
+                }
+            }
+            if (missingSections.isEmpty()) {
+                return;
+            }
+
+            // all missing sections are read in a single pass over the schema
+            try {
+                this.parse(missingSections);
+            } catch (IOException e) {
+                throw new IllegalStateException("Could not parse " + missingSections + " of schema '" + this.schemaSource.getLocation() + "'.",
+                    e);
+            }
+        }
+    }
+
+    private ParsedSchema getSection(SchemaSection schemaSection) {
+        ParsedSchema result = this.sections.get(schemaSection);
+        if (result != null) {
+            return result;
+        }
+
+        this.parseSections(EnumSet.of(schemaSection));
+        return this.sections.get(schemaSection);
+    }
+
+    public String getChecksum() {
+        return this.checksum;
+    }
+
+    public String getFingerprint() {
+        if (this.fingerprint == null) {
+            this.parseSections(EnumSet.allOf(SchemaSection.class));
+            this.fingerprint = SchemaFingerprints.fingerprint(
+                new ParsedSchema(this.getName(), this.getVersion(), this.getUniqueKey(), this.getDefaultSearchField(), this.getFields(),
+                    this.getDynamicFields(), this.getCopyFields(), this.getFieldTypes()));
+        }
+        return this.fingerprint;
+    }
+
+    public String getSectionFingerprint(SchemaSection schemaSection) {
+        return this.sectionFingerprints.computeIfAbsent(schemaSection,
+            section -> SchemaFingerprints.fingerprint(this.getSection(section), section));
+    }
+
+    public Set<SchemaSection> getChangedSections(SchemaContent other) {
+        Set<SchemaSection> result = EnumSet.noneOf(SchemaSection.class);
+        if (this.checksum.equals(other.checksum)) {
+            return result;
+        }
+
+        this.parseSections(EnumSet.allOf(SchemaSection.class));
+        other.parseSections(EnumSet.allOf(SchemaSection.class));
+        for (SchemaSection eachSection : SchemaSection.values()) {
+            if (!this.getSectionFingerprint(eachSection).equals(other.getSectionFingerprint(eachSection))) {
+                result.add(eachSection);
+            }
+        }
+        return result;
+    }
+
+    public SchemaParser getSchemaParser() {
+        return this.schemaParser;
+    }
+
+    public SchemaSource getSchemaSource() {
+        return this.schemaSource;
+    }
+
+    public String getSchemaLocation() {
+        return this.schemaSource.getLocation();
+    }
+
+    public String getUniqueKey() {
+        return this.header.getUniqueKey();
+    }
+
+    public String getDefaultSearchField() {
+        return this.header.getDefaultSearchField();
+    }
+
+    public String getName() {
+        return this.header.getName();
+    }
+
+    public Float getVersion() {
+        return this.header.getVersion();
+    }
+
+    public List<Map<String, Object>> getDynamicFields() {
+        return this.getSection(SchemaSection.DYNAMIC_FIELDS).getDynamicFields();
+    }
+
+    public Optional<Map<String, Object>> getDynamicField(String name) {
+        return this.getSection(SchemaSection.DYNAMIC_FIELDS).getDynamicField(name);
+    }
+
+    public List<Map<String, Object>> getFields() {
+        return this.getSection(SchemaSection.FIELDS).getFields();
+    }
+
+    public Optional<Map<String, Object>> getField(String name) {
+        return this.getSection(SchemaSection.FIELDS).getField(name);
+    }
+
+    public List<FieldTypeDefinition> getFieldTypes() {
+        return this.getSection(SchemaSection.FIELD_TYPES).getFieldTypes();
+    }
+
+    public Optional<FieldTypeDefinition> getFieldType(String name) {
+        return this.getSection(SchemaSection.FIELD_TYPES).getFieldType(name);
+    }
+
+    public FieldTypeHash getFieldTypeHash(FieldTypeDefinition fieldType) {
+        String name = String.valueOf(fieldType.getAttributes().get(NAME_ATTRIBUTE));
+        if (this.getFieldType(name).orElse(null) != fieldType) {
+            // only the field types of this schema are cached
+            return FieldTypeHash.of(fieldType);
+        }
+        return this.fieldTypeHashes.computeIfAbsent(name, key -> FieldTypeHash.of(fieldType));
+    }
+
+    public List<Map<String, Object>> getCopyFields() {
+        return this.getSection(SchemaSection.COPY_FIELDS).getCopyFields();
+    }
+
+    public List<Map<String, Object>> getCopyFields(String source) {
+        return this.getSection(SchemaSection.COPY_FIELDS).getCopyFields(source);
+    }
+
+    public boolean isParsed(SchemaSection schemaSection) {
+        return this.sections.containsKey(schemaSection);
+    }
+}
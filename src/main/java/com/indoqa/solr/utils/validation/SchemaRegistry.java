@@ -0,0 +1,121 @@
+/*
+ *   Licensed to the Indoqa Software Design und Beratung GmbH (Indoqa) under
+ *   one or more contributor license agreements. See the NOTICE file distributed
+ *   with this work for additional information regarding copyright ownership.
+ *   Indoqa licenses this file to You under the Apache License, Version 2.0
+ *   (the "License"); you may not use this file except in compliance with
+ *   the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.indoqa.solr.utils.validation;
+
+import java.io.IOException;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import com.indoqa.solr.utils.validation.schema.SchemaFingerprints;
+import com.indoqa.solr.utils.validation.schema.SchemaParser;
+import com.indoqa.solr.utils.validation.schema.StaxSchemaParser;
+import com.indoqa.solr.utils.validation.source.ClasspathSchemaSource;
+import com.indoqa.solr.utils.validation.source.SchemaSource;
+
+public class SchemaRegistry {
+
+    private static final SchemaRegistry INSTANCE = new SchemaRegistry();
+
+    private final Map<String, Entry> entries = new HashMap<>();
+    private final ReferenceQueue<SchemaContent> referenceQueue = new ReferenceQueue<>();
+
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+
+    private Supplier<SchemaParser> schemaParserSupplier = StaxSchemaParser::new;
+
+    public static SchemaRegistry getInstance() {
+        return INSTANCE;
+    }
+
+    private static String getKey(String schemaLocation, String checksum) {
+        return schemaLocation + '#' + checksum;
+    }
+
+    public SchemaContent getSchemaContent(String schemaLocation) throws SolrSchemaException {
+        return this.getSchemaContent(new ClasspathSchemaSource(schemaLocation));
+    }
+
+    public SchemaContent getSchemaContent(SchemaSource schemaSource) throws SolrSchemaException {
+        return this.getSchemaContent(schemaSource, SolrSchema.read(schemaSource));
+    }
+
+    public long getHitCount() {
+        return this.hitCount.get();
+    }
+
+    public long getMissCount() {
+        return this.missCount.get();
+    }
+
+    public synchronized int size() {
+        this.expungeStaleEntries();
+        return this.entries.size();
+    }
+
+    public synchronized void clear() {
+        this.entries.clear();
+    }
+
+    public void setSchemaParserSupplier(Supplier<SchemaParser> schemaParserSupplier) {
+        this.schemaParserSupplier = schemaParserSupplier;
+    }
+
+    private synchronized SchemaContent getSchemaContent(SchemaSource schemaSource, byte[] content) throws SolrSchemaException {
+        this.expungeStaleEntries();
+
+        String checksum = SchemaFingerprints.checksum(content);
+        // the key contains the checksum, so a changed file never hands out the previously parsed content
+        String key = getKey(schemaSource.getLocation(), checksum);
+        Entry entry = this.entries.get(key);
+        SchemaContent result = entry == null ? null : entry.get();
+        if (result != null) {
+            this.hitCount.incrementAndGet();
+            return result;
+        }
+
+        this.missCount.incrementAndGet();
+        try {
+            result = new SchemaContent(schemaSource, content, checksum, this.schemaParserSupplier.get());
+        } catch (IOException e) {
+            throw new SolrSchemaException("Could not load schema for location '" + schemaSource.getLocation() + "'.", e);
+        }
+        this.entries.put(key, new Entry(key, result, this.referenceQueue));
+        return result;
+    }
+
+    private void expungeStaleEntries() {
+        Entry eachEntry;
+        while ((eachEntry = (Entry) this.referenceQueue.poll()) != null) {
+            this.entries.remove(eachEntry.key, eachEntry);
+        }
+    }
+
+    private static class Entry extends WeakReference<SchemaContent> {
+
+        private final String key;
+
+        Entry(String key, SchemaContent schemaContent, ReferenceQueue<SchemaContent> referenceQueue) {
+            super(schemaContent, referenceQueue);
+            this.key = key;
+        }
+    }
+}
@@ -16,212 +16,180 @@
  */
 package com.indoqa.solr.utils.validation;
 
-import static org.joox.JOOX.$;
-
 import java.io.IOException;
-import java.io.InputStream;
-import java.net.URL;
-import java.util.*;
-
-import com.indoqa.lang.io.ResourceLoader;
-import org.apache.solr.client.solrj.request.schema.AnalyzerDefinition;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import com.indoqa.solr.utils.validation.schema.FieldTypeHash;
+import com.indoqa.solr.utils.validation.schema.SchemaFingerprints;
+import com.indoqa.solr.utils.validation.schema.SchemaParser;
+import com.indoqa.solr.utils.validation.schema.SchemaSection;
+import com.indoqa.solr.utils.validation.schema.StaxSchemaParser;
+import com.indoqa.solr.utils.validation.source.ClasspathSchemaSource;
+import com.indoqa.solr.utils.validation.source.DirectorySchemaSources;
+import com.indoqa.solr.utils.validation.source.SchemaSource;
 import org.apache.solr.client.solrj.request.schema.FieldTypeDefinition;
-import org.joox.JOOX;
-import org.joox.Match;
-import org.w3c.dom.Document;
-import org.w3c.dom.Element;
-import org.w3c.dom.NamedNodeMap;
-import org.w3c.dom.Node;
-import org.xml.sax.SAXException;
 
 public class SolrSchema {
 
     private final String collectionName;
-    private final String schemaLocation;
-    private final Document document;
+    private final SchemaContent schemaContent;
+    private final boolean shared;
 
     public SolrSchema(String collectionName, String schemaLocation) throws SolrSchemaException {
-        this.collectionName = collectionName;
-        this.schemaLocation = schemaLocation;
-        try {
-            this.document = $(getSchema(schemaLocation)).document();
-        } catch (SAXException | IOException e) {
-            throw new SolrSchemaException("Could not load schema for location '" + schemaLocation + "'.", e);
-        }
-    }
-    private InputStream getSchema(String schemaLocation) throws IOException {
-        URL url = ResourceLoader.getUrl(schemaLocation);
-        if (url == null) {
-            throw new IllegalArgumentException("Could not find " + schemaLocation + " in classpath.");
-        }
-        return url.openStream();
+        this(collectionName, schemaLocation, new StaxSchemaParser());
     }
 
-    public String getSchemaLocation() {
-        return this.schemaLocation;
+    public SolrSchema(String collectionName, String schemaLocation, SchemaParser schemaParser) throws SolrSchemaException {
+        this(collectionName, new ClasspathSchemaSource(schemaLocation), schemaParser);
     }
 
-    public String getCollectionName() {
-        return this.collectionName;
+    public SolrSchema(String collectionName, SchemaSource schemaSource) throws SolrSchemaException {
+        this(collectionName, schemaSource, new StaxSchemaParser());
     }
 
-    public String getUniqueKey() {
-        return $(document).find("uniqueKey").cdata();
+    public SolrSchema(String collectionName, SchemaSource schemaSource, SchemaParser schemaParser) throws SolrSchemaException {
+        this(collectionName, load(schemaSource, schemaParser));
     }
 
-    public String getDefaultSearchField() {
-        return $(document).attr("defaultSearchField");
+    public SolrSchema(String collectionName, SchemaContent schemaContent) {
+        this(collectionName, schemaContent, false);
     }
 
-    public String getName() {
-        return $(document).attr("name");
+    private SolrSchema(String collectionName, SchemaContent schemaContent, boolean shared) {
+        this.collectionName = collectionName;
+        this.schemaContent = schemaContent;
+        this.shared = shared;
     }
 
-    public Float getVersion() {
-        String version = $(document).attr("version");
-        if (version == null) {
-            return null;
-        }
-        return Float.valueOf(version);
+    public static SolrSchema shared(String collectionName, String schemaLocation) throws SolrSchemaException {
+        return shared(collectionName, new ClasspathSchemaSource(schemaLocation));
     }
 
-    public List<Map<String, Object>> getDynamicFields() {
-        return this.getFieldsFor("dynamicField");
+    public static SolrSchema shared(String collectionName, SchemaSource schemaSource) throws SolrSchemaException {
+        return new SolrSchema(collectionName, SchemaRegistry.getInstance().getSchemaContent(schemaSource), true);
     }
 
-    public List<Map<String, Object>> getFields() {
-        return this.getFieldsFor("field");
-    }
+    public static List<SolrSchema> fromDirectory(Path directory) throws SolrSchemaException {
+        Map<String, SchemaSource> schemaSources;
+        try {
+            schemaSources = DirectorySchemaSources.discover(directory);
+        } catch (IOException e) {
+            throw new SolrSchemaException("Could not discover schemas in directory '" + directory + "'.", e);
+        }
 
-    public List<FieldTypeDefinition> getFieldTypes() {
-        List<FieldTypeDefinition> result = new ArrayList<>();
-        Match fieldTypes = $(document).find(JOOX.or(JOOX.tag("fieldType"), JOOX.tag("fieldtype")));
-        for (Element eachField : fieldTypes) {
-            FieldTypeDefinition fieldTypeDefinition = new FieldTypeDefinition();
-            fieldTypeDefinition.setAttributes(extractFieldAttributes(eachField));
-
-            Match analyzer = $(eachField).find("analyzer");
-            fieldTypeDefinition.setQueryAnalyzer(extractAnalyzer(analyzer, "query"));
-            fieldTypeDefinition.setIndexAnalyzer(extractAnalyzer(analyzer, "index"));
-            fieldTypeDefinition.setMultiTermAnalyzer(extractAnalyzer(analyzer, "multiterm"));
-            fieldTypeDefinition.setAnalyzer(extractAnalyzer(analyzer, ""));
-
-            fieldTypeDefinition.setSimilarity(extractSimilarity($(eachField).find("similarity")));
-            result.add(fieldTypeDefinition);
+        List<SolrSchema> result = new ArrayList<>(schemaSources.size());
+        for (Map.Entry<String, SchemaSource> eachSchemaSource : schemaSources.entrySet()) {
+            result.add(new SolrSchema(eachSchemaSource.getKey(), eachSchemaSource.getValue()));
         }
         return result;
     }
 
-    public List<Map<String, Object>> getCopyFields() {
-        return this.getFieldsFor("copyField", DataTypeHandling.INTEGER, DataTypeHandling.LONG);
+    static byte[] read(SchemaSource schemaSource) throws SolrSchemaException {
+        try {
+            return schemaSource.read();
+        } catch (IOException e) {
+            throw new SolrSchemaException("Could not load schema for location '" + schemaSource.getLocation() + "'.", e);
+        }
     }
 
-    private Map<String, Object> extractSimilarity(Match similarity) {
-        if (similarity.isEmpty()) {
-            return null;
-        }
-        Element element = similarity.get(0);
-        Map<String, Object> result = extractFieldAttributes(element);
-        for (Element eachElement : $(element).children().get()) {
-            result.put(eachElement.getAttribute("name"), eachElement.getTextContent());
+    private static SchemaContent load(SchemaSource schemaSource, SchemaParser schemaParser) throws SolrSchemaException {
+        byte[] content = read(schemaSource);
+        try {
+            return new SchemaContent(schemaSource, content, SchemaFingerprints.checksum(content), schemaParser);
+        } catch (IOException e) {
+            throw new SolrSchemaException("Could not load schema for location '" + schemaSource.getLocation() + "'.", e);
         }
-        return result;
     }
 
-    private AnalyzerDefinition extractAnalyzer(Match analyzers, String type) {
-        for (Element analyzer : analyzers) {
-            if (analyzer.getAttribute("type").equals(type)) {
-                return extractAnalyzer(analyzer);
-            }
+    public SolrSchema reload() throws SolrSchemaException {
+        if (this.shared) {
+            return shared(this.collectionName, this.schemaContent.getSchemaSource());
         }
-        return null;
+        return new SolrSchema(this.collectionName, this.schemaContent.getSchemaSource(), this.schemaContent.getSchemaParser());
     }
 
-    private AnalyzerDefinition extractAnalyzer(Element analyzer) {
-        AnalyzerDefinition result = new AnalyzerDefinition();
+    public SchemaSource getSchemaSource() {
+        return this.schemaContent.getSchemaSource();
+    }
 
-        Map<String, Object> attributes = extractFieldAttributes(analyzer);
-        attributes.remove("type");
-        result.setAttributes(attributes);
-        result.setCharFilters(extractFilters(analyzer, "charFilter"));
-        result.setFilters(extractFilters(analyzer, "filter"));
-        result.setTokenizer(extractTokenizer(analyzer));
+    public SchemaContent getSchemaContent() {
+        return this.schemaContent;
+    }
 
-        return result;
+    public String getFingerprint() {
+        return this.schemaContent.getFingerprint();
     }
 
-    private Map<String, Object> extractTokenizer(Element analyzer) {
-        Match tokenizer = $(analyzer).find("tokenizer");
-        if (tokenizer.isEmpty()) {
-            return null;
-        }
-        return extractFieldAttributes(tokenizer.get(0));
+    public String getSchemaLocation() {
+        return this.schemaContent.getSchemaLocation();
     }
 
-    private List<Map<String, Object>> extractFilters(Element analyzer, String filterType) {
-        Match elements = $(analyzer).find(filterType);
-        if (elements.isEmpty()) {
-            return null;
-        }
-        List<Map<String, Object>> result = new ArrayList<>(elements.size());
-        for (Element element : elements) {
-            result.add(extractFieldAttributes(element));
-        }
-        return result;
+    public String getCollectionName() {
+        return this.collectionName;
     }
 
-    private Map<String, Object> extractFieldAttributes(Element eachField, DataTypeHandling...dataTypeHandlings) {
-        Map<String, Object> fieldAttributes = new HashMap<>();
+    public String getUniqueKey() {
+        return this.schemaContent.getUniqueKey();
+    }
 
-        NamedNodeMap attributes = eachField.getAttributes();
-        for (int i = 0; i < attributes.getLength(); i++) {
-            Node item = attributes.item(i);
-            fieldAttributes.put(item.getNodeName(), getValue(item.getNodeValue(), dataTypeHandlings));
-        }
-        return fieldAttributes;
+    public String getDefaultSearchField() {
+        return this.schemaContent.getDefaultSearchField();
     }
 
-    private Object getValue(String nodeValue, DataTypeHandling...dataTypesHandling) {
-        if (Boolean.TRUE.toString().equalsIgnoreCase(nodeValue)) {
-            return true;
-        }
-        if (Boolean.FALSE.toString().equalsIgnoreCase(nodeValue)) {
-            return false;
-        }
+    public String getName() {
+        return this.schemaContent.getName();
+    }
 
-        List<DataTypeHandling> handling = Arrays.asList(dataTypesHandling);
-        if (handling.contains(DataTypeHandling.INTEGER)) {
-            try {
-                return Integer.parseInt(nodeValue);
-            } catch (NumberFormatException e) {
-                //ignore value might be no int
-            }
-        }
+    public Float getVersion() {
+        return this.schemaContent.getVersion();
+    }
 
-        if (handling.contains(DataTypeHandling.LONG)) {
-            try{
-                return Long.parseLong(nodeValue);
-            }catch(NumberFormatException ef) {
-                //ignore value might be no long
-            }
-        }
+    public List<Map<String, Object>> getDynamicFields() {
+        return this.schemaContent.getDynamicFields();
+    }
 
-        return nodeValue;
+    public Optional<Map<String, Object>> getDynamicField(String name) {
+        return this.schemaContent.getDynamicField(name);
     }
 
-    private List<Map<String, Object>> getFieldsFor(String fieldDescription, DataTypeHandling...dataTypeHandlings) {
-        List<Map<String, Object>> result = new ArrayList<>();
+    public List<Map<String, Object>> getFields() {
+        return this.schemaContent.getFields();
+    }
 
-        Match fields = $(document).find(fieldDescription);
-        for (Element eachField : fields) {
-            Map<String, Object> resultField = extractFieldAttributes(eachField, dataTypeHandlings);
-            result.add(resultField);
-        }
+    public Optional<Map<String, Object>> getField(String name) {
+        return this.schemaContent.getField(name);
+    }
 
-        return result;
+    public List<FieldTypeDefinition> getFieldTypes() {
+        return this.schemaContent.getFieldTypes();
+    }
+
+    public Optional<FieldTypeDefinition> getFieldType(String name) {
+        return this.schemaContent.getFieldType(name);
+    }
+
+    public FieldTypeHash getFieldTypeHash(FieldTypeDefinition fieldType) {
+        return this.schemaContent.getFieldTypeHash(fieldType);
+    }
+
+    public List<Map<String, Object>> getCopyFields() {
+        return this.schemaContent.getCopyFields();
+    }
+
+    public List<Map<String, Object>> getCopyFields(String source) {
+        return this.schemaContent.getCopyFields(source);
+    }
+
+    public void parseSections(Set<SchemaSection> schemaSections) {
+        this.schemaContent.parseSections(schemaSections);
     }
 
-    private enum DataTypeHandling {
-        INTEGER, LONG
+    public boolean isParsed(SchemaSection schemaSection) {
+        return this.schemaContent.isParsed(schemaSection);
     }
 }
@@ -18,9 +18,8 @@ package com.indoqa.solr.utils.validation.checks;
 
 import static com.indoqa.solr.utils.SolrConstants.*;
 
-import java.util.Collection;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.*;
+import java.util.function.Function;
 
 import com.indoqa.solr.utils.validation.results.AbstractFieldsValidationResult;
 import com.indoqa.solr.utils.validation.results.FieldAttributesValidationResult;
@@ -28,59 +27,90 @@ import com.indoqa.solr.utils.validation.results.AbstractValidationResult;
 
 public abstract class AbstractSchemaAbstractFieldsValidation<V extends AbstractValidationResult> implements SchemaValidation<V> {
 
+    private static final Comparator<Map<String, Object>> BY_NAME = Comparator.comparing(
+        attributes -> (String) attributes.get(NAME_ATTRIBUTE),
+        Comparator.nullsFirst(Comparator.naturalOrder()));
+
+    protected static void addAttributesOnlyInSchema(FieldAttributesValidationResult fieldValidationResult, Map<String, Object> attributes) {
+        for (Map.Entry<String, Object> eachAttribute : attributes.entrySet()) {
+            if (!NAME_ATTRIBUTE.equalsIgnoreCase(eachAttribute.getKey()) && !CLASS_ATTRIBUTE.equalsIgnoreCase(eachAttribute.getKey())) {
+                fieldValidationResult.addAttributeOnlyInSchema(eachAttribute.getKey(), eachAttribute.getValue());
+            }
+        }
+    }
+
+    protected static void addAttributesStillInSolr(FieldAttributesValidationResult fieldValidationResult, Map<String, Object> attributes) {
+        for (Map.Entry<String, Object> eachAttribute : attributes.entrySet()) {
+            if (!NAME_ATTRIBUTE.equalsIgnoreCase(eachAttribute.getKey()) && !CLASS_ATTRIBUTE.equalsIgnoreCase(eachAttribute.getKey())) {
+                fieldValidationResult.addAttributeStillInSolr(eachAttribute.getKey(), eachAttribute.getValue());
+            }
+        }
+    }
+
+    protected static int size(Collection<?> values) {
+        return values == null ? 0 : values.size();
+    }
+
+    protected static boolean isInSync(Collection<Map<String, Object>> fields, Collection<Map<String, Object>> schemaResponseFields,
+        Function<String, Optional<Map<String, Object>>> fieldsByName) {
+        // fields only in one of the schemas are always differences, so both sides are covered by equal sizes and names
+        if (size(fields) != size(schemaResponseFields)) {
+            return false;
+        }
+        if (schemaResponseFields == null) {
+            return true;
+        }
+
+        for (Map<String, Object> eachSchemaResponseField : schemaResponseFields) {
+            Optional<Map<String, Object>> field = fieldsByName.apply((String) eachSchemaResponseField.get(NAME_ATTRIBUTE));
+            if (!field.isPresent()) {
+                return false;
+            }
+            if (!AttributesValidator.isEqual(field.get(), eachSchemaResponseField)
+                && !AttributesValidator.validate(field.get(), eachSchemaResponseField).isEmpty()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     protected final void extractSchemaValidations(AbstractFieldsValidationResult result, Collection<Map<String, Object>> fields,
         Collection<Map<String, Object>> schemaResponseFields) {
-        Map<String, Map<String, Object>> namedSchemaResponseFields = map(schemaResponseFields);
-
-        for (Map<String, Object> eachField : fields) {
-            String name = (String) eachField.get(NAME_ATTRIBUTE);
-            Map<String, Object> schemaResponseField = namedSchemaResponseFields.remove(name);
-
-            FieldAttributesValidationResult fieldValidationResult = new FieldAttributesValidationResult();
-            fieldValidationResult.setName(name);
-            String className = (String) eachField.get(CLASS_ATTRIBUTE);
-            fieldValidationResult.setClassName(className);
-
-            if (schemaResponseField == null) {
-                eachField
-                    .entrySet()
-                    .stream()
-                    .filter(es -> !NAME_ATTRIBUTE.equalsIgnoreCase(es.getKey()))
-                    .filter(es -> !CLASS_ATTRIBUTE.equalsIgnoreCase(es.getKey()))
-                    .forEach(es -> fieldValidationResult.addAttributeOnlyInSchema(es.getKey(), es.getValue()));
+        SortedMergeDiff.diff(fields, schemaResponseFields, BY_NAME, new SortedMergeDiff.DiffHandler<Map<String, Object>>() {
+
+            @Override
+            public void onlyInSchema(Map<String, Object> field) {
+                FieldAttributesValidationResult fieldValidationResult = createFieldValidationResult(field);
+                addAttributesOnlyInSchema(fieldValidationResult, field);
                 result.addFieldsOnlyInSchema(fieldValidationResult);
-                continue;
             }
 
-            fieldValidationResult.addAttributeValidation(AttributesValidator.validate(eachField, schemaResponseField));
+            @Override
+            public void inBoth(Map<String, Object> field, Map<String, Object> schemaResponseField) {
+                if (AttributesValidator.isEqual(field, schemaResponseField)) {
+                    // an unchanged field is not reported, so no result is created for it
+                    return;
+                }
 
-            result.addFieldsModified(fieldValidationResult);
-        }
+                FieldAttributesValidationResult fieldValidationResult = createFieldValidationResult(field);
+                // the response field is compared as it is, only the parsed schema side is packed and pooled
+                fieldValidationResult.addAttributeValidation(AttributesValidator.validate(field, schemaResponseField));
+                result.addFieldsModified(fieldValidationResult);
+            }
 
-        namedSchemaResponseFields.entrySet().stream().forEach(es -> {
-            FieldAttributesValidationResult fieldValidationResult = new FieldAttributesValidationResult();
-            fieldValidationResult.setName(es.getKey());
-            fieldValidationResult.setClassName((String) es.getValue().get(CLASS_ATTRIBUTE));
-            es
-                .getValue()
-                .entrySet()
-                .stream()
-                .filter(vs -> !NAME_ATTRIBUTE.equalsIgnoreCase(vs.getKey()))
-                .filter(vs -> !CLASS_ATTRIBUTE.equalsIgnoreCase(vs.getKey()))
-                .forEach(vs -> fieldValidationResult.addAttributeStillInSolr(vs.getKey(), vs.getValue()));
-            result.addFieldStillInSolr(fieldValidationResult);
+            @Override
+            public void stillInSolr(Map<String, Object> schemaResponseField) {
+                FieldAttributesValidationResult fieldValidationResult = createFieldValidationResult(schemaResponseField);
+                addAttributesStillInSolr(fieldValidationResult, schemaResponseField);
+                result.addFieldStillInSolr(fieldValidationResult);
+            }
         });
     }
 
-    private Map<String, Map<String, Object>> map(Collection<Map<String, Object>> schemaResponseFields) {
-        Map<String, Map<String, Object>> resultFields = new HashMap<>();
-        for (Map<String, Object> schemaResponseField : schemaResponseFields) {
-            HashMap<String, Object> value = new HashMap<>();
-            for (Map.Entry<String, Object> entry : schemaResponseField.entrySet()) {
-                value.put(entry.getKey(), entry.getValue());
-            }
-            resultFields.put((String) schemaResponseField.get(NAME_ATTRIBUTE), value);
-        }
-        return resultFields;
+    private static FieldAttributesValidationResult createFieldValidationResult(Map<String, Object> field) {
+        FieldAttributesValidationResult result = new FieldAttributesValidationResult();
+        result.setName((String) field.get(NAME_ATTRIBUTE));
+        result.setClassName((String) field.get(CLASS_ATTRIBUTE));
+        return result;
     }
 }
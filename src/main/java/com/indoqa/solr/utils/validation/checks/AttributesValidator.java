@@ -17,13 +17,14 @@
 package com.indoqa.solr.utils.validation.checks;
 
 import static com.indoqa.solr.utils.SolrConstants.*;
+import static java.util.Collections.emptyMap;
 
 import java.util.HashMap;
 import java.util.Map;
-import java.util.Objects;
 
 import com.indoqa.solr.utils.validation.results.AttributesValidationResult;
 import com.indoqa.solr.utils.validation.results.ValuesOrigin;
+import com.indoqa.solr.utils.validation.schema.SchemaAttributes;
 
 public final class AttributesValidator {
 
@@ -32,11 +33,11 @@ public final class AttributesValidator {
     }
 
     public static AttributesValidationResult validate(Map<String, Object> schema, Map<String, Object> solr) {
-        if (schema == null && solr == null) {
-            AttributesValidationResult attributesValidationResult = new AttributesValidationResult();
-            attributesValidationResult.setValuesOrigin(ValuesOrigin.BOTH);
-            return attributesValidationResult;
+        // most attributes are equal, they are compared in place before anything is copied
+        if (hasEqualValues(schema == null ? emptyMap() : schema, solr == null ? emptyMap() : solr)) {
+            return createEqualResult(schema == null ? emptyMap() : schema);
         }
+
         Map<String, Object> solrAttributes = getNullsafeAttributes(solr);
         Map<String, Object> schemaAttributes = getNullsafeAttributes(schema);
 
@@ -92,12 +93,47 @@ public final class AttributesValidator {
     }
 
     private static boolean checkValuesAreEqual(Object value, Object valueInSolr) {
-        // check for boolean values, custom field attributes may return as string literal and not as primitive boolean.
-        if (value instanceof Boolean || valueInSolr instanceof  Boolean) {
-            return value.toString().equalsIgnoreCase(valueInSolr.toString());
+        return SchemaAttributes.isEqualValue(value, valueInSolr);
+    }
+
+    public static boolean hasEqualValues(Map<String, Object> schema, Map<String, Object> solr) {
+        if (schema instanceof SchemaAttributes && solr instanceof SchemaAttributes) {
+            return ((SchemaAttributes) schema).hasEqualValues((SchemaAttributes) solr);
+        }
+        if (schema.size() != solr.size()) {
+            return false;
         }
 
-        return Objects.equals(value, valueInSolr);
+        // packed attributes are looked up instead of iterated, their entries would be created while iterating
+        Map<String, Object> iterated = schema instanceof SchemaAttributes ? solr : schema;
+        Map<String, Object> other = schema instanceof SchemaAttributes ? schema : solr;
+        for (Map.Entry<String, Object> eachAttribute : iterated.entrySet()) {
+            Object otherValue = other.get(eachAttribute.getKey());
+            if (eachAttribute.getValue() == null || otherValue == null) {
+                return false;
+            }
+            if (!checkValuesAreEqual(eachAttribute.getValue(), otherValue)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public static boolean isEqual(Map<String, Object> schema, Map<String, Object> solr) {
+        Map<String, Object> schemaAttributes = schema == null ? emptyMap() : schema;
+        return hasEqualValues(schemaAttributes, solr == null ? emptyMap() : solr) && isInBoth(schemaAttributes);
+    }
+
+    private static boolean isInBoth(Map<String, Object> equalAttributes) {
+        return equalAttributes.isEmpty() || equalAttributes.containsKey(NAME_ATTRIBUTE) || equalAttributes.get(CLASS_ATTRIBUTE) != null;
+    }
+
+    private static AttributesValidationResult createEqualResult(Map<String, Object> attributes) {
+        AttributesValidationResult result = new AttributesValidationResult();
+        result.setName((String) attributes.get(NAME_ATTRIBUTE));
+        result.setClassName((String) attributes.get(CLASS_ATTRIBUTE));
+        result.setValuesOrigin(isInBoth(attributes) ? ValuesOrigin.BOTH : ValuesOrigin.ONLY_IN_SCHEMA);
+        return result;
     }
 
     private static Map<String, Object> getNullsafeAttributes(Map<String, Object> attributes) {
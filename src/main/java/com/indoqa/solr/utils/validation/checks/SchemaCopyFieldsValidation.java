@@ -30,87 +30,143 @@ import org.apache.solr.client.solrj.response.schema.SchemaResponse;
 
 public class SchemaCopyFieldsValidation extends AbstractSchemaAbstractFieldsValidation<CopyFieldsValidationResult> {
 
+    private static final Comparator<Map<String, Object>> BY_SOURCE_AND_DEST = Comparator
+        .comparing(SchemaCopyFieldsValidation::getSource)
+        .thenComparing(SchemaCopyFieldsValidation::getDest);
+
     @Override
     public SchemaCheck getSchemaCheck() {
         return SchemaCheck.COPY_FIELDS;
     }
 
-    @Override
-    public CopyFieldsValidationResult validate(SolrSchema solrSchema, SchemaResponse schemaResponse, SolrClient solrClient)
-        throws SolrSchemaException {
-        List<Map<String, Object>> schemaResponseFields;
-
+    private List<Map<String, Object>> getSchemaResponseCopyFields(SolrSchema solrSchema, SchemaResponse schemaResponse,
+        SolrClient solrClient) throws SolrSchemaException {
         if (schemaResponse == null) {
-            schemaResponseFields = process(solrSchema.getCollectionName(),
+            return process(solrSchema.getCollectionName(),
                 new SchemaRequest.CopyFields(),
                 solrClient).getCopyFields();
-        } else {
-            schemaResponseFields = schemaResponse.getSchemaRepresentation().getCopyFields();
         }
+        return schemaResponse.getSchemaRepresentation().getCopyFields();
+    }
+
+    @Override
+    public CopyFieldsValidationResult validate(SolrSchema solrSchema, SchemaResponse schemaResponse, SolrClient solrClient)
+        throws SolrSchemaException {
+        List<Map<String, Object>> schemaResponseFields = this.getSchemaResponseCopyFields(solrSchema, schemaResponse, solrClient);
 
         CopyFieldsValidationResult result = new CopyFieldsValidationResult();
-        extractCopyFieldsValidation(result, map(solrSchema.getCopyFields()), map(schemaResponseFields));
+        extractCopyFieldsValidation(result, solrSchema.getCopyFields(), schemaResponseFields);
         return result;
     }
 
-    protected final void extractCopyFieldsValidation(AbstractFieldsValidationResult result, Map<String, Map<String, Object>> fields,
-        Map<String, Map<String, Object>> schemaResponseFields) {
-        Map<String, Map<String, Object>> namedSchemaResponseFields = new HashMap<>(schemaResponseFields);
-
-        for (Map.Entry<String, Map<String, Object>> eachFieldEntry : fields.entrySet()) {
-            Map<String, Object> schemaResponseField = namedSchemaResponseFields.remove(eachFieldEntry.getKey());
-            String name = (String) eachFieldEntry.getValue().get(NAME_ATTRIBUTE);
-
-            FieldAttributesValidationResult fieldValidationResult = new FieldAttributesValidationResult();
-            fieldValidationResult.setName(name);
-            String className = (String) eachFieldEntry.getValue().get(CLASS_ATTRIBUTE);
-            fieldValidationResult.setClassName(className);
-
-            if (schemaResponseField == null) {
-                eachFieldEntry.getValue()
-                    .entrySet()
-                    .stream()
-                    .filter(es -> !NAME_ATTRIBUTE.equalsIgnoreCase(es.getKey()))
-                    .filter(es -> !CLASS_ATTRIBUTE.equalsIgnoreCase(es.getKey()))
-                    .forEach(es -> fieldValidationResult.addAttributeOnlyInSchema(es.getKey(), es.getValue()));
-                result.addFieldsOnlyInSchema(fieldValidationResult);
-                continue;
-            }
+    @Override
+    public boolean isInSync(SolrSchema solrSchema, SchemaResponse schemaResponse, SolrClient solrClient) throws SolrSchemaException {
+        List<Map<String, Object>> schemaResponseCopyFields = this.getSchemaResponseCopyFields(solrSchema, schemaResponse, solrClient);
+        if (size(solrSchema.getCopyFields()) != size(schemaResponseCopyFields)) {
+            return false;
+        }
+        if (schemaResponseCopyFields == null) {
+            return true;
+        }
 
-            fieldValidationResult.addAttributeValidation(AttributesValidator.validate(eachFieldEntry.getValue(), schemaResponseField));
+        for (Map<String, Object> eachSchemaResponseCopyField : schemaResponseCopyFields) {
+            if (!containsEqualCopyField(solrSchema.getCopyFields(getSource(eachSchemaResponseCopyField)), eachSchemaResponseCopyField)) {
+                return false;
+            }
+        }
+        return true;
+    }
 
-            result.addFieldsModified(fieldValidationResult);
+    private static boolean containsEqualCopyField(List<Map<String, Object>> copyFields, Map<String, Object> schemaResponseCopyField) {
+        String dest = getDest(schemaResponseCopyField);
+        for (Map<String, Object> eachCopyField : copyFields) {
+            if (dest.equals(getDest(eachCopyField))) {
+                return AttributesValidator.hasEqualValues(eachCopyField, schemaResponseCopyField);
+            }
         }
+        return false;
+    }
+
+    private static String getSource(Map<String, Object> copyField) {
+        return String.valueOf(copyField.get(SOURCE_ATTRIBUTE));
+    }
+
+    private static String getDest(Map<String, Object> copyField) {
+        return String.valueOf(copyField.get(DEST_ATTRIBUTE));
+    }
+
+    private static FieldAttributesValidationResult createFieldValidationResult(Map<String, Object> copyField) {
+        FieldAttributesValidationResult result = new FieldAttributesValidationResult();
+        result.setName(getSource(copyField));
+        result.setClassName((String) copyField.get(CLASS_ATTRIBUTE));
+        return result;
+    }
 
-        namedSchemaResponseFields.entrySet().forEach(es -> {
-            FieldAttributesValidationResult fieldValidationResult = new FieldAttributesValidationResult();
-            fieldValidationResult.setName((String) es.getValue().get(NAME_ATTRIBUTE));
-            fieldValidationResult.setClassName((String) es.getValue().get(CLASS_ATTRIBUTE));
-            es.getValue()
-                .entrySet()
-                .stream()
-                .filter(vs -> !NAME_ATTRIBUTE.equalsIgnoreCase(vs.getKey()))
-                .filter(vs -> !CLASS_ATTRIBUTE.equalsIgnoreCase(vs.getKey()))
-                .forEach(vs -> fieldValidationResult.addAttributeStillInSolr(vs.getKey(), vs.getValue()));
-            result.addFieldStillInSolr(fieldValidationResult);
+    protected final void extractCopyFieldsValidation(AbstractFieldsValidationResult result, List<Map<String, Object>> copyFields,
+        List<Map<String, Object>> schemaResponseCopyFields) {
+        SortedMergeDiff.diff(copyFields, schemaResponseCopyFields, BY_SOURCE_AND_DEST, new SortedMergeDiff.DiffHandler<Map<String, Object>>() {
+
+            @Override
+            public void onlyInSchema(Map<String, Object> copyField) {
+                FieldAttributesValidationResult fieldValidationResult = createFieldValidationResult(copyField);
+                addAttributesOnlyInSchema(fieldValidationResult, copyField);
+                result.addFieldsOnlyInSchema(fieldValidationResult);
+            }
+
+            @Override
+            public void inBoth(Map<String, Object> copyField, Map<String, Object> schemaResponseCopyField) {
+                if (AttributesValidator.hasEqualValues(copyField, schemaResponseCopyField)) {
+                    // an unchanged copy field is not reported, so it is neither named nor validated
+                    return;
+                }
+
+                FieldAttributesValidationResult fieldValidationResult = createFieldValidationResult(copyField);
+                fieldValidationResult.addAttributeValidation(
+                    AttributesValidator.validate(new NamedCopyField(copyField), new NamedCopyField(schemaResponseCopyField)));
+                result.addFieldsModified(fieldValidationResult);
+            }
+
+            @Override
+            public void stillInSolr(Map<String, Object> schemaResponseCopyField) {
+                FieldAttributesValidationResult fieldValidationResult = createFieldValidationResult(schemaResponseCopyField);
+                addAttributesStillInSolr(fieldValidationResult, schemaResponseCopyField);
+                result.addFieldStillInSolr(fieldValidationResult);
+            }
         });
     }
 
-    private Map<String, Map<String, Object>> map(List<Map<String, Object>> list) {
-        Map<String, Map<String, Object>> result = new HashMap<>();
+    // copy fields have no name, the source is used as name of the validated attributes
+    private static final class NamedCopyField extends AbstractMap<String, Object> {
+
+        private final Map<String, Object> attributes;
 
-        if (list == null) {
-            return result;
+        NamedCopyField(Map<String, Object> copyField) {
+            Map<String, Object> namedAttributes = new LinkedHashMap<>(copyField.size() + 1);
+            namedAttributes.put(NAME_ATTRIBUTE, getSource(copyField));
+            for (Entry<String, Object> eachAttribute : copyField.entrySet()) {
+                namedAttributes.putIfAbsent(eachAttribute.getKey(), eachAttribute.getValue());
+            }
+            this.attributes = Collections.unmodifiableMap(namedAttributes);
         }
 
-        for (Map<String, Object> eachCopyFieldAttributes : list) {
-            String source = String.valueOf(eachCopyFieldAttributes.get("source"));
-            String dest = String.valueOf(eachCopyFieldAttributes.get("dest"));
-            String name = source + "|" + dest;
-            eachCopyFieldAttributes.put(NAME_ATTRIBUTE, source);
-            result.put(name, eachCopyFieldAttributes);
+        @Override
+        public Object get(Object key) {
+            return this.attributes.get(key);
         }
 
-        return result;
+        @Override
+        public boolean containsKey(Object key) {
+            return this.attributes.containsKey(key);
+        }
+
+        @Override
+        public int size() {
+            return this.attributes.size();
+        }
+
+        @Override
+        public Set<Entry<String, Object>> entrySet() {
+            return this.attributes.entrySet();
+        }
     }
 }
@@ -34,21 +34,29 @@ public class SchemaDynamicFieldsValidation extends AbstractSchemaAbstractFieldsV
         return SchemaCheck.DYNAMIC_FIELDS;
     }
 
-    @Override
-    public DynamicFieldsValidationResult validate(SolrSchema solrSchema, SchemaResponse schemaResponse, SolrClient solrClient)
-        throws SolrSchemaException {
-        List<Map<String, Object>> schemaResponseFields;
-
+    private List<Map<String, Object>> getSchemaResponseFields(SolrSchema solrSchema, SchemaResponse schemaResponse,
+        SolrClient solrClient) throws SolrSchemaException {
         if (schemaResponse == null) {
-            schemaResponseFields = process(solrSchema.getCollectionName(),
+            return process(solrSchema.getCollectionName(),
                 new SchemaRequest.DynamicFields(),
                 solrClient).getDynamicFields();
-        } else {
-            schemaResponseFields = schemaResponse.getSchemaRepresentation().getDynamicFields();
         }
+        return schemaResponse.getSchemaRepresentation().getDynamicFields();
+    }
+
+    @Override
+    public DynamicFieldsValidationResult validate(SolrSchema solrSchema, SchemaResponse schemaResponse, SolrClient solrClient)
+        throws SolrSchemaException {
+        List<Map<String, Object>> schemaResponseFields = this.getSchemaResponseFields(solrSchema, schemaResponse, solrClient);
 
         DynamicFieldsValidationResult result = new DynamicFieldsValidationResult();
         extractSchemaValidations(result, solrSchema.getDynamicFields(), schemaResponseFields);
         return result;
     }
+
+    @Override
+    public boolean isInSync(SolrSchema solrSchema, SchemaResponse schemaResponse, SolrClient solrClient) throws SolrSchemaException {
+        return isInSync(solrSchema.getDynamicFields(), this.getSchemaResponseFields(solrSchema, schemaResponse, solrClient),
+            solrSchema::getDynamicField);
+    }
 }
@@ -22,11 +22,13 @@ import static java.util.Optional.*;
 
 import java.util.*;
 import java.util.function.Consumer;
+import java.util.function.Predicate;
 
 import com.indoqa.solr.utils.validation.SchemaCheck;
 import com.indoqa.solr.utils.validation.SolrSchema;
 import com.indoqa.solr.utils.validation.SolrSchemaException;
 import com.indoqa.solr.utils.validation.results.*;
+import com.indoqa.solr.utils.validation.schema.FieldTypeHash;
 import org.apache.solr.client.solrj.SolrClient;
 import org.apache.solr.client.solrj.request.schema.AnalyzerDefinition;
 import org.apache.solr.client.solrj.request.schema.FieldTypeDefinition;
@@ -35,79 +37,139 @@ import org.apache.solr.client.solrj.response.schema.SchemaResponse;
 
 public class SchemaFieldTypesValidation extends AbstractSchemaAbstractFieldsValidation<FieldTypesValidationResult> {
 
+    private static final Comparator<FieldTypeDefinition> BY_NAME = Comparator.comparing(SchemaFieldTypesValidation::getName);
+
     @Override
     public SchemaCheck getSchemaCheck() {
         return SchemaCheck.FIELD_TYPES;
     }
 
+    private List<? extends FieldTypeDefinition> getSchemaResponseFieldTypes(SolrSchema solrSchema, SchemaResponse schemaResponse,
+        SolrClient solrClient) throws SolrSchemaException {
+        if (schemaResponse == null) {
+            return process(solrSchema.getCollectionName(), new SchemaRequest.FieldTypes(), solrClient).getFieldTypes();
+        }
+        return schemaResponse.getSchemaRepresentation().getFieldTypes();
+    }
+
     @Override
     public FieldTypesValidationResult validate(SolrSchema solrSchema, SchemaResponse schemaResponse, SolrClient solrClient)
         throws SolrSchemaException {
-        List<? extends FieldTypeDefinition> schemaResponseFields;
-
-        if (schemaResponse == null) {
-            schemaResponseFields = process(solrSchema.getCollectionName(), new SchemaRequest.FieldTypes(), solrClient).getFieldTypes();
-        } else {
-            schemaResponseFields = schemaResponse.getSchemaRepresentation().getFieldTypes();
-        }
+        List<? extends FieldTypeDefinition> schemaResponseFields = this.getSchemaResponseFieldTypes(solrSchema, schemaResponse,
+            solrClient);
 
         List<FieldTypeDefinition> fieldTypes = solrSchema.getFieldTypes();
 
         FieldTypesValidationResult result = new FieldTypesValidationResult();
-        extractFieldTypeValidations(result, fieldTypes, schemaResponseFields);
+        extractFieldTypeValidations(result, solrSchema, fieldTypes, schemaResponseFields);
         return result;
     }
 
-    private void extractFieldTypeValidations(FieldTypesValidationResult result, List<FieldTypeDefinition> schemaFieldTypes,
-        List<? extends FieldTypeDefinition> solr) {
+    @Override
+    public boolean isInSync(SolrSchema solrSchema, SchemaResponse schemaResponse, SolrClient solrClient) throws SolrSchemaException {
+        List<? extends FieldTypeDefinition> schemaResponseFieldTypes = this.getSchemaResponseFieldTypes(solrSchema, schemaResponse,
+            solrClient);
+        if (size(solrSchema.getFieldTypes()) != size(schemaResponseFieldTypes)) {
+            return false;
+        }
+        if (schemaResponseFieldTypes == null) {
+            return true;
+        }
 
-        Map<String, FieldTypeDefinition> solrFieldTypes = map(solr);
+        for (FieldTypeDefinition eachSchemaResponseFieldType : schemaResponseFieldTypes) {
+            Optional<FieldTypeDefinition> fieldType = solrSchema.getFieldType(getName(eachSchemaResponseFieldType));
+            if (!fieldType.isPresent()) {
+                return false;
+            }
 
-        for (FieldTypeDefinition fieldType : schemaFieldTypes) {
-            String name = (String) fieldType.getAttributes().get(NAME_ATTRIBUTE);
-            FieldTypeDefinition remove = solrFieldTypes.remove(name);
+            FieldTypeHash schemaHash = solrSchema.getFieldTypeHash(fieldType.get());
+            FieldTypeHash solrHash = FieldTypeHash.of(eachSchemaResponseFieldType);
+            if (schemaHash.isEqual(solrHash)) {
+                continue;
+            }
+            // field types without a comparable hash can still be equal, they are validated completely
+            if (!this.validateModifiedFieldType(fieldType.get(), eachSchemaResponseFieldType, schemaHash, solrHash).isEmpty()) {
+                return false;
+            }
+        }
+        return true;
+    }
 
-            FieldTypeValidationResult fieldValidationResult = new FieldTypeValidationResult();
-            fieldValidationResult.setName(name);
-            fieldValidationResult.setValuesOrigin(ValuesOrigin.BOTH);
+    private FieldTypeValidationResult validateModifiedFieldType(FieldTypeDefinition fieldType, FieldTypeDefinition solrFieldType,
+        FieldTypeHash schemaHash, FieldTypeHash solrHash) {
+        FieldTypeValidationResult result = new FieldTypeValidationResult();
+        result.setName((String) fieldType.getAttributes().get(NAME_ATTRIBUTE));
+        result.setValuesOrigin(ValuesOrigin.BOTH);
+        result.addAttributeValidation(AttributesValidator.validate(fieldType.getAttributes(), solrFieldType.getAttributes()));
+        modifiedAnalyzers(result, fieldType, solrFieldType, schemaHash, solrHash);
+        result.addSimilarityValidation(AttributesValidator.validate(fieldType.getSimilarity(), solrFieldType.getSimilarity()));
+        return result;
+    }
+
+    private static String getName(FieldTypeDefinition fieldType) {
+        return String.valueOf(fieldType.getAttributes().get(NAME_ATTRIBUTE));
+    }
 
-            if (remove == null) {
-                fieldValidationResult.addAttributeValidation(AttributesValidator.validate(fieldType.getAttributes(),
-                    emptyMap()));
+    private void extractFieldTypeValidations(FieldTypesValidationResult result, SolrSchema solrSchema,
+        List<FieldTypeDefinition> schemaFieldTypes, List<? extends FieldTypeDefinition> solr) {
+        SortedMergeDiff.diff(schemaFieldTypes, solr, BY_NAME, new SortedMergeDiff.DiffHandler<FieldTypeDefinition>() {
+
+            @Override
+            public void onlyInSchema(FieldTypeDefinition fieldType) {
+                FieldTypeValidationResult fieldValidationResult = new FieldTypeValidationResult();
+                fieldValidationResult.setName((String) fieldType.getAttributes().get(NAME_ATTRIBUTE));
+                fieldValidationResult.addAttributeValidation(AttributesValidator.validate(fieldType.getAttributes(), emptyMap()));
                 fieldValidationResult.setValuesOrigin(ValuesOrigin.ONLY_IN_SCHEMA);
                 result.addFieldsOnlyInSchema(fieldValidationResult);
                 onlyInSchemaAnalyzers(fieldValidationResult, fieldType);
                 fieldValidationResult.addSimilarityValidation(AttributesValidator.validate(fieldType.getSimilarity(), emptyMap()));
-                continue;
             }
 
-            fieldValidationResult.addAttributeValidation(AttributesValidator.validate(fieldType.getAttributes(),
-                remove.getAttributes()));
-
-            result.addFieldsModified(fieldValidationResult);
-            modifiedAnalyzers(fieldValidationResult, fieldType, remove);
-            fieldValidationResult.addSimilarityValidation(AttributesValidator.validate(fieldType.getSimilarity(), remove.getSimilarity()));
-        }
+            @Override
+            public void inBoth(FieldTypeDefinition fieldType, FieldTypeDefinition solrFieldType) {
+                FieldTypeHash schemaHash = solrSchema.getFieldTypeHash(fieldType);
+                FieldTypeHash solrHash = FieldTypeHash.of(solrFieldType);
+                if (schemaHash.isEqual(solrHash)) {
+                    // unchanged field types cannot contain differences, their analyzers are not compared
+                    return;
+                }
 
-        for (Map.Entry<String, FieldTypeDefinition> entry : solrFieldTypes.entrySet()) {
-            FieldTypeValidationResult fieldValidationResult = new FieldTypeValidationResult();
-            fieldValidationResult.setValuesOrigin(ValuesOrigin.STILL_IN_SOLR);
-            fieldValidationResult.setName(entry.getKey());
-            FieldTypeDefinition value = entry.getValue();
-            fieldValidationResult.addAttributeValidation(AttributesValidator.validate(emptyMap(), value.getAttributes()));
-            result.addFieldStillInSolr(fieldValidationResult);
-            stillInSolrAnalyzers(fieldValidationResult, entry.getValue());
-            fieldValidationResult.addSimilarityValidation(AttributesValidator.validate(emptyMap(), value.getSimilarity()));
-        }
+                // the field type is added after its analyzers and similarity were validated, otherwise changes only there are lost
+                result.addFieldsModified(validateModifiedFieldType(fieldType, solrFieldType, schemaHash, solrHash));
+            }
 
+            @Override
+            public void stillInSolr(FieldTypeDefinition solrFieldType) {
+                FieldTypeValidationResult fieldValidationResult = new FieldTypeValidationResult();
+                fieldValidationResult.setValuesOrigin(ValuesOrigin.STILL_IN_SOLR);
+                fieldValidationResult.setName(getName(solrFieldType));
+                fieldValidationResult.addAttributeValidation(AttributesValidator.validate(emptyMap(), solrFieldType.getAttributes()));
+                result.addFieldStillInSolr(fieldValidationResult);
+                stillInSolrAnalyzers(fieldValidationResult, solrFieldType);
+                fieldValidationResult.addSimilarityValidation(AttributesValidator.validate(emptyMap(), solrFieldType.getSimilarity()));
+            }
+        });
     }
 
     private void analyzers(Consumer<AnalyzerValidationResult> consumer, Optional<FieldTypeDefinition> schema, Optional<FieldTypeDefinition> solr) {
+        analyzers(consumer, schema, solr, analyzerType -> true);
+    }
+
+    private void analyzers(Consumer<AnalyzerValidationResult> consumer, Optional<FieldTypeDefinition> schema, Optional<FieldTypeDefinition> solr,
+        Predicate<String> isChanged) {
         //Solr ignores index if default is defined
-        consumer.accept(validateAnalyzer(DEFAULT_ANALYZER, getAnalyzer(schema), getAnalyzer(solr)));
-        consumer.accept(validateAnalyzer(INDEX_ANALYZER, getIndexAnalyzer(schema), getIndexAnalyzer(solr)));
-        consumer.accept(validateAnalyzer(QUERY_ANALYZER, getQueryAnalyzer(schema), getQueryAnalyzer(solr)));
-        consumer.accept(validateAnalyzer(MULTITERM_ANALYZER, getMultiTermAnalyzer(schema), getMultiTermAnalyzer(solr)));
+        if (isChanged.test(DEFAULT_ANALYZER)) {
+            consumer.accept(validateAnalyzer(DEFAULT_ANALYZER, getAnalyzer(schema), getAnalyzer(solr)));
+        }
+        if (isChanged.test(INDEX_ANALYZER)) {
+            consumer.accept(validateAnalyzer(INDEX_ANALYZER, getIndexAnalyzer(schema), getIndexAnalyzer(solr)));
+        }
+        if (isChanged.test(QUERY_ANALYZER)) {
+            consumer.accept(validateAnalyzer(QUERY_ANALYZER, getQueryAnalyzer(schema), getQueryAnalyzer(solr)));
+        }
+        if (isChanged.test(MULTITERM_ANALYZER)) {
+            consumer.accept(validateAnalyzer(MULTITERM_ANALYZER, getMultiTermAnalyzer(schema), getMultiTermAnalyzer(solr)));
+        }
     }
 
     private Optional<AnalyzerDefinition> getAnalyzer(Optional<FieldTypeDefinition> typeDefinition) {
@@ -123,8 +185,10 @@ public class SchemaFieldTypesValidation extends AbstractSchemaAbstractFieldsVali
         return ofNullable(typeDefinition.map(FieldTypeDefinition::getMultiTermAnalyzer).orElse(null));
     }
 
-    private void modifiedAnalyzers(FieldTypeValidationResult result, FieldTypeDefinition schema, FieldTypeDefinition solr) {
-        analyzers(result::addAnalyzerModified, ofNullable(schema),ofNullable(solr));
+    private void modifiedAnalyzers(FieldTypeValidationResult result, FieldTypeDefinition schema, FieldTypeDefinition solr,
+        FieldTypeHash schemaHash, FieldTypeHash solrHash) {
+        analyzers(result::addAnalyzerModified, ofNullable(schema), ofNullable(solr),
+            analyzerType -> !schemaHash.hasEqualAnalyzer(analyzerType, solrHash));
     }
 
     private void stillInSolrAnalyzers(FieldTypeValidationResult result, FieldTypeDefinition solr) {
@@ -169,6 +233,9 @@ public class SchemaFieldTypesValidation extends AbstractSchemaAbstractFieldsVali
                     validateCharFilterOnlyInSchema(result, className, eachSchemaCharFilter.getValue());
                     continue;
                 }
+                if (AttributesValidator.isEqual(eachSchemaCharFilter.getValue(), solrCharFilter)) {
+                    continue;
+                }
 
                 CharFilterValidationResult validationResult = new CharFilterValidationResult();
                 validationResult.setClassName(className);
@@ -225,6 +292,9 @@ public class SchemaFieldTypesValidation extends AbstractSchemaAbstractFieldsVali
                     validateFilterOnlyInSchema(result, eachSchemaCharFilter.getKey(), eachSchemaCharFilter.getValue());
                     continue;
                 }
+                if (AttributesValidator.isEqual(eachSchemaCharFilter.getValue(), solrFilter)) {
+                    continue;
+                }
 
                 FilterValidationResult validationResult = new FilterValidationResult();
                 validationResult.setClassName(className);
@@ -304,15 +374,4 @@ public class SchemaFieldTypesValidation extends AbstractSchemaAbstractFieldsVali
 
         return result;
     }
-
-    private Map<String, FieldTypeDefinition> map(List<? extends FieldTypeDefinition> schemaResponseFields) {
-        Map<String, FieldTypeDefinition> result = new HashMap<>();
-
-        for (FieldTypeDefinition eachFieldType : schemaResponseFields) {
-            String name = String.valueOf(eachFieldType.getAttributes().get(NAME_ATTRIBUTE));
-            result.put(name, eachFieldType);
-        }
-
-        return result;
-    }
 }
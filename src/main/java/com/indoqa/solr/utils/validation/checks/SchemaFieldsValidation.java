@@ -34,19 +34,27 @@ public class SchemaFieldsValidation extends AbstractSchemaAbstractFieldsValidati
         return SchemaCheck.FIELDS;
     }
 
+    private List<Map<String, Object>> getSchemaResponseFields(SolrSchema solrSchema, SchemaResponse schemaResponse,
+        SolrClient solrClient) throws SolrSchemaException {
+        if (schemaResponse == null) {
+            return process(solrSchema.getCollectionName(), new SchemaRequest.Fields(), solrClient).getFields();
+        }
+        return schemaResponse.getSchemaRepresentation().getFields();
+    }
+
     @Override
     public FieldsValidationResult validate(SolrSchema solrSchema, SchemaResponse schemaResponse, SolrClient solrClient)
         throws SolrSchemaException {
-        List<Map<String, Object>> schemaResponseFields;
-
-        if (schemaResponse == null) {
-            schemaResponseFields = process(solrSchema.getCollectionName(), new SchemaRequest.Fields(), solrClient).getFields();
-        } else {
-            schemaResponseFields = schemaResponse.getSchemaRepresentation().getFields();
-        }
+        List<Map<String, Object>> schemaResponseFields = this.getSchemaResponseFields(solrSchema, schemaResponse, solrClient);
 
         FieldsValidationResult result = new FieldsValidationResult();
         extractSchemaValidations(result, solrSchema.getFields(), schemaResponseFields);
         return result;
     }
+
+    @Override
+    public boolean isInSync(SolrSchema solrSchema, SchemaResponse schemaResponse, SolrClient solrClient) throws SolrSchemaException {
+        return isInSync(solrSchema.getFields(), this.getSchemaResponseFields(solrSchema, schemaResponse, solrClient),
+            solrSchema::getField);
+    }
 }
@@ -16,6 +16,8 @@
  */
 package com.indoqa.solr.utils.validation.checks;
 
+import java.util.Objects;
+
 import com.indoqa.solr.utils.validation.SchemaCheck;
 import com.indoqa.solr.utils.validation.SolrSchema;
 import com.indoqa.solr.utils.validation.SolrSchemaException;
@@ -31,18 +33,25 @@ public class SchemaNameValidation implements SchemaValidation<SchemaNameValidati
         return SchemaCheck.NAME;
     }
 
-    @Override
-    public SchemaNameValidationResult validate(SolrSchema solrSchema, SchemaResponse schemaResponse, SolrClient solrClient)
+    private String getResponseSchemaName(SolrSchema solrSchema, SchemaResponse schemaResponse, SolrClient solrClient)
         throws SolrSchemaException {
-        String responseSchemaName;
-
         if (schemaResponse == null) {
-            responseSchemaName = process(solrSchema.getCollectionName(), new SchemaRequest.SchemaName(), solrClient).getSchemaName();
-        } else {
-            responseSchemaName = schemaResponse.getSchemaRepresentation().getName();
+            return process(solrSchema.getCollectionName(), new SchemaRequest.SchemaName(), solrClient).getSchemaName();
         }
+        return schemaResponse.getSchemaRepresentation().getName();
+    }
+
+    @Override
+    public SchemaNameValidationResult validate(SolrSchema solrSchema, SchemaResponse schemaResponse, SolrClient solrClient)
+        throws SolrSchemaException {
+        String responseSchemaName = this.getResponseSchemaName(solrSchema, schemaResponse, solrClient);
 
         String schemaName = solrSchema.getName();
         return new SchemaNameValidationResult(schemaName, responseSchemaName);
     }
+
+    @Override
+    public boolean isInSync(SolrSchema solrSchema, SchemaResponse schemaResponse, SolrClient solrClient) throws SolrSchemaException {
+        return Objects.equals(solrSchema.getName(), this.getResponseSchemaName(solrSchema, schemaResponse, solrClient));
+    }
 }
@@ -16,6 +16,8 @@
  */
 package com.indoqa.solr.utils.validation.checks;
 
+import java.util.Objects;
+
 import com.indoqa.solr.utils.validation.SchemaCheck;
 import com.indoqa.solr.utils.validation.SolrSchema;
 import com.indoqa.solr.utils.validation.SolrSchemaException;
@@ -31,18 +33,25 @@ public class SchemaUniqueKeyValidation implements SchemaValidation<SchemaUniqueK
         return SchemaCheck.UNIQUE_KEY;
     }
 
-    @Override
-    public SchemaUniqueKeyValidationResult validate(SolrSchema solrSchema, SchemaResponse schemaResponse, SolrClient solrClient)
+    private String getResponseUniqueKey(SolrSchema solrSchema, SchemaResponse schemaResponse, SolrClient solrClient)
         throws SolrSchemaException {
-        String responseUniqueKey;
-
         if (schemaResponse == null) {
-            responseUniqueKey = process(solrSchema.getCollectionName(), new SchemaRequest.UniqueKey(), solrClient).getUniqueKey();
-        } else {
-            responseUniqueKey = schemaResponse.getSchemaRepresentation().getUniqueKey();
+            return process(solrSchema.getCollectionName(), new SchemaRequest.UniqueKey(), solrClient).getUniqueKey();
         }
+        return schemaResponse.getSchemaRepresentation().getUniqueKey();
+    }
+
+    @Override
+    public SchemaUniqueKeyValidationResult validate(SolrSchema solrSchema, SchemaResponse schemaResponse, SolrClient solrClient)
+        throws SolrSchemaException {
+        String responseUniqueKey = this.getResponseUniqueKey(solrSchema, schemaResponse, solrClient);
 
         String schemaUniqueKey = solrSchema.getUniqueKey();
         return new SchemaUniqueKeyValidationResult(schemaUniqueKey, responseUniqueKey);
     }
+
+    @Override
+    public boolean isInSync(SolrSchema solrSchema, SchemaResponse schemaResponse, SolrClient solrClient) throws SolrSchemaException {
+        return Objects.equals(solrSchema.getUniqueKey(), this.getResponseUniqueKey(solrSchema, schemaResponse, solrClient));
+    }
 }
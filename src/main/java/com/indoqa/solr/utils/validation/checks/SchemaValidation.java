@@ -48,4 +48,8 @@ public interface SchemaValidation<V extends AbstractValidationResult> {
 
     V validate(SolrSchema solrSchema, SchemaResponse schemaResponse, SolrClient solrClient) throws SolrSchemaException;
 
+    default boolean isInSync(SolrSchema solrSchema, SchemaResponse schemaResponse, SolrClient solrClient) throws SolrSchemaException {
+        return this.validate(solrSchema, schemaResponse, solrClient).isEmpty();
+    }
+
 }
@@ -31,20 +31,28 @@ public class SchemaVersionValidation implements SchemaValidation<SchemaVersionVa
         return SchemaCheck.VERSION;
     }
 
-    @Override
-    public SchemaVersionValidationResult validate(SolrSchema solrSchema, SchemaResponse schemaResponse, SolrClient solrClient)
+    private Float getResponseSchemaVersion(SolrSchema solrSchema, SchemaResponse schemaResponse, SolrClient solrClient)
         throws SolrSchemaException {
-        Float responseSchemaVersion;
         if (schemaResponse == null) {
-            responseSchemaVersion = process(
+            return process(
                 solrSchema.getCollectionName(),
                 new SchemaRequest.SchemaVersion(),
                 solrClient).getSchemaVersion();
-        } else {
-            responseSchemaVersion = schemaResponse.getSchemaRepresentation().getVersion();
         }
+        return schemaResponse.getSchemaRepresentation().getVersion();
+    }
+
+    @Override
+    public SchemaVersionValidationResult validate(SolrSchema solrSchema, SchemaResponse schemaResponse, SolrClient solrClient)
+        throws SolrSchemaException {
+        Float responseSchemaVersion = this.getResponseSchemaVersion(solrSchema, schemaResponse, solrClient);
 
         Float schemaVersion = solrSchema.getVersion();
         return new SchemaVersionValidationResult(schemaVersion, responseSchemaVersion);
     }
+
+    @Override
+    public boolean isInSync(SolrSchema solrSchema, SchemaResponse schemaResponse, SolrClient solrClient) throws SolrSchemaException {
+        return Float.compare(solrSchema.getVersion(), this.getResponseSchemaVersion(solrSchema, schemaResponse, solrClient)) == 0;
+    }
 }
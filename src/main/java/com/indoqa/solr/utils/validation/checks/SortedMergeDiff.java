@@ -0,0 +1,82 @@
+/*
+ *   Licensed to the Indoqa Software Design und Beratung GmbH (Indoqa) under
+ *   one or more contributor license agreements. See the NOTICE file distributed
+ *   with this work for additional information regarding copyright ownership.
+ *   Indoqa licenses this file to You under the Apache License, Version 2.0
+ *   (the "License"); you may not use this file except in compliance with
+ *   the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.indoqa.solr.utils.validation.checks;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+public final class SortedMergeDiff {
+
+    private SortedMergeDiff() {
+        // hide constructor
+    }
+
+    public static <E> void diff(Collection<? extends E> schema, Collection<? extends E> solr, Comparator<? super E> order,
+        DiffHandler<E> diffHandler) {
+        List<E> sortedSchema = sort(schema, order);
+        List<E> sortedSolr = sort(solr, order);
+
+        int schemaIndex = 0;
+        int solrIndex = 0;
+        while (schemaIndex < sortedSchema.size() && solrIndex < sortedSolr.size()) {
+            E schemaElement = sortedSchema.get(schemaIndex);
+            E solrElement = sortedSolr.get(solrIndex);
+
+            int comparison = order.compare(schemaElement, solrElement);
+            if (comparison < 0) {
+                diffHandler.onlyInSchema(schemaElement);
+                schemaIndex++;
+            } else if (comparison > 0) {
+                diffHandler.stillInSolr(solrElement);
+                solrIndex++;
+            } else {
+                diffHandler.inBoth(schemaElement, solrElement);
+                schemaIndex++;
+                solrIndex++;
+            }
+        }
+
+        for (; schemaIndex < sortedSchema.size(); schemaIndex++) {
+            diffHandler.onlyInSchema(sortedSchema.get(schemaIndex));
+        }
+        for (; solrIndex < sortedSolr.size(); solrIndex++) {
+            diffHandler.stillInSolr(sortedSolr.get(solrIndex));
+        }
+    }
+
+    private static <E> List<E> sort(Collection<? extends E> elements, Comparator<? super E> order) {
+        if (elements == null) {
+            return new ArrayList<>(0);
+        }
+
+        // only the references are copied, sorting an already sorted list is a single linear pass
+        List<E> result = new ArrayList<>(elements);
+        result.sort(order);
+        return result;
+    }
+
+    public interface DiffHandler<E> {
+
+        void onlyInSchema(E schemaElement);
+
+        void inBoth(E schemaElement, E solrElement);
+
+        void stillInSolr(E solrElement);
+    }
+}
@@ -17,21 +17,31 @@
 package com.indoqa.solr.utils.validation.classpath;
 
 import java.io.IOException;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
 import javax.annotation.PostConstruct;
 
+import com.indoqa.solr.utils.validation.SchemaCheck;
 import com.indoqa.solr.utils.validation.SchemaCheckConfiguration;
 import com.indoqa.solr.utils.validation.SchemaErrorHandling;
+import com.indoqa.solr.utils.validation.SolrSchema;
 import com.indoqa.solr.utils.validation.SolrSchemaChecker;
 import com.indoqa.solr.utils.validation.SolrSchemaException;
 import com.indoqa.solr.utils.validation.checks.*;
 import com.indoqa.solr.utils.validation.results.SchemaValidationResult;
 import com.indoqa.solr.utils.validation.results.AbstractValidationResult;
+import com.indoqa.solr.utils.validation.results.ErrorMessageWriter;
+import com.indoqa.solr.utils.validation.schema.SchemaFingerprints;
+import com.indoqa.solr.utils.validation.schema.StringPool;
 import org.apache.solr.client.solrj.SolrClient;
+import org.apache.solr.client.solrj.SolrRequest.METHOD;
 import org.apache.solr.client.solrj.SolrServerException;
+import org.apache.solr.client.solrj.request.GenericSolrRequest;
 import org.apache.solr.client.solrj.request.schema.SchemaRequest;
 import org.apache.solr.client.solrj.response.schema.SchemaResponse;
+import org.apache.solr.common.SolrException;
+import org.apache.solr.common.params.ModifiableSolrParams;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -39,23 +49,25 @@ public class ClasspathSolrSchemaChecker implements SolrSchemaChecker<SchemaValid
 
     private static final Logger LOGGER = LoggerFactory.getLogger(ClasspathSolrSchemaChecker.class);
 
+    private static final String SCHEMA_ZK_VERSION_PATH = "/schema/zkversion";
+    private static final String ZK_VERSION = "zkversion";
+
     private SolrClientCheckConfiguration[] solrClientValidationConfigurations;
 
-    private List<SchemaValidation> schemaValidations = new ArrayList<>();
+    private List<SchemaValidation> schemaValidations = SchemaValidations.createAll();
     private SchemaErrorHandling schemaErrorHandling;
 
+    private ExecutorService executorService;
+    private int parallelism;
+    private SchemaFingerprintStore fingerprintStore;
+    private ExecutorService validationExecutorService;
+    private int maxErrorMessageEntries = ErrorMessageWriter.UNLIMITED_ENTRIES;
+    private final Set<SolrClient> clientsWithoutZkVersion = Collections.synchronizedSet(
+        Collections.newSetFromMap(new WeakHashMap<>()));
+
     public ClasspathSolrSchemaChecker(SchemaErrorHandling errorHandling,
         SolrClientCheckConfiguration... solrClientValidationConfigurations) {
         this.solrClientValidationConfigurations = solrClientValidationConfigurations;
-
-        this.schemaValidations.add(new SchemaNameValidation());
-        this.schemaValidations.add(new SchemaVersionValidation());
-        this.schemaValidations.add(new SchemaUniqueKeyValidation());
-        this.schemaValidations.add(new SchemaFieldsValidation());
-        this.schemaValidations.add(new SchemaDynamicFieldsValidation());
-        this.schemaValidations.add(new SchemaCopyFieldsValidation());
-        this.schemaValidations.add(new SchemaFieldTypesValidation());
-
         this.schemaErrorHandling = errorHandling;
     }
 
@@ -69,24 +81,129 @@ public class ClasspathSolrSchemaChecker implements SolrSchemaChecker<SchemaValid
             throw new IllegalArgumentException("No solr client validation config(s) defined. Can not check validity of Solr server.");
         }
 
+        SchemaCheckerValidationResult result;
+        if (this.executorService != null) {
+            result = this.validateInParallel(this.executorService);
+        } else if (this.parallelism > 1 && solrClientValidationConfigurations.length > 1) {
+            ExecutorService ownExecutorService = createExecutorService(
+                Math.min(this.parallelism, solrClientValidationConfigurations.length));
+            try {
+                result = this.validateInParallel(ownExecutorService);
+            } finally {
+                ownExecutorService.shutdownNow();
+            }
+        } else {
+            result = this.validateSequentially();
+        }
+
+        StringPool stringPool = StringPool.getInstance();
+        LOGGER.debug("Checked {} Solr schemas, {} duplicate schema strings were shared, saving about {} bytes.",
+            solrClientValidationConfigurations.length, stringPool.getDeduplicatedCount(), stringPool.getSavedBytes());
+
+        if (!result.isEmpty()) {
+            String errorMessage = ErrorMessageWriter.render(result, this.maxErrorMessageEntries);
+            LOGGER.error(errorMessage);
+            if (shouldThrowException(SchemaErrorHandling.EXCEPTION_AFTER_ALL_CORES)) {
+                throw new SolrSchemaException(errorMessage);
+            }
+        }
+    }
+
+    public void setExecutorService(ExecutorService executorService) {
+        this.executorService = executorService;
+    }
+
+    public void setParallelism(int parallelism) {
+        this.parallelism = parallelism;
+    }
+
+    public void setFingerprintStore(SchemaFingerprintStore fingerprintStore) {
+        this.fingerprintStore = fingerprintStore;
+    }
+
+    public void setValidationExecutorService(ExecutorService validationExecutorService) {
+        this.validationExecutorService = validationExecutorService;
+    }
+
+    public void setMaxErrorMessageEntries(int maxErrorMessageEntries) {
+        this.maxErrorMessageEntries = maxErrorMessageEntries;
+    }
+
+    private static ExecutorService createExecutorService(int threads) {
+        AtomicInteger threadCount = new AtomicInteger();
+        return Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "solr-schema-checker-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    private SchemaCheckerValidationResult validateSequentially() throws SolrSchemaException {
         SchemaCheckerValidationResult result = new SchemaCheckerValidationResult();
         for (SolrClientCheckConfiguration eachValidation : solrClientValidationConfigurations) {
             AbstractValidationResult validation = this.validateSolrSchema(eachValidation.getValidationConfiguration(),
                 eachValidation.getSolrClient());
             result.addValidationResult(validation);
-            if (!result.isEmpty() && shouldThrowException(SchemaErrorHandling.EXCEPTION_AFTER_FIRST_ERRONEOUS_CORE)) {
-                String errorMessage = result.getErrorMessage(0);
-                LOGGER.error(errorMessage);
-                throw new SolrSchemaException(errorMessage);
+            this.checkErroneousCore(result);
+        }
+        return result;
+    }
+
+    private SchemaCheckerValidationResult validateInParallel(Executor executor) throws SolrSchemaException {
+        CompletionService<AbstractValidationResult> completionService = new ExecutorCompletionService<>(executor);
+        Map<Future<AbstractValidationResult>, Integer> futures = new HashMap<>();
+        for (int i = 0; i < solrClientValidationConfigurations.length; i++) {
+            SolrClientCheckConfiguration eachValidation = solrClientValidationConfigurations[i];
+            futures.put(completionService.submit(() -> this.validateSolrSchema(eachValidation.getValidationConfiguration(),
+                eachValidation.getSolrClient())), i);
+        }
+
+        AbstractValidationResult[] validations = new AbstractValidationResult[solrClientValidationConfigurations.length];
+        try {
+            for (int i = 0; i < validations.length; i++) {
+                Future<AbstractValidationResult> future = completionService.take();
+                AbstractValidationResult validation = getValidationResult(future);
+                validations[futures.get(future)] = validation;
+
+                SchemaCheckerValidationResult erroneousCore = new SchemaCheckerValidationResult();
+                erroneousCore.addValidationResult(validation);
+                this.checkErroneousCore(erroneousCore);
             }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SolrSchemaException("Interrupted while checking validity of Solr schemas.", e);
+        } finally {
+            futures.keySet().forEach(future -> future.cancel(true));
         }
 
-        if (!result.isEmpty()) {
-            String errorMessage = result.getErrorMessage(0);
-            LOGGER.error(errorMessage);
-            if (shouldThrowException(SchemaErrorHandling.EXCEPTION_AFTER_ALL_CORES)) {
-                throw new SolrSchemaException(errorMessage);
+        SchemaCheckerValidationResult result = new SchemaCheckerValidationResult();
+        for (AbstractValidationResult eachValidation : validations) {
+            result.addValidationResult(eachValidation);
+        }
+        return result;
+    }
+
+    private static AbstractValidationResult getValidationResult(Future<AbstractValidationResult> future)
+        throws InterruptedException, SolrSchemaException {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof SolrSchemaException) {
+                throw (SolrSchemaException) cause;
             }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new SolrSchemaException("Could not check validity of Solr schema.", cause);
+        }
+    }
+
+    private void checkErroneousCore(SchemaCheckerValidationResult result) throws SolrSchemaException {
+        if (!result.isEmpty() && shouldThrowException(SchemaErrorHandling.EXCEPTION_AFTER_FIRST_ERRONEOUS_CORE)) {
+            String errorMessage = ErrorMessageWriter.render(result, this.maxErrorMessageEntries);
+            LOGGER.error(errorMessage);
+            throw new SolrSchemaException(errorMessage);
         }
     }
 
@@ -98,30 +215,197 @@ public class ClasspathSolrSchemaChecker implements SolrSchemaChecker<SchemaValid
     @Override
     public SchemaValidationResult validateSolrSchema(SchemaCheckConfiguration validationConfiguration, SolrClient solrClient)
         throws SolrSchemaException {
-        SchemaResponse schemaResponse = null;
+        SolrSchema solrSchema = validationConfiguration.getSolrSchema();
+        SchemaValidationResult result = new SchemaValidationResult();
+        result.setCollectionName(solrSchema.getCollectionName());
+
+        FetchedSchema fetchedSchema = this.fetchChangedSchema(validationConfiguration, solrClient);
+        if (fetchedSchema.unchanged) {
+            return result;
+        }
+        SchemaResponse schemaResponse = fetchedSchema.schemaResponse;
+
+        List<SchemaValidation> validations = new ArrayList<>(this.schemaValidations.size());
+        for (SchemaValidation eachSchemaValidation : this.schemaValidations) {
+            if (eachSchemaValidation.shouldBeChecked(validationConfiguration)) {
+                validations.add(eachSchemaValidation);
+            }
+        }
+
+        if (this.validationExecutorService != null && validations.size() > 1) {
+            this.validateConcurrently(validations, solrSchema, schemaResponse, solrClient, result);
+        } else {
+            for (SchemaValidation eachSchemaValidation : validations) {
+                result.addValidationResult(eachSchemaValidation.validate(solrSchema, schemaResponse, solrClient));
+                this.checkFirstError(result);
+            }
+        }
+
+        if (result.isEmpty()) {
+            this.storeFingerprints(fetchedSchema, solrSchema, solrClient);
+        }
+        return result;
+    }
+
+    public boolean isInSync(SchemaCheckConfiguration validationConfiguration, SolrClient solrClient) throws SolrSchemaException {
+        SolrSchema solrSchema = validationConfiguration.getSolrSchema();
+
+        FetchedSchema fetchedSchema = this.fetchChangedSchema(validationConfiguration, solrClient);
+        if (fetchedSchema.unchanged) {
+            return true;
+        }
+        SchemaResponse schemaResponse = fetchedSchema.schemaResponse;
+
+        // stops at the first difference without building any validation results
+        for (SchemaValidation eachSchemaValidation : this.schemaValidations) {
+            if (eachSchemaValidation.shouldBeChecked(validationConfiguration)
+                && !eachSchemaValidation.isInSync(solrSchema, schemaResponse, solrClient)) {
+                LOGGER.debug("Schema of {} differs in {}.", solrSchema.getCollectionName(), eachSchemaValidation.getSchemaCheck());
+                return false;
+            }
+        }
+
+        this.storeFingerprints(fetchedSchema, solrSchema, solrClient);
+        return true;
+    }
+
+    private FetchedSchema fetchChangedSchema(SchemaCheckConfiguration validationConfiguration, SolrClient solrClient)
+        throws SolrSchemaException {
+        SolrSchema solrSchema = validationConfiguration.getSolrSchema();
+        FetchedSchema result = new FetchedSchema();
+
+        if (this.fingerprintStore != null) {
+            result.classpathFingerprint = getClasspathFingerprint(validationConfiguration);
+            result.schemaVersion = this.fetchSchemaVersion(solrClient, solrSchema.getCollectionName());
+            if (result.schemaVersion != null && this.fingerprintStore.matchesSchemaVersion(solrClient,
+                solrSchema.getCollectionName(), result.classpathFingerprint, result.schemaVersion)) {
+                LOGGER.info("Schema of {} is unchanged since its last successful validation (schema version {}).",
+                    solrSchema.getCollectionName(), result.schemaVersion);
+                result.unchanged = true;
+                return result;
+            }
+        }
+
+        result.schemaResponse = fetchSchema(solrSchema, solrClient);
+
+        if (result.classpathFingerprint != null && result.schemaResponse != null) {
+            result.solrFingerprint = SchemaFingerprints.fingerprint(result.schemaResponse.getSchemaRepresentation());
+            if (this.fingerprintStore.matches(solrClient, solrSchema.getCollectionName(), result.classpathFingerprint,
+                result.solrFingerprint)) {
+                LOGGER.info("Schema of {} is unchanged since its last successful validation.", solrSchema.getCollectionName());
+                this.storeFingerprints(result, solrSchema, solrClient);
+                result.unchanged = true;
+                return result;
+            }
+        }
+
+        if (result.schemaResponse == null) {
+            result.schemaResponse = this.fetchSchemaSections(validationConfiguration, solrClient);
+        }
+        // the response is pooled once when it is read, the validations compare the pooled values without copying them again
+        StringPool.getInstance().intern(result.schemaResponse.getSchemaRepresentation());
+        solrSchema.parseSections(validationConfiguration.getSchemaSections());
+        return result;
+    }
+
+    private static String getClasspathFingerprint(SchemaCheckConfiguration validationConfiguration) {
+        // the fingerprint store separates the parts of an entry with spaces, so the checks are joined without them
+        StringJoiner result = new StringJoiner(",", validationConfiguration.getSolrSchema().getFingerprint() + "[", "]");
+        for (SchemaCheck eachSchemaCheck : validationConfiguration.getSolrSchemaChecks()) {
+            result.add(eachSchemaCheck.name());
+        }
+        return result.toString();
+    }
+
+    private void storeFingerprints(FetchedSchema fetchedSchema, SolrSchema solrSchema, SolrClient solrClient) {
+        if (fetchedSchema.solrFingerprint != null) {
+            this.fingerprintStore.store(solrClient, solrSchema.getCollectionName(), fetchedSchema.classpathFingerprint,
+                fetchedSchema.solrFingerprint, fetchedSchema.schemaVersion);
+        }
+    }
+
+    private static SchemaResponse fetchSchema(SolrSchema solrSchema, SolrClient solrClient) throws SolrSchemaException {
         try {
             SchemaRequest schemaRequest = new SchemaRequest();
-            schemaResponse = schemaRequest.process(solrClient);
+            return schemaRequest.process(solrClient);
         } catch (SolrServerException | IOException e) {
             throw new SolrSchemaException("Could not check validity of Solr schema. ", e);
         } catch (ClassCastException e) {
-            LOGGER.warn("Could not read complete schema.xml for {}", validationConfiguration.getSolrSchema().getCollectionName(), e);
+            LOGGER.warn("Could not read complete schema.xml for {}", solrSchema.getCollectionName(), e);
+            return null;
         }
+    }
 
-        SchemaValidationResult result = new SchemaValidationResult();
-        result.setCollectionName(validationConfiguration.getSolrSchema().getCollectionName());
-        for (SchemaValidation eachSchemaValidation : schemaValidations) {
-            if (eachSchemaValidation.shouldBeChecked(validationConfiguration)) {
-                result.addValidationResult(eachSchemaValidation.validate(validationConfiguration.getSolrSchema(),
-                    schemaResponse,
-                    solrClient));
+    private SchemaResponse fetchSchemaSections(SchemaCheckConfiguration validationConfiguration, SolrClient solrClient)
+        throws SolrSchemaException {
+        String collectionName = validationConfiguration.getSolrSchema().getCollectionName();
+        // without a configured executor the sections are requested one after the other instead of starting a pool per core
+        Executor executor = this.validationExecutorService != null ? this.validationExecutorService : Runnable::run;
+        return new SchemaFallbackFetcher(executor).fetch(collectionName, validationConfiguration, solrClient);
+    }
+
+    private void validateConcurrently(List<SchemaValidation> validations, SolrSchema solrSchema, SchemaResponse schemaResponse,
+        SolrClient solrClient, SchemaValidationResult result) throws SolrSchemaException {
+        List<FutureTask<AbstractValidationResult>> futures = new ArrayList<>(validations.size());
+        for (SchemaValidation eachSchemaValidation : validations) {
+            futures.add(ConcurrentTasks.submit(this.validationExecutorService,
+                () -> (AbstractValidationResult) eachSchemaValidation.validate(solrSchema, schemaResponse, solrClient)));
+        }
+
+        try {
+            // results are merged in the order of the validations, so the first error is the same as in a sequential run
+            for (FutureTask<AbstractValidationResult> eachFuture : futures) {
+                result.addValidationResult(ConcurrentTasks.await(eachFuture));
+                this.checkFirstError(result);
             }
-            if (!result.isEmpty() && this.shouldThrowException(SchemaErrorHandling.EXCEPTION_ON_FIRST_ERROR)) {
-                String errorMessage = result.getErrorMessage(0);
-                LOGGER.error(errorMessage);
-                throw new SolrSchemaException(errorMessage);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SolrSchemaException("Interrupted while checking validity of Solr schema.", e);
+        } finally {
+            futures.forEach(future -> future.cancel(true));
+        }
+    }
+
+    private void checkFirstError(SchemaValidationResult result) throws SolrSchemaException {
+        if (!result.isEmpty() && this.shouldThrowException(SchemaErrorHandling.EXCEPTION_ON_FIRST_ERROR)) {
+            String errorMessage = ErrorMessageWriter.render(result, this.maxErrorMessageEntries);
+            LOGGER.error(errorMessage);
+            throw new SolrSchemaException(errorMessage);
+        }
+    }
+
+    private String fetchSchemaVersion(SolrClient solrClient, String collectionName) {
+        if (this.clientsWithoutZkVersion.contains(solrClient)) {
+            return null;
+        }
+
+        try {
+            GenericSolrRequest zkVersionRequest = new GenericSolrRequest(METHOD.GET, SCHEMA_ZK_VERSION_PATH, new ModifiableSolrParams());
+            Object zkVersion = zkVersionRequest.process(solrClient).getResponse().get(ZK_VERSION);
+            if (!(zkVersion instanceof Number) || ((Number) zkVersion).intValue() < 0) {
+                // standalone cores have no cheap change indicator, the version attribute alone does not change on updates
+                this.clientsWithoutZkVersion.add(solrClient);
+                return null;
             }
+
+            float version = new SchemaRequest.SchemaVersion().process(solrClient).getSchemaVersion();
+            return version + "/" + zkVersion;
+        } catch (SolrException e) {
+            LOGGER.debug("Schema version of {} is not supported, fetching the complete schema.", collectionName, e);
+            this.clientsWithoutZkVersion.add(solrClient);
+            return null;
+        } catch (SolrServerException | IOException e) {
+            LOGGER.debug("Could not fetch schema version of {}, fetching the complete schema.", collectionName, e);
+            return null;
         }
-        return result;
+    }
+
+    private static final class FetchedSchema {
+
+        private String classpathFingerprint;
+        private String schemaVersion;
+        private String solrFingerprint;
+        private SchemaResponse schemaResponse;
+        private boolean unchanged;
     }
 }
@@ -16,17 +16,25 @@
  */
 package com.indoqa.solr.utils.validation.classpath;
 
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
 
 import com.indoqa.solr.utils.validation.SchemaCheckConfiguration;
 import com.indoqa.solr.utils.validation.SchemaErrorHandling;
+import com.indoqa.solr.utils.validation.results.ErrorMessageWriter;
 import org.apache.solr.client.solrj.SolrClient;
 
 public class ClasspathSolrSchemaCheckerBuilder {
 
     private List<SolrClientCheckConfiguration> configurations;
     private SchemaErrorHandling schemaErrorHandling = SchemaErrorHandling.EXCEPTION_ON_FIRST_ERROR;
+    private ExecutorService executorService;
+    private int parallelism;
+    private SchemaFingerprintStore fingerprintStore;
+    private ExecutorService validationExecutorService;
+    private int maxErrorMessageEntries = ErrorMessageWriter.UNLIMITED_ENTRIES;
 
     public ClasspathSolrSchemaCheckerBuilder() {
         this.configurations = new ArrayList<>();
@@ -60,7 +68,43 @@ public class ClasspathSolrSchemaCheckerBuilder {
         return this;
     }
 
+    public ClasspathSolrSchemaCheckerBuilder validateCoresInParallel(int parallelism) {
+        this.parallelism = parallelism;
+        return this;
+    }
+
+    public ClasspathSolrSchemaCheckerBuilder validateCoresInParallel(ExecutorService executorService) {
+        this.executorService = executorService;
+        return this;
+    }
+
+    public ClasspathSolrSchemaCheckerBuilder skipUnchangedSchemas(Path fingerprintFile) {
+        return this.skipUnchangedSchemas(new SchemaFingerprintStore(fingerprintFile));
+    }
+
+    public ClasspathSolrSchemaCheckerBuilder skipUnchangedSchemas(SchemaFingerprintStore schemaFingerprintStore) {
+        this.fingerprintStore = schemaFingerprintStore;
+        return this;
+    }
+
+    public ClasspathSolrSchemaCheckerBuilder runValidationsConcurrently(ExecutorService validationExecutorService) {
+        this.validationExecutorService = validationExecutorService;
+        return this;
+    }
+
+    public ClasspathSolrSchemaCheckerBuilder limitErrorMessageEntries(int maxErrorMessageEntries) {
+        this.maxErrorMessageEntries = maxErrorMessageEntries;
+        return this;
+    }
+
     public ClasspathSolrSchemaChecker build() {
-        return new ClasspathSolrSchemaChecker(this.schemaErrorHandling, this.configurations.toArray(new SolrClientCheckConfiguration[this.configurations.size()]));
+        ClasspathSolrSchemaChecker classpathSolrSchemaChecker = new ClasspathSolrSchemaChecker(this.schemaErrorHandling,
+            this.configurations.toArray(new SolrClientCheckConfiguration[this.configurations.size()]));
+        classpathSolrSchemaChecker.setExecutorService(this.executorService);
+        classpathSolrSchemaChecker.setParallelism(this.parallelism);
+        classpathSolrSchemaChecker.setFingerprintStore(this.fingerprintStore);
+        classpathSolrSchemaChecker.setValidationExecutorService(this.validationExecutorService);
+        classpathSolrSchemaChecker.setMaxErrorMessageEntries(this.maxErrorMessageEntries);
+        return classpathSolrSchemaChecker;
     }
 }
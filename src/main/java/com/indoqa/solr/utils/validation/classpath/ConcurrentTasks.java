@@ -0,0 +1,61 @@
+/*
+ *   Licensed to the Indoqa Software Design und Beratung GmbH (Indoqa) under
+ *   one or more contributor license agreements. See the NOTICE file distributed
+ *   with this work for additional information regarding copyright ownership.
+ *   Indoqa licenses this file to You under the Apache License, Version 2.0
+ *   (the "License"); you may not use this file except in compliance with
+ *   the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.indoqa.solr.utils.validation.classpath;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+
+import com.indoqa.solr.utils.validation.SolrSchemaException;
+
+final class ConcurrentTasks {
+
+    private ConcurrentTasks() {
+        // hide constructor
+    }
+
+    public static <T> FutureTask<T> submit(Executor executor, Callable<T> callable) {
+        FutureTask<T> result = new FutureTask<>(callable);
+        try {
+            executor.execute(result);
+        } catch (RejectedExecutionException e) {
+            // the task is run by the thread awaiting it
+        }
+        return result;
+    }
+
+    public static <T> T await(FutureTask<T> task) throws InterruptedException, SolrSchemaException {
+        // a task that was not started yet is run by the waiting thread, so tasks submitted from a thread of the same
+        // bounded executor can not wait for each other forever
+        task.run();
+
+        try {
+            return task.get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof SolrSchemaException) {
+                throw (SolrSchemaException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new SolrSchemaException("Could not check validity of Solr schema.", cause);
+        }
+    }
+}
@@ -20,6 +20,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 import com.indoqa.solr.utils.validation.results.AbstractValidationResult;
+import com.indoqa.solr.utils.validation.results.ErrorMessageWriter;
 
 public class SchemaCheckerValidationResult extends AbstractValidationResult {
 
@@ -38,13 +39,14 @@ public class SchemaCheckerValidationResult extends AbstractValidationResult {
 
     @Override
     public String getErrorMessage(int levelOfIndentation) {
-        StringBuilder result = new StringBuilder();
+        return this.renderErrorMessage(levelOfIndentation);
+    }
 
+    @Override
+    public void appendErrorMessage(ErrorMessageWriter writer, int levelOfIndentation) {
         for (AbstractValidationResult eachValidationResult : this.validationResults) {
-            result.append(eachValidationResult.getErrorMessage(levelOfIndentation + 1));
-            result.append('\n');
+            eachValidationResult.appendErrorMessage(writer, levelOfIndentation + 1);
+            writer.append('\n');
         }
-
-        return result.toString();
     }
 }
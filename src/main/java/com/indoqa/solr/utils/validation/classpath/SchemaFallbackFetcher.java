@@ -0,0 +1,112 @@
+/*
+ *   Licensed to the Indoqa Software Design und Beratung GmbH (Indoqa) under
+ *   one or more contributor license agreements. See the NOTICE file distributed
+ *   with this work for additional information regarding copyright ownership.
+ *   Indoqa licenses this file to You under the Apache License, Version 2.0
+ *   (the "License"); you may not use this file except in compliance with
+ *   the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.indoqa.solr.utils.validation.classpath;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.function.Consumer;
+
+import com.indoqa.solr.utils.validation.SchemaCheck;
+import com.indoqa.solr.utils.validation.SchemaCheckConfiguration;
+import com.indoqa.solr.utils.validation.SolrSchemaException;
+import org.apache.solr.client.solrj.SolrClient;
+import org.apache.solr.client.solrj.SolrResponse;
+import org.apache.solr.client.solrj.SolrServerException;
+import org.apache.solr.client.solrj.request.schema.AbstractSchemaRequest;
+import org.apache.solr.client.solrj.request.schema.SchemaRequest;
+import org.apache.solr.client.solrj.response.schema.SchemaRepresentation;
+import org.apache.solr.client.solrj.response.schema.SchemaResponse;
+
+class SchemaFallbackFetcher {
+
+    static final int MAX_REQUESTS = 7;
+
+    private final Executor executor;
+
+    SchemaFallbackFetcher(Executor executor) {
+        this.executor = executor;
+    }
+
+    private static <T extends SolrResponse> T process(String collectionName, AbstractSchemaRequest<T> request, SolrClient solrClient)
+        throws SolrSchemaException {
+        try {
+            return request.process(solrClient);
+        } catch (SolrServerException | IOException e) {
+            throw new SolrSchemaException("Could not check validity of Solr schema for core/collection '" + collectionName + "'.", e);
+        }
+    }
+
+    SchemaResponse fetch(String collectionName, SchemaCheckConfiguration configuration, SolrClient solrClient)
+        throws SolrSchemaException {
+        SchemaRepresentation schemaRepresentation = new SchemaRepresentation();
+
+        // only the sections of the configured checks are requested, all of them at once
+        List<FutureTask<Void>> futures = new ArrayList<>(MAX_REQUESTS);
+        if (configuration.needsCheck(SchemaCheck.NAME)) {
+            futures.add(this.submit(collectionName, new SchemaRequest.SchemaName(), solrClient,
+                response -> schemaRepresentation.setName(response.getSchemaName())));
+        }
+        if (configuration.needsCheck(SchemaCheck.VERSION)) {
+            futures.add(this.submit(collectionName, new SchemaRequest.SchemaVersion(), solrClient,
+                response -> schemaRepresentation.setVersion(response.getSchemaVersion())));
+        }
+        if (configuration.needsCheck(SchemaCheck.UNIQUE_KEY)) {
+            futures.add(this.submit(collectionName, new SchemaRequest.UniqueKey(), solrClient,
+                response -> schemaRepresentation.setUniqueKey(response.getUniqueKey())));
+        }
+        if (configuration.needsCheck(SchemaCheck.FIELDS)) {
+            futures.add(this.submit(collectionName, new SchemaRequest.Fields(), solrClient,
+                response -> schemaRepresentation.setFields(response.getFields())));
+        }
+        if (configuration.needsCheck(SchemaCheck.DYNAMIC_FIELDS)) {
+            futures.add(this.submit(collectionName, new SchemaRequest.DynamicFields(), solrClient,
+                response -> schemaRepresentation.setDynamicFields(response.getDynamicFields())));
+        }
+        if (configuration.needsCheck(SchemaCheck.COPY_FIELDS)) {
+            futures.add(this.submit(collectionName, new SchemaRequest.CopyFields(), solrClient,
+                response -> schemaRepresentation.setCopyFields(response.getCopyFields())));
+        }
+        if (configuration.needsCheck(SchemaCheck.FIELD_TYPES)) {
+            futures.add(this.submit(collectionName, new SchemaRequest.FieldTypes(), solrClient,
+                response -> schemaRepresentation.setFieldTypes(new ArrayList<>(response.getFieldTypes()))));
+        }
+
+        try {
+            for (FutureTask<Void> eachFuture : futures) {
+                ConcurrentTasks.await(eachFuture);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SolrSchemaException("Interrupted while fetching the schema of " + collectionName + ".", e);
+        } finally {
+            futures.forEach(future -> future.cancel(true));
+        }
+
+        return new FetchedSchemaResponse(schemaRepresentation);
+    }
+
+    private <T extends SolrResponse> FutureTask<Void> submit(String collectionName, AbstractSchemaRequest<T> request,
+        SolrClient solrClient, Consumer<T> consumer) {
+        return ConcurrentTasks.submit(this.executor, () -> {
+            consumer.accept(process(collectionName, request, solrClient));
+            return null;
+        });
+    }
+}
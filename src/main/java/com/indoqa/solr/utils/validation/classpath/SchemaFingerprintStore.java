@@ -0,0 +1,142 @@
+/*
+ *   Licensed to the Indoqa Software Design und Beratung GmbH (Indoqa) under
+ *   one or more contributor license agreements. See the NOTICE file distributed
+ *   with this work for additional information regarding copyright ownership.
+ *   Indoqa licenses this file to You under the Apache License, Version 2.0
+ *   (the "License"); you may not use this file except in compliance with
+ *   the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.indoqa.solr.utils.validation.classpath;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Properties;
+
+import org.apache.solr.client.solrj.SolrClient;
+import org.apache.solr.client.solrj.impl.CloudSolrClient;
+import org.apache.solr.client.solrj.impl.HttpSolrClient;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public class SchemaFingerprintStore {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SchemaFingerprintStore.class);
+
+    private static final String ENTRY_SEPARATOR = " ";
+    private static final String KEY_SEPARATOR = "/";
+
+    private final Path file;
+    private Properties fingerprints;
+
+    public SchemaFingerprintStore(Path file) {
+        this.file = file;
+    }
+
+    private static String getKey(SolrClient solrClient, String collectionName) {
+        // equally named collections of different Solr servers or clusters must not share their entry
+        if (solrClient instanceof HttpSolrClient) {
+            return ((HttpSolrClient) solrClient).getBaseURL() + KEY_SEPARATOR + collectionName;
+        }
+        if (solrClient instanceof CloudSolrClient) {
+            return ((CloudSolrClient) solrClient).getZkHost() + KEY_SEPARATOR + collectionName;
+        }
+        return solrClient.getClass().getName() + KEY_SEPARATOR + collectionName;
+    }
+
+    public synchronized boolean matches(SolrClient solrClient, String collectionName, String classpathFingerprint,
+        String solrFingerprint) {
+        String[] entry = this.getEntry(getKey(solrClient, collectionName));
+        return entry != null && entry[0].equals(classpathFingerprint) && entry[1].equals(solrFingerprint);
+    }
+
+    public synchronized boolean matchesSchemaVersion(SolrClient solrClient, String collectionName, String classpathFingerprint,
+        String schemaVersion) {
+        String[] entry = this.getEntry(getKey(solrClient, collectionName));
+        return entry != null && entry.length == 3 && entry[0].equals(classpathFingerprint) && entry[2].equals(schemaVersion);
+    }
+
+    public void store(SolrClient solrClient, String collectionName, String classpathFingerprint, String solrFingerprint) {
+        this.store(solrClient, collectionName, classpathFingerprint, solrFingerprint, null);
+    }
+
+    public synchronized void store(SolrClient solrClient, String collectionName, String classpathFingerprint, String solrFingerprint,
+        String schemaVersion) {
+        String entry = classpathFingerprint + ENTRY_SEPARATOR + solrFingerprint;
+        if (schemaVersion != null) {
+            entry += ENTRY_SEPARATOR + schemaVersion;
+        }
+        if (entry.equals(this.getFingerprints().setProperty(getKey(solrClient, collectionName), entry))) {
+            return;
+        }
+
+        Path tempFile = null;
+        try {
+            Path parent = this.file.toAbsolutePath().getParent();
+            Files.createDirectories(parent);
+            tempFile = Files.createTempFile(parent, this.file.getFileName().toString(), ".tmp");
+            try (OutputStream outputStream = Files.newOutputStream(tempFile)) {
+                this.fingerprints.store(outputStream, "Solr schema fingerprints of the last successful validations");
+            }
+            Files.move(tempFile, this.file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            LOGGER.warn("Could not store schema fingerprints in {}.", this.file, e);
+            deleteTempFile(tempFile);
+        }
+    }
+
+    private static void deleteTempFile(Path tempFile) {
+        if (tempFile == null) {
+            return;
+        }
+
+        try {
+            Files.deleteIfExists(tempFile);
+        } catch (IOException e) {
+            LOGGER.warn("Could not delete temporary schema fingerprint file {}.", tempFile, e);
+        }
+    }
+
+    private String[] getEntry(String key) {
+        String entry = this.getFingerprints().getProperty(key);
+        if (entry == null) {
+            return null;
+        }
+
+        String[] result = entry.split(ENTRY_SEPARATOR);
+        if (result.length < 2) {
+            return null;
+        }
+        return result;
+    }
+
+    private Properties getFingerprints() {
+        if (this.fingerprints != null) {
+            return this.fingerprints;
+        }
+
+        this.fingerprints = new Properties();
+        if (!Files.exists(this.file)) {
+            return this.fingerprints;
+        }
+
+        try (InputStream inputStream = Files.newInputStream(this.file)) {
+            this.fingerprints.load(inputStream);
+        } catch (IOException | IllegalArgumentException e) {
+            LOGGER.warn("Could not read schema fingerprints from {}. All schemas will be validated.", this.file, e);
+            this.fingerprints.clear();
+        }
+        return this.fingerprints;
+    }
+}
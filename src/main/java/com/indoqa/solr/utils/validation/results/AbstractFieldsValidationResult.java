@@ -20,9 +20,9 @@ import java.util.*;
 
 public abstract class AbstractFieldsValidationResult<T extends FieldAttributesValidationResult> extends AbstractValidationResult {
 
-    private List<T> fieldsModified = new ArrayList<>();
-    private List<T> fieldsOnlyInSchema = new ArrayList<>();
-    private List<T> fieldsStillInSolr = new ArrayList<>();
+    private final FieldsByName<T> fieldsModified = new FieldsByName<>();
+    private final FieldsByName<T> fieldsOnlyInSchema = new FieldsByName<>();
+    private final FieldsByName<T> fieldsStillInSolr = new FieldsByName<>();
 
     @Override
     public Optional<List<? extends AbstractValidationResult>> getModified() {
@@ -74,53 +74,113 @@ public abstract class AbstractFieldsValidationResult<T extends FieldAttributesVa
         return this.fieldsModified.isEmpty() && this.fieldsOnlyInSchema.isEmpty() && this.fieldsStillInSolr.isEmpty();
     }
 
+    // the fields are returned as read-only views, they are only added through the add methods to keep the lookups in sync
     public List<T> getFieldsModified() {
-        return fieldsModified;
+        return this.fieldsModified.getFields();
     }
 
     public Optional<T> getFieldModified(String name) {
-        return this.fieldsModified.stream().filter(fm -> fm.getName().equalsIgnoreCase(name)).findFirst();
+        return this.fieldsModified.get(name);
     }
 
     public List<T> getFieldsOnlyInSchema() {
-        return fieldsOnlyInSchema;
+        return this.fieldsOnlyInSchema.getFields();
     }
 
     public Optional<T> getFieldOnlyInSchema(String name) {
-        return this.fieldsOnlyInSchema.stream().filter(fm -> fm.getName().equalsIgnoreCase(name)).findFirst();
+        return this.fieldsOnlyInSchema.get(name);
     }
 
     public List<T> getFieldsStillInSolr() {
-        return fieldsStillInSolr;
+        return this.fieldsStillInSolr.getFields();
     }
 
     public Optional<T> getFieldStillInSolr(String name) {
-        return this.fieldsStillInSolr.stream().filter(fm -> fm.getName().equalsIgnoreCase(name)).findFirst();
+        return this.fieldsStillInSolr.get(name);
     }
 
     protected abstract String getType();
 
     @Override
     public String getErrorMessage(int levelOfIndentation) {
-        StringBuilder result = new StringBuilder();
-
-        appendFields(result," only in Schema:", this.fieldsOnlyInSchema, levelOfIndentation);
-        appendFields(result," still in Solr:", this.fieldsStillInSolr, levelOfIndentation);
-        appendFields(result," with modified attributes:", this.fieldsModified, levelOfIndentation);
+        return this.renderErrorMessage(levelOfIndentation);
+    }
 
-        return result.toString();
+    @Override
+    public void appendErrorMessage(ErrorMessageWriter writer, int levelOfIndentation) {
+        appendFields(writer, " only in Schema:", this.getFieldsOnlyInSchema(), levelOfIndentation);
+        appendFields(writer, " still in Solr:", this.getFieldsStillInSolr(), levelOfIndentation);
+        appendFields(writer, " with modified attributes:", this.getFieldsModified(), levelOfIndentation);
     }
 
-    private void appendFields(StringBuilder result, String text, List<T> fields, int levelOfIndentation) {
+    private void appendFields(ErrorMessageWriter writer, String text, List<T> fields, int levelOfIndentation) {
         if (fields.isEmpty()) {
             return;
         }
-        result.append(getType());
-        result.append(text);
-        appendNewlineIndentation(result, 2);
-        fields.stream()
-            .sorted()
-            .forEach(eachResult -> result.append(eachResult.getErrorMessage(levelOfIndentation + 1)));
-        appendNewlineIndentation(result, 1);
+        if (!writer.hasRemainingEntries()) {
+            // nothing of this section is written, so there is no need to sort it
+            writer.omitEntries(fields.size());
+            return;
+        }
+
+        writer.append(getType());
+        writer.append(text);
+        writer.appendNewlineIndentation(2);
+        List<T> sortedFields = new ArrayList<>(fields);
+        Collections.sort(sortedFields);
+        for (int i = 0; i < sortedFields.size(); i++) {
+            if (!writer.startEntry()) {
+                writer.omitEntries(sortedFields.size() - i - 1);
+                break;
+            }
+            sortedFields.get(i).appendErrorMessage(writer, levelOfIndentation + 1);
+        }
+        writer.appendNewlineIndentation(1);
+    }
+
+    // like the other validation results, the fields are added by the thread running the validation and not synchronized
+    private static final class FieldsByName<T extends FieldAttributesValidationResult> {
+
+        private final List<T> fields = new ArrayList<>();
+        private final List<T> unmodifiableFields = Collections.unmodifiableList(this.fields);
+
+        private Map<String, T> index;
+
+        private static <T extends FieldAttributesValidationResult> void addToIndex(Map<String, T> index, T field) {
+            if (field.getName() != null) {
+                index.putIfAbsent(field.getName(), field);
+            }
+        }
+
+        void add(T field) {
+            this.fields.add(field);
+
+            // an existing index is kept up to date, so lookups between additions do not rebuild it
+            if (this.index != null) {
+                addToIndex(this.index, field);
+            }
+        }
+
+        Optional<T> get(String name) {
+            if (name == null) {
+                return Optional.empty();
+            }
+
+            if (this.index == null) {
+                this.index = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+                for (T eachField : this.fields) {
+                    addToIndex(this.index, eachField);
+                }
+            }
+            return Optional.ofNullable(this.index.get(name));
+        }
+
+        List<T> getFields() {
+            return this.unmodifiableFields;
+        }
+
+        boolean isEmpty() {
+            return this.fields.isEmpty();
+        }
     }
 }
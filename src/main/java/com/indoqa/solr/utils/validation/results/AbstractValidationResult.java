@@ -16,6 +16,7 @@
  */
 package com.indoqa.solr.utils.validation.results;
 
+import java.io.IOException;
 import java.util.List;
 import java.util.Optional;
 
@@ -39,6 +40,24 @@ public abstract class AbstractValidationResult {
 
     public abstract String getErrorMessage(int levelOfIndentation);
 
+    public void appendErrorMessage(ErrorMessageWriter writer, int levelOfIndentation) {
+        writer.append(this.getErrorMessage(levelOfIndentation));
+    }
+
+    public void writeErrorMessage(Appendable appendable) throws IOException {
+        this.writeErrorMessage(appendable, ErrorMessageWriter.UNLIMITED_ENTRIES);
+    }
+
+    public void writeErrorMessage(Appendable appendable, int maxEntries) throws IOException {
+        new ErrorMessageWriter(appendable, maxEntries).write(this);
+    }
+
+    protected String renderErrorMessage(int levelOfIndentation) {
+        StringBuilder result = new StringBuilder();
+        this.appendErrorMessage(new ErrorMessageWriter(result), levelOfIndentation);
+        return result.toString();
+    }
+
     protected static void appendNewlineIndentation(StringBuilder result, int indentation) {
         result.append('\n');
         appendIndentation(result, indentation);
@@ -19,7 +19,6 @@ package com.indoqa.solr.utils.validation.results;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
-import java.util.stream.Stream;
 
 public class AnalyzerValidationResult extends AbstractValidationResult {
 
@@ -114,49 +113,52 @@ public class AnalyzerValidationResult extends AbstractValidationResult {
         return this.filtersModified.isEmpty() && this.filtersOnlyInSchema.isEmpty() && this.filtersStillInSolr.isEmpty();
     }
 
-    private static void appendFilter(StringBuilder result, int levelOfIndentation,
-        Stream<? extends FieldAttributesValidationResult> stream) {
-        stream
-            .sorted(Comparator.comparing(FieldAttributesValidationResult::getClassName))
-            .forEach(eachResult -> result.append(eachResult.getErrorMessage(levelOfIndentation)));
+    private static void appendFilter(ErrorMessageWriter writer, int levelOfIndentation,
+        List<? extends FieldAttributesValidationResult> filters) {
+        List<FieldAttributesValidationResult> sortedFilters = new ArrayList<>(filters);
+        sortedFilters.sort(Comparator.comparing(FieldAttributesValidationResult::getClassName));
+        for (FieldAttributesValidationResult eachResult : sortedFilters) {
+            eachResult.appendErrorMessage(writer, levelOfIndentation);
+        }
     }
 
-    private static void appendFilters(StringBuilder result, int levelOfIndentation, String text,
+    private static void appendFilters(ErrorMessageWriter writer, int levelOfIndentation, String text,
         List<? extends FieldAttributesValidationResult> filters) {
         if (filters == null || filters.isEmpty()) {
             return;
         }
-        appendNewlineIndentation(result, levelOfIndentation + 1);
-        result.append(text);
-        appendNewlineIndentation(result, levelOfIndentation + 2);
-        appendFilter(result, levelOfIndentation + 1, filters.stream());
+        writer.appendNewlineIndentation(levelOfIndentation + 1);
+        writer.append(text);
+        writer.appendNewlineIndentation(levelOfIndentation + 2);
+        appendFilter(writer, levelOfIndentation + 1, filters);
     }
 
     @Override
     public String getErrorMessage(int levelOfIndentation) {
-        StringBuilder result = new StringBuilder();
+        return this.renderErrorMessage(levelOfIndentation);
+    }
 
-        appendNewlineIndentation(result, levelOfIndentation);
-        result.append("Analyzer: '");
-        result.append(getType());
-        result.append("':");
+    @Override
+    public void appendErrorMessage(ErrorMessageWriter writer, int levelOfIndentation) {
+        writer.appendNewlineIndentation(levelOfIndentation);
+        writer.append("Analyzer: '");
+        writer.append(getType());
+        writer.append("':");
 
         if (!this.attributesValidationResult.isEmpty()) {
-            result.append(attributesValidationResult.getErrorMessage(levelOfIndentation + 1));
+            attributesValidationResult.appendErrorMessage(writer, levelOfIndentation + 1);
         }
 
         if (!this.tokenizerValidationResult.isEmpty()) {
-            result.append(tokenizerValidationResult.getErrorMessage(levelOfIndentation + 1));
+            tokenizerValidationResult.appendErrorMessage(writer, levelOfIndentation + 1);
         }
 
-        appendFilters(result, levelOfIndentation, "Filters only in Schema:", filtersOnlyInSchema);
-        appendFilters(result, levelOfIndentation, "Filters modified:", filtersModified);
-        appendFilters(result, levelOfIndentation, "Filters still in Solr:", filtersStillInSolr);
-        appendFilters(result, levelOfIndentation, "Charfilters only in Schema:", charFiltersOnlyInSchema);
-        appendFilters(result, levelOfIndentation, "Charfilters modified:", charFiltersModified);
-        appendFilters(result, levelOfIndentation, "Charfilters still in Solr:", charFiltersStillInSolr);
-
-        return result.toString();
+        appendFilters(writer, levelOfIndentation, "Filters only in Schema:", filtersOnlyInSchema);
+        appendFilters(writer, levelOfIndentation, "Filters modified:", filtersModified);
+        appendFilters(writer, levelOfIndentation, "Filters still in Solr:", filtersStillInSolr);
+        appendFilters(writer, levelOfIndentation, "Charfilters only in Schema:", charFiltersOnlyInSchema);
+        appendFilters(writer, levelOfIndentation, "Charfilters modified:", charFiltersModified);
+        appendFilters(writer, levelOfIndentation, "Charfilters still in Solr:", charFiltersStillInSolr);
     }
 
     public FieldAttributesValidationResult getAttributesValidationResult() {
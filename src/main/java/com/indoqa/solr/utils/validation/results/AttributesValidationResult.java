@@ -16,6 +16,8 @@
  */
 package com.indoqa.solr.utils.validation.results;
 
+import static java.util.Collections.emptyMap;
+
 import java.util.HashMap;
 import java.util.Map;
 
@@ -26,9 +28,24 @@ public class AttributesValidationResult {
 
     private ValuesOrigin valuesOrigin;
 
-    private Map<String, Object> attributesOnlyInSchema = new HashMap<>();
-    private Map<String, DifferentValue> differentAttributeValues = new HashMap<>();
-    private Map<String, Object> attributesStillInSolr = new HashMap<>();
+    // most validated attributes are equal, so the maps are only created for the first difference
+    private Map<String, Object> attributesOnlyInSchema;
+    private Map<String, DifferentValue> differentAttributeValues;
+    private Map<String, Object> attributesStillInSolr;
+
+    private static <V> Map<String, V> nullsafe(Map<String, V> values) {
+        if (values == null) {
+            return emptyMap();
+        }
+        return values;
+    }
+
+    private static <V> Map<String, V> create(Map<String, V> values) {
+        if (values == null) {
+            return new HashMap<>();
+        }
+        return values;
+    }
 
     public String getName() {
         return this.name;
@@ -47,8 +64,8 @@ public class AttributesValidationResult {
     }
 
     public boolean isEmpty() {
-        return ValuesOrigin.BOTH.equals(this.valuesOrigin) && this.attributesOnlyInSchema.isEmpty()
-            && this.differentAttributeValues.isEmpty() && this.attributesStillInSolr.isEmpty();
+        return ValuesOrigin.BOTH.equals(this.valuesOrigin) && this.getAttributesOnlyInSchema().isEmpty()
+            && this.getDifferentAttributeValues().isEmpty() && this.getAttributesStillInSolr().isEmpty();
     }
 
     public ValuesOrigin getValuesOrigin() {
@@ -60,26 +77,29 @@ public class AttributesValidationResult {
     }
 
     public void addAttributeOnlyInSchema(String attribute, Object value) {
+        this.attributesOnlyInSchema = create(this.attributesOnlyInSchema);
         this.attributesOnlyInSchema.put(attribute, value);
     }
 
     public void addDifferentAttribute(String attribute, Object expected, Object actual) {
+        this.differentAttributeValues = create(this.differentAttributeValues);
         this.differentAttributeValues.put(attribute, DifferentValue.of(expected, actual));
     }
 
     public void addAttributeStillInSolr(String attribute, Object value) {
+        this.attributesStillInSolr = create(this.attributesStillInSolr);
         this.attributesStillInSolr.put(attribute, value);
     }
 
     public Map<String, Object> getAttributesOnlyInSchema() {
-        return this.attributesOnlyInSchema;
+        return nullsafe(this.attributesOnlyInSchema);
     }
 
     public Map<String, DifferentValue> getDifferentAttributeValues() {
-        return this.differentAttributeValues;
+        return nullsafe(this.differentAttributeValues);
     }
 
     public Map<String, Object> getAttributesStillInSolr() {
-        return this.attributesStillInSolr;
+        return nullsafe(this.attributesStillInSolr);
     }
 }
@@ -0,0 +1,121 @@
+/*
+ *   Licensed to the Indoqa Software Design und Beratung GmbH (Indoqa) under
+ *   one or more contributor license agreements. See the NOTICE file distributed
+ *   with this work for additional information regarding copyright ownership.
+ *   Indoqa licenses this file to You under the Apache License, Version 2.0
+ *   (the "License"); you may not use this file except in compliance with
+ *   the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.indoqa.solr.utils.validation.results;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+public final class ErrorMessageWriter {
+
+    public static final int UNLIMITED_ENTRIES = Integer.MAX_VALUE;
+
+    private final Appendable appendable;
+    private final int maxEntries;
+
+    private int entries;
+    private int omittedEntries;
+
+    public ErrorMessageWriter(Appendable appendable) {
+        this(appendable, UNLIMITED_ENTRIES);
+    }
+
+    public ErrorMessageWriter(Appendable appendable, int maxEntries) {
+        if (maxEntries < 0) {
+            throw new IllegalArgumentException("The maximum number of entries must not be negative.");
+        }
+        this.appendable = appendable;
+        this.maxEntries = maxEntries;
+    }
+
+    public ErrorMessageWriter append(char value) {
+        try {
+            this.appendable.append(value);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return this;
+    }
+
+    public ErrorMessageWriter append(CharSequence value) {
+        try {
+            this.appendable.append(value);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return this;
+    }
+
+    public ErrorMessageWriter append(Object value) {
+        return this.append(String.valueOf(value));
+    }
+
+    public ErrorMessageWriter appendNewlineIndentation(int indentation) {
+        this.append('\n');
+        return this.appendIndentation(indentation);
+    }
+
+    public ErrorMessageWriter appendIndentation(int indentation) {
+        for (int i = 0; i < indentation; i++) {
+            this.append('\t');
+        }
+        return this;
+    }
+
+    public boolean hasRemainingEntries() {
+        return this.entries < this.maxEntries;
+    }
+
+    public boolean startEntry() {
+        if (!this.hasRemainingEntries()) {
+            this.omittedEntries++;
+            return false;
+        }
+        this.entries++;
+        return true;
+    }
+
+    public void omitEntries(int count) {
+        this.omittedEntries += count;
+    }
+
+    public int getOmittedEntries() {
+        return this.omittedEntries;
+    }
+
+    public static String render(AbstractValidationResult validationResult, int maxEntries) {
+        StringBuilder result = new StringBuilder();
+        new ErrorMessageWriter(result, maxEntries).writeReport(validationResult);
+        return result.toString();
+    }
+
+    public void write(AbstractValidationResult validationResult) throws IOException {
+        try {
+            this.writeReport(validationResult);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private void writeReport(AbstractValidationResult validationResult) {
+        validationResult.appendErrorMessage(this, 0);
+        if (this.omittedEntries > 0) {
+            this.append("... ");
+            this.append(Integer.toString(this.omittedEntries));
+            this.append(" more entries omitted\n");
+        }
+    }
+}
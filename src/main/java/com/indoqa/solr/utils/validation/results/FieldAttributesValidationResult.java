@@ -84,48 +84,55 @@ public class FieldAttributesValidationResult extends AbstractValidationResult im
 
     @Override
     public String getErrorMessage(int levelOfIndentation) {
-        StringBuilder result = new StringBuilder();
+        return this.renderErrorMessage(levelOfIndentation);
+    }
 
-        appendIndentation(result, levelOfIndentation);
-        result.append(getType());
-        result.append(":");
+    @Override
+    public void appendErrorMessage(ErrorMessageWriter writer, int levelOfIndentation) {
+        writer.appendIndentation(levelOfIndentation);
+        writer.append(getType());
+        writer.append(":");
 
         if (name != null) {
-            result.append(" '");
-            result.append(name);
-            result.append("':");
+            writer.append(" '");
+            writer.append(name);
+            writer.append("':");
         }
 
         if (className != null) {
-            result.append(" Class: '");
-            result.append(className);
-            result.append("':");
+            writer.append(" Class: '");
+            writer.append(className);
+            writer.append("':");
         }
 
         if (!this.attributesOnlyInSchema.isEmpty()) {
-            appendNewlineIndentation(result, levelOfIndentation + 1);
-            result.append("Attributes only in Schema:");
-            appendNewlineIndentation(result, levelOfIndentation + 2);
-            result.append(this.attributesOnlyInSchema);
+            writer.appendNewlineIndentation(levelOfIndentation + 1);
+            writer.append("Attributes only in Schema:");
+            writer.appendNewlineIndentation(levelOfIndentation + 2);
+            writer.append(this.attributesOnlyInSchema);
         }
 
         if (!this.differentAttributeValues.isEmpty()) {
-            appendNewlineIndentation(result, levelOfIndentation + 1);
-            result.append("Attributes with different values:");
-            appendNewlineIndentation(result, levelOfIndentation + 2);
-            result.append(this.differentAttributeValues);
+            writer.appendNewlineIndentation(levelOfIndentation + 1);
+            writer.append("Attributes with different values:");
+            writer.appendNewlineIndentation(levelOfIndentation + 2);
+            writer.append(this.differentAttributeValues);
         }
 
         if (!this.attributesStillInSolr.isEmpty()) {
-            appendNewlineIndentation(result, levelOfIndentation + 1);
-            result.append("Attributes still in Solr:");
-            appendNewlineIndentation(result, levelOfIndentation + 2);
-            result.append(this.attributesStillInSolr);
+            writer.appendNewlineIndentation(levelOfIndentation + 1);
+            writer.append("Attributes still in Solr:");
+            writer.appendNewlineIndentation(levelOfIndentation + 2);
+            writer.append(this.attributesStillInSolr);
         }
 
-        appendToErrorMessage(levelOfIndentation + 1, result);
+        appendToErrorMessage(writer, levelOfIndentation + 1);
+    }
 
-        return result.toString();
+    protected void appendToErrorMessage(ErrorMessageWriter writer, int levelOfIndentation) {
+        StringBuilder builder = new StringBuilder();
+        appendToErrorMessage(levelOfIndentation, builder);
+        writer.append(builder);
     }
 
     protected void appendToErrorMessage(int levelOfIndentation, StringBuilder builder) {
@@ -19,7 +19,6 @@ package com.indoqa.solr.utils.validation.results;
 import static java.util.Comparator.comparing;
 
 import java.util.*;
-import java.util.stream.Stream;
 
 public class FieldTypeValidationResult extends FieldAttributesValidationResult {
 
@@ -38,31 +37,34 @@ public class FieldTypeValidationResult extends FieldAttributesValidationResult {
         return this.analyzersModified.isEmpty() && this.analyzersOnlyInSchema.isEmpty() && this.analyzersStillInSolr.isEmpty();
     }
 
-    private static void appendAnalyzer(StringBuilder result, int levelOfIndentation, Stream<AnalyzerValidationResult> stream) {
-        stream.sorted(comparing(AnalyzerValidationResult::getType))
-            .forEach(eachResult -> result.append(eachResult.getErrorMessage(levelOfIndentation)));
+    private static void appendAnalyzer(ErrorMessageWriter writer, int levelOfIndentation, List<AnalyzerValidationResult> analyzers) {
+        List<AnalyzerValidationResult> sortedAnalyzers = new ArrayList<>(analyzers);
+        sortedAnalyzers.sort(comparing(AnalyzerValidationResult::getType));
+        for (AnalyzerValidationResult eachResult : sortedAnalyzers) {
+            eachResult.appendErrorMessage(writer, levelOfIndentation);
+        }
     }
 
-    private static void appendAnalyzers(StringBuilder result, int levelOfIndentation, String text, List<AnalyzerValidationResult> analyzers) {
+    private static void appendAnalyzers(ErrorMessageWriter writer, int levelOfIndentation, String text,
+        List<AnalyzerValidationResult> analyzers) {
         if (analyzers == null || analyzers.isEmpty()) {
             return;
         }
-        appendNewlineIndentation(result, levelOfIndentation + 1);
-        result.append(text);
-        appendNewlineIndentation(result, levelOfIndentation + 2);
-        appendAnalyzer(result, levelOfIndentation + 2, analyzers.stream());
-
+        writer.appendNewlineIndentation(levelOfIndentation + 1);
+        writer.append(text);
+        writer.appendNewlineIndentation(levelOfIndentation + 2);
+        appendAnalyzer(writer, levelOfIndentation + 2, analyzers);
     }
 
     @Override
-    protected void appendToErrorMessage(int levelOfIndentation, StringBuilder result) {
-        appendAnalyzers(result, levelOfIndentation, "Analyzers only in Schema:", analyzersOnlyInSchema);
-        appendAnalyzers(result, levelOfIndentation, "Analyzers modified:", analyzersModified);
-        appendAnalyzers(result, levelOfIndentation, "Analyzers still in Solr:", analyzersStillInSolr);
+    protected void appendToErrorMessage(ErrorMessageWriter writer, int levelOfIndentation) {
+        appendAnalyzers(writer, levelOfIndentation, "Analyzers only in Schema:", analyzersOnlyInSchema);
+        appendAnalyzers(writer, levelOfIndentation, "Analyzers modified:", analyzersModified);
+        appendAnalyzers(writer, levelOfIndentation, "Analyzers still in Solr:", analyzersStillInSolr);
         if (!this.similarityValidationResult.isEmpty()) {
-            appendNewlineIndentation(result, levelOfIndentation + 1);
-            result.append("Similarity: ");
-            result.append(similarityValidationResult.getErrorMessage(levelOfIndentation + 1));
+            writer.appendNewlineIndentation(levelOfIndentation + 1);
+            writer.append("Similarity: ");
+            similarityValidationResult.appendErrorMessage(writer, levelOfIndentation + 1);
         }
     }
 
@@ -17,13 +17,19 @@
 package com.indoqa.solr.utils.validation.results;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public class SchemaValidationResult extends AbstractValidationResult {
 
     private String collectionName;
-    private List<AbstractValidationResult> validationResults = new ArrayList<>();
+    private final List<AbstractValidationResult> validationResults = new ArrayList<>();
+    private final List<AbstractValidationResult> unmodifiableValidationResults = Collections.unmodifiableList(this.validationResults);
+
+    private Map<Class<?>, AbstractValidationResult> resultsByClass;
 
     public String getCollectionName() {
         return collectionName;
@@ -38,10 +44,16 @@ public class SchemaValidationResult extends AbstractValidationResult {
             return;
         }
         this.validationResults.add(validationResult);
+
+        // an existing index is kept up to date, so lookups between additions do not rebuild it
+        if (this.resultsByClass != null) {
+            this.resultsByClass.putIfAbsent(validationResult.getClass(), validationResult);
+        }
     }
 
+    // the results are returned as a read-only view, they are only added through addValidationResult to keep the lookup in sync
     public List<AbstractValidationResult> getResults() {
-        return this.validationResults;
+        return this.unmodifiableValidationResults;
     }
 
     public <T extends AbstractValidationResult> Optional<T> getResult(Class<T> clazz) {
@@ -49,9 +61,24 @@ public class SchemaValidationResult extends AbstractValidationResult {
             return Optional.empty();
         }
 
-        return (Optional<T>) this.validationResults.stream()
-            .filter(validationResult -> validationResult.getClass().isAssignableFrom(clazz))
-            .findFirst();
+        Map<Class<?>, AbstractValidationResult> index = this.getResultsByClass();
+        for (Class<?> eachClass = clazz; eachClass != null; eachClass = eachClass.getSuperclass()) {
+            AbstractValidationResult result = index.get(eachClass);
+            if (result != null) {
+                return Optional.of((T) result);
+            }
+        }
+        return Optional.empty();
+    }
+
+    private Map<Class<?>, AbstractValidationResult> getResultsByClass() {
+        if (this.resultsByClass == null) {
+            this.resultsByClass = new HashMap<>();
+            for (AbstractValidationResult eachValidationResult : this.validationResults) {
+                this.resultsByClass.putIfAbsent(eachValidationResult.getClass(), eachValidationResult);
+            }
+        }
+        return this.resultsByClass;
     }
 
     @Override
@@ -61,19 +88,20 @@ public class SchemaValidationResult extends AbstractValidationResult {
 
     @Override
     public String getErrorMessage(int levelOfIndentation) {
-        StringBuilder result = new StringBuilder();
+        return this.renderErrorMessage(levelOfIndentation);
+    }
 
-        result.append("Schema for collection: '");
-        result.append(collectionName);
-        result.append("':\n");
+    @Override
+    public void appendErrorMessage(ErrorMessageWriter writer, int levelOfIndentation) {
+        writer.append("Schema for collection: '");
+        writer.append(collectionName);
+        writer.append("':\n");
         for (AbstractValidationResult validationResult : validationResults) {
             if (validationResult.isEmpty()) {
                 continue;
             }
-            result.append('\t');
-            result.append(validationResult.getErrorMessage(levelOfIndentation + 1));
+            writer.append('\t');
+            validationResult.appendErrorMessage(writer, levelOfIndentation + 1);
         }
-
-        return result.toString();
     }
 }
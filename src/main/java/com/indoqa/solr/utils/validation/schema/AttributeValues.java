@@ -0,0 +1,53 @@
+/*
+ *   Licensed to the Indoqa Software Design und Beratung GmbH (Indoqa) under
+ *   one or more contributor license agreements. See the NOTICE file distributed
+ *   with this work for additional information regarding copyright ownership.
+ *   Indoqa licenses this file to You under the Apache License, Version 2.0
+ *   (the "License"); you may not use this file except in compliance with
+ *   the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.indoqa.solr.utils.validation.schema;
+
+final class AttributeValues {
+
+    private AttributeValues() {
+        // hide constructor
+    }
+
+    public static Object getValue(String value) {
+        return getValue(value, false);
+    }
+
+    public static Object getValue(String value, boolean numeric) {
+        if (Boolean.TRUE.toString().equalsIgnoreCase(value)) {
+            return true;
+        }
+        if (Boolean.FALSE.toString().equalsIgnoreCase(value)) {
+            return false;
+        }
+
+        if (numeric) {
+            try {
+                return Integer.parseInt(value);
+            } catch (NumberFormatException e) {
+                //ignore value might be no int
+            }
+
+            try {
+                return Long.parseLong(value);
+            } catch (NumberFormatException e) {
+                //ignore value might be no long
+            }
+        }
+
+        return value;
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ *   Licensed to the Indoqa Software Design und Beratung GmbH (Indoqa) under
+ *   one or more contributor license agreements. See the NOTICE file distributed
+ *   with this work for additional information regarding copyright ownership.
+ *   Indoqa licenses this file to You under the Apache License, Version 2.0
+ *   (the "License"); you may not use this file except in compliance with
+ *   the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.indoqa.solr.utils.validation.schema;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.EnumSet;
+import java.util.Optional;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public class BinaryCachingSchemaParser implements SchemaParser {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(BinaryCachingSchemaParser.class);
+
+    private static final String FILE_EXTENSION = ".schema";
+
+    private final SchemaParser schemaParser;
+    private final Path cacheDirectory;
+
+    public BinaryCachingSchemaParser(SchemaParser schemaParser, Path cacheDirectory) {
+        this.schemaParser = schemaParser;
+        this.cacheDirectory = cacheDirectory;
+    }
+
+    private static byte[] readAll(InputStream inputStream) throws IOException {
+        ByteArrayOutputStream result = new ByteArrayOutputStream();
+        byte[] buffer = new byte[8192];
+        int read;
+        while ((read = inputStream.read(buffer)) != -1) {
+            result.write(buffer, 0, read);
+        }
+        return result.toByteArray();
+    }
+
+    @Override
+    public ParsedSchema parse(InputStream inputStream) throws IOException {
+        byte[] content = readAll(inputStream);
+        String checksum = SchemaFingerprints.checksum(content);
+        Path cacheFile = this.cacheDirectory.resolve(checksum + FILE_EXTENSION);
+
+        Optional<ParsedSchema> cachedSchema = this.readCacheFile(cacheFile, checksum);
+        if (cachedSchema.isPresent()) {
+            return cachedSchema.get();
+        }
+
+        ParsedSchema result = this.schemaParser.parse(new ByteArrayInputStream(content), EnumSet.allOf(SchemaSection.class));
+        this.writeCacheFile(cacheFile, checksum, result);
+        return result;
+    }
+
+    @Override
+    public ParsedSchema parse(InputStream inputStream, Set<SchemaSection> sections) throws IOException {
+        // a cached schema is always complete, reading it is cheaper than parsing any section
+        return this.parse(inputStream);
+    }
+
+    private Optional<ParsedSchema> readCacheFile(Path cacheFile, String checksum) {
+        if (!Files.exists(cacheFile)) {
+            return Optional.empty();
+        }
+
+        try (InputStream inputStream = new BufferedInputStream(Files.newInputStream(cacheFile))) {
+            return BinarySchemaCodec.read(inputStream, checksum);
+        } catch (IOException | RuntimeException e) {
+            LOGGER.warn("Could not read cached schema {}, parsing the schema instead.", cacheFile, e);
+            return Optional.empty();
+        }
+    }
+
+    private void writeCacheFile(Path cacheFile, String checksum, ParsedSchema parsedSchema) {
+        try {
+            Files.createDirectories(this.cacheDirectory);
+            Path tempFile = Files.createTempFile(this.cacheDirectory, checksum, ".tmp");
+            try (OutputStream outputStream = new BufferedOutputStream(Files.newOutputStream(tempFile))) {
+                BinarySchemaCodec.write(parsedSchema, checksum, outputStream);
+            }
+            Files.move(tempFile, cacheFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            LOGGER.warn("Could not write cached schema {}.", cacheFile, e);
+        }
+    }
+}
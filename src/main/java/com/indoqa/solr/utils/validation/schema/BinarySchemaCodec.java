@@ -0,0 +1,314 @@
+/*
+ *   Licensed to the Indoqa Software Design und Beratung GmbH (Indoqa) under
+ *   one or more contributor license agreements. See the NOTICE file distributed
+ *   with this work for additional information regarding copyright ownership.
+ *   Indoqa licenses this file to You under the Apache License, Version 2.0
+ *   (the "License"); you may not use this file except in compliance with
+ *   the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.indoqa.solr.utils.validation.schema;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.*;
+
+import org.apache.solr.client.solrj.request.schema.AnalyzerDefinition;
+import org.apache.solr.client.solrj.request.schema.FieldTypeDefinition;
+
+public final class BinarySchemaCodec {
+
+    private static final int MAGIC = 0x49534348;
+    private static final int FORMAT_VERSION = 1;
+
+    private static final byte TYPE_NULL = 0;
+    private static final byte TYPE_STRING = 1;
+    private static final byte TYPE_TRUE = 2;
+    private static final byte TYPE_FALSE = 3;
+    private static final byte TYPE_INTEGER = 4;
+    private static final byte TYPE_LONG = 5;
+
+    private BinarySchemaCodec() {
+        // hide constructor
+    }
+
+    public static void write(ParsedSchema parsedSchema, String checksum, OutputStream outputStream) throws IOException {
+        if (!parsedSchema.getSections().containsAll(EnumSet.allOf(SchemaSection.class))) {
+            throw new IllegalArgumentException("Only a completely parsed schema can be written.");
+        }
+
+        Writer writer = new Writer(new DataOutputStream(outputStream));
+        writer.output.writeInt(MAGIC);
+        writer.output.writeInt(FORMAT_VERSION);
+        writer.output.writeUTF(checksum);
+
+        writer.writeString(parsedSchema.getName());
+        writer.writeValue(parsedSchema.getVersion() == null ? null : Float.floatToIntBits(parsedSchema.getVersion()));
+        writer.writeString(parsedSchema.getUniqueKey());
+        writer.writeString(parsedSchema.getDefaultSearchField());
+        writer.writeAttributesList(parsedSchema.getFields());
+        writer.writeAttributesList(parsedSchema.getDynamicFields());
+        writer.writeAttributesList(parsedSchema.getCopyFields());
+
+        writer.writeInt(parsedSchema.getFieldTypes().size());
+        for (FieldTypeDefinition eachFieldType : parsedSchema.getFieldTypes()) {
+            writer.writeAttributes(eachFieldType.getAttributes());
+            writer.writeAnalyzer(eachFieldType.getAnalyzer());
+            writer.writeAnalyzer(eachFieldType.getIndexAnalyzer());
+            writer.writeAnalyzer(eachFieldType.getQueryAnalyzer());
+            writer.writeAnalyzer(eachFieldType.getMultiTermAnalyzer());
+            writer.writeAttributes(eachFieldType.getSimilarity());
+        }
+        writer.output.flush();
+    }
+
+    public static Optional<ParsedSchema> read(InputStream inputStream, String checksum) throws IOException {
+        Reader reader = new Reader(new DataInputStream(inputStream));
+        if (reader.input.readInt() != MAGIC || reader.input.readInt() != FORMAT_VERSION) {
+            return Optional.empty();
+        }
+        if (!reader.input.readUTF().equals(checksum)) {
+            return Optional.empty();
+        }
+
+        String name = reader.readString();
+        Object version = reader.readValue();
+        String uniqueKey = reader.readString();
+        String defaultSearchField = reader.readString();
+        List<Map<String, Object>> fields = reader.readAttributesList();
+        List<Map<String, Object>> dynamicFields = reader.readAttributesList();
+        List<Map<String, Object>> copyFields = reader.readAttributesList();
+
+        int fieldTypeCount = reader.readInt();
+        List<FieldTypeDefinition> fieldTypes = new ArrayList<>(fieldTypeCount);
+        for (int i = 0; i < fieldTypeCount; i++) {
+            FieldTypeDefinition fieldType = new FieldTypeDefinition();
+            fieldType.setAttributes(reader.readAttributes());
+            fieldType.setAnalyzer(reader.readAnalyzer());
+            fieldType.setIndexAnalyzer(reader.readAnalyzer());
+            fieldType.setQueryAnalyzer(reader.readAnalyzer());
+            fieldType.setMultiTermAnalyzer(reader.readAnalyzer());
+            fieldType.setSimilarity(reader.readAttributes());
+            fieldTypes.add(fieldType);
+        }
+
+        return Optional.of(new ParsedSchema(
+            name,
+            version == null ? null : Float.intBitsToFloat((Integer) version),
+            uniqueKey,
+            defaultSearchField,
+            fields,
+            dynamicFields,
+            copyFields,
+            fieldTypes));
+    }
+
+    private static final class Writer {
+
+        private final DataOutputStream output;
+        // attribute names and most values repeat a lot, every string is written once and referenced afterwards
+        private final Map<String, Integer> strings = new HashMap<>();
+
+        Writer(DataOutputStream output) {
+            this.output = output;
+        }
+
+        void writeInt(int value) throws IOException {
+            int remaining = value;
+            while ((remaining & ~0x7F) != 0) {
+                this.output.writeByte((remaining & 0x7F) | 0x80);
+                remaining >>>= 7;
+            }
+            this.output.writeByte(remaining);
+        }
+
+        void writeString(String value) throws IOException {
+            if (value == null) {
+                this.writeInt(0);
+                return;
+            }
+
+            Integer index = this.strings.get(value);
+            if (index != null) {
+                this.writeInt(index + 2);
+                return;
+            }
+
+            this.strings.put(value, this.strings.size());
+            this.writeInt(1);
+            byte[] bytes = value.getBytes(UTF_8);
+            this.writeInt(bytes.length);
+            this.output.write(bytes);
+        }
+
+        void writeValue(Object value) throws IOException {
+            if (value == null) {
+                this.output.writeByte(TYPE_NULL);
+            } else if (value instanceof String) {
+                this.output.writeByte(TYPE_STRING);
+                this.writeString((String) value);
+            } else if (value instanceof Boolean) {
+                this.output.writeByte((Boolean) value ? TYPE_TRUE : TYPE_FALSE);
+            } else if (value instanceof Integer) {
+                this.output.writeByte(TYPE_INTEGER);
+                this.output.writeInt((Integer) value);
+            } else if (value instanceof Long) {
+                this.output.writeByte(TYPE_LONG);
+                this.output.writeLong((Long) value);
+            } else {
+                throw new IOException("Unsupported attribute value of type " + value.getClass().getName() + ".");
+            }
+        }
+
+        void writeAttributes(Map<String, Object> attributes) throws IOException {
+            if (attributes == null) {
+                this.writeInt(0);
+                return;
+            }
+
+            this.writeInt(attributes.size() + 1);
+            for (Map.Entry<String, Object> eachAttribute : attributes.entrySet()) {
+                this.writeString(eachAttribute.getKey());
+                this.writeValue(eachAttribute.getValue());
+            }
+        }
+
+        void writeAttributesList(List<Map<String, Object>> attributesList) throws IOException {
+            if (attributesList == null) {
+                this.writeInt(0);
+                return;
+            }
+
+            this.writeInt(attributesList.size() + 1);
+            for (Map<String, Object> eachAttributes : attributesList) {
+                this.writeAttributes(eachAttributes);
+            }
+        }
+
+        void writeAnalyzer(AnalyzerDefinition analyzer) throws IOException {
+            if (analyzer == null) {
+                this.output.writeBoolean(false);
+                return;
+            }
+
+            this.output.writeBoolean(true);
+            this.writeAttributes(analyzer.getAttributes());
+            this.writeAttributesList(analyzer.getCharFilters());
+            this.writeAttributes(analyzer.getTokenizer());
+            this.writeAttributesList(analyzer.getFilters());
+        }
+    }
+
+    private static final class Reader {
+
+        private final DataInputStream input;
+        private final List<String> strings = new ArrayList<>();
+
+        Reader(DataInputStream input) {
+            this.input = input;
+        }
+
+        int readInt() throws IOException {
+            int result = 0;
+            for (int shift = 0; shift < 32; shift += 7) {
+                int value = this.input.readUnsignedByte();
+                result |= (value & 0x7F) << shift;
+                if ((value & 0x80) == 0) {
+                    return result;
+                }
+            }
+            throw new IOException("Malformed variable length integer.");
+        }
+
+        String readString() throws IOException {
+            int reference = this.readInt();
+            if (reference == 0) {
+                return null;
+            }
+            if (reference > 1) {
+                if (reference - 2 >= this.strings.size()) {
+                    throw new IOException("Unknown string reference " + reference + ".");
+                }
+                return this.strings.get(reference - 2);
+            }
+
+            byte[] bytes = new byte[this.readInt()];
+            this.input.readFully(bytes);
+            String result = new String(bytes, UTF_8);
+            this.strings.add(result);
+            return result;
+        }
+
+        Object readValue() throws IOException {
+            byte type = this.input.readByte();
+            switch (type) {
+                case TYPE_NULL:
+                    return null;
+                case TYPE_STRING:
+                    return this.readString();
+                case TYPE_TRUE:
+                    return Boolean.TRUE;
+                case TYPE_FALSE:
+                    return Boolean.FALSE;
+                case TYPE_INTEGER:
+                    return this.input.readInt();
+                case TYPE_LONG:
+                    return this.input.readLong();
+                default:
+                    throw new IOException("Unknown attribute value type " + type + ".");
+            }
+        }
+
+        Map<String, Object> readAttributes() throws IOException {
+            int size = this.readInt();
+            if (size == 0) {
+                return null;
+            }
+
+            Map<String, Object> result = new HashMap<>();
+            for (int i = 0; i < size - 1; i++) {
+                String name = this.readString();
+                result.put(name, this.readValue());
+            }
+            return result;
+        }
+
+        List<Map<String, Object>> readAttributesList() throws IOException {
+            int size = this.readInt();
+            if (size == 0) {
+                return null;
+            }
+
+            List<Map<String, Object>> result = new ArrayList<>(size - 1);
+            for (int i = 0; i < size - 1; i++) {
+                result.add(this.readAttributes());
+            }
+            return result;
+        }
+
+        AnalyzerDefinition readAnalyzer() throws IOException {
+            if (!this.input.readBoolean()) {
+                return null;
+            }
+
+            AnalyzerDefinition result = new AnalyzerDefinition();
+            result.setAttributes(this.readAttributes());
+            result.setCharFilters(this.readAttributesList());
+            result.setTokenizer(this.readAttributes());
+            result.setFilters(this.readAttributesList());
+            return result;
+        }
+    }
+}
@@ -0,0 +1,167 @@
+/*
+ *   Licensed to the Indoqa Software Design und Beratung GmbH (Indoqa) under
+ *   one or more contributor license agreements. See the NOTICE file distributed
+ *   with this work for additional information regarding copyright ownership.
+ *   Indoqa licenses this file to You under the Apache License, Version 2.0
+ *   (the "License"); you may not use this file except in compliance with
+ *   the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.indoqa.solr.utils.validation.schema;
+
+import static org.joox.JOOX.$;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.solr.client.solrj.request.schema.AnalyzerDefinition;
+import org.apache.solr.client.solrj.request.schema.FieldTypeDefinition;
+import org.joox.JOOX;
+import org.joox.Match;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.NamedNodeMap;
+import org.w3c.dom.Node;
+import org.xml.sax.SAXException;
+
+public class DomSchemaParser implements SchemaParser {
+
+    @Override
+    public ParsedSchema parse(InputStream inputStream) throws IOException {
+        Document document;
+        try {
+            document = $(inputStream).document();
+        } catch (SAXException e) {
+            throw new IOException("Could not parse schema.", e);
+        }
+
+        return new ParsedSchema(
+            $(document).attr("name"),
+            getVersion(document),
+            $(document).find("uniqueKey").cdata(),
+            $(document).attr("defaultSearchField"),
+            getFieldsFor(document, "field", false),
+            getFieldsFor(document, "dynamicField", false),
+            getFieldsFor(document, "copyField", true),
+            getFieldTypes(document));
+    }
+
+    private static Float getVersion(Document document) {
+        String version = $(document).attr("version");
+        if (version == null) {
+            return null;
+        }
+        return Float.valueOf(version);
+    }
+
+    private static List<FieldTypeDefinition> getFieldTypes(Document document) {
+        List<FieldTypeDefinition> result = new ArrayList<>();
+        Match fieldTypes = $(document).find(JOOX.or(JOOX.tag("fieldType"), JOOX.tag("fieldtype")));
+        for (Element eachField : fieldTypes) {
+            FieldTypeDefinition fieldTypeDefinition = new FieldTypeDefinition();
+            fieldTypeDefinition.setAttributes(extractFieldAttributes(eachField));
+
+            Match analyzer = $(eachField).find("analyzer");
+            fieldTypeDefinition.setQueryAnalyzer(extractAnalyzer(analyzer, "query"));
+            fieldTypeDefinition.setIndexAnalyzer(extractAnalyzer(analyzer, "index"));
+            fieldTypeDefinition.setMultiTermAnalyzer(extractAnalyzer(analyzer, "multiterm"));
+            fieldTypeDefinition.setAnalyzer(extractAnalyzer(analyzer, ""));
+
+            fieldTypeDefinition.setSimilarity(extractSimilarity($(eachField).find("similarity")));
+            result.add(fieldTypeDefinition);
+        }
+        return result;
+    }
+
+    private static Map<String, Object> extractSimilarity(Match similarity) {
+        if (similarity.isEmpty()) {
+            return null;
+        }
+        Element element = similarity.get(0);
+        Map<String, Object> result = extractFieldAttributes(element);
+        for (Element eachElement : $(element).children().get()) {
+            result.put(eachElement.getAttribute("name"), eachElement.getTextContent());
+        }
+        return result;
+    }
+
+    private static AnalyzerDefinition extractAnalyzer(Match analyzers, String type) {
+        for (Element analyzer : analyzers) {
+            if (analyzer.getAttribute("type").equals(type)) {
+                return extractAnalyzer(analyzer);
+            }
+        }
+        return null;
+    }
+
+    private static AnalyzerDefinition extractAnalyzer(Element analyzer) {
+        AnalyzerDefinition result = new AnalyzerDefinition();
+
+        Map<String, Object> attributes = extractFieldAttributes(analyzer);
+        attributes.remove("type");
+        result.setAttributes(attributes);
+        result.setCharFilters(extractFilters(analyzer, "charFilter"));
+        result.setFilters(extractFilters(analyzer, "filter"));
+        result.setTokenizer(extractTokenizer(analyzer));
+
+        return result;
+    }
+
+    private static Map<String, Object> extractTokenizer(Element analyzer) {
+        Match tokenizer = $(analyzer).find("tokenizer");
+        if (tokenizer.isEmpty()) {
+            return null;
+        }
+        return extractFieldAttributes(tokenizer.get(0));
+    }
+
+    private static List<Map<String, Object>> extractFilters(Element analyzer, String filterType) {
+        Match elements = $(analyzer).find(filterType);
+        if (elements.isEmpty()) {
+            return null;
+        }
+        List<Map<String, Object>> result = new ArrayList<>(elements.size());
+        for (Element element : elements) {
+            result.add(extractFieldAttributes(element));
+        }
+        return result;
+    }
+
+    private static Map<String, Object> extractFieldAttributes(Element eachField) {
+        return extractFieldAttributes(eachField, false);
+    }
+
+    private static Map<String, Object> extractFieldAttributes(Element eachField, boolean numeric) {
+        Map<String, Object> fieldAttributes = new HashMap<>();
+
+        NamedNodeMap attributes = eachField.getAttributes();
+        for (int i = 0; i < attributes.getLength(); i++) {
+            Node item = attributes.item(i);
+            fieldAttributes.put(item.getNodeName(), AttributeValues.getValue(item.getNodeValue(), numeric));
+        }
+        return fieldAttributes;
+    }
+
+    private static List<Map<String, Object>> getFieldsFor(Document document, String fieldDescription, boolean numeric) {
+        List<Map<String, Object>> result = new ArrayList<>();
+
+        Match fields = $(document).find(fieldDescription);
+        for (Element eachField : fields) {
+            Map<String, Object> resultField = extractFieldAttributes(eachField, numeric);
+            result.add(resultField);
+        }
+
+        return result;
+    }
+}
@@ -0,0 +1,175 @@
+/*
+ *   Licensed to the Indoqa Software Design und Beratung GmbH (Indoqa) under
+ *   one or more contributor license agreements. See the NOTICE file distributed
+ *   with this work for additional information regarding copyright ownership.
+ *   Indoqa licenses this file to You under the Apache License, Version 2.0
+ *   (the "License"); you may not use this file except in compliance with
+ *   the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.indoqa.solr.utils.validation.schema;
+
+import static com.indoqa.solr.utils.SolrConstants.*;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.security.MessageDigest;
+import java.util.*;
+
+import org.apache.solr.client.solrj.request.schema.AnalyzerDefinition;
+import org.apache.solr.client.solrj.request.schema.FieldTypeDefinition;
+
+public final class FieldTypeHash {
+
+    private static final byte ABSENT = 0;
+    private static final byte MAP = 1;
+    private static final byte LIST = 2;
+    private static final byte BOOLEAN = 3;
+    private static final byte STRING = 4;
+    private static final byte OTHER = 5;
+
+    // a null hash is never equal, e.g. attributes with null values are always reported by the attributes validation
+    private final byte[] hash;
+    private final byte[][] analyzerHashes;
+
+    private FieldTypeHash(byte[] hash, byte[][] analyzerHashes) {
+        this.hash = hash;
+        this.analyzerHashes = analyzerHashes;
+    }
+
+    public static FieldTypeHash of(FieldTypeDefinition fieldType) {
+        byte[][] analyzerHashes = {hash(fieldType.getAnalyzer()), hash(fieldType.getIndexAnalyzer()),
+            hash(fieldType.getQueryAnalyzer()), hash(fieldType.getMultiTermAnalyzer())};
+
+        // the hash of a field type covers the hashes of its analyzers, like the inner nodes of a Merkle tree
+        MessageDigest digest = SchemaFingerprints.createDigest();
+        boolean comparable = update(digest, fieldType.getAttributes()) && update(digest, fieldType.getSimilarity());
+        for (byte[] eachAnalyzerHash : analyzerHashes) {
+            if (eachAnalyzerHash == null) {
+                comparable = false;
+                break;
+            }
+            digest.update(eachAnalyzerHash);
+        }
+        return new FieldTypeHash(comparable ? digest.digest() : null, analyzerHashes);
+    }
+
+    private static byte[] hash(AnalyzerDefinition analyzer) {
+        MessageDigest digest = SchemaFingerprints.createDigest();
+        if (analyzer == null) {
+            digest.update(ABSENT);
+            return digest.digest();
+        }
+
+        boolean comparable = update(digest, analyzer.getAttributes())
+            && update(digest, analyzer.getTokenizer())
+            && update(digest, analyzer.getCharFilters())
+            && update(digest, analyzer.getFilters());
+        return comparable ? digest.digest() : null;
+    }
+
+    private static int getAnalyzerIndex(String analyzerType) {
+        switch (analyzerType) {
+            case DEFAULT_ANALYZER:
+                return 0;
+            case INDEX_ANALYZER:
+                return 1;
+            case QUERY_ANALYZER:
+                return 2;
+            case MULTITERM_ANALYZER:
+                return 3;
+            default:
+                throw new IllegalArgumentException("Unknown analyzer type " + analyzerType + ".");
+        }
+    }
+
+    private static boolean update(MessageDigest digest, Map<String, Object> attributes) {
+        // a missing map of attributes is validated like an empty one
+        return updateValue(digest, attributes == null ? Collections.emptyMap() : attributes);
+    }
+
+    private static boolean update(MessageDigest digest, List<Map<String, Object>> values) {
+        return updateValue(digest, values == null ? Collections.emptyList() : values);
+    }
+
+    private static boolean updateValue(MessageDigest digest, Object value) {
+        if (value == null) {
+            return false;
+        }
+
+        if (value instanceof Map) {
+            Map<?, ?> map = (Map<?, ?>) value;
+            List<String> keys = new ArrayList<>(map.size());
+            for (Object eachKey : map.keySet()) {
+                keys.add(String.valueOf(eachKey));
+            }
+            Collections.sort(keys);
+
+            digest.update(MAP);
+            updateInt(digest, keys.size());
+            for (String eachKey : keys) {
+                updateString(digest, eachKey);
+                if (!updateValue(digest, map.get(eachKey))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        if (value instanceof List) {
+            List<?> list = (List<?>) value;
+            digest.update(LIST);
+            updateInt(digest, list.size());
+            for (Object eachValue : list) {
+                if (!updateValue(digest, eachValue)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        // values are hashed with their type, equal hashes must mean equal values for the attributes validation
+        if (value instanceof Boolean) {
+            digest.update(BOOLEAN);
+            digest.update((byte) ((Boolean) value ? 1 : 0));
+        } else if (value instanceof String) {
+            digest.update(STRING);
+            updateString(digest, (String) value);
+        } else {
+            digest.update(OTHER);
+            updateString(digest, value.getClass().getName());
+            updateString(digest, value.toString());
+        }
+        return true;
+    }
+
+    private static void updateString(MessageDigest digest, String value) {
+        byte[] bytes = value.getBytes(UTF_8);
+        updateInt(digest, bytes.length);
+        digest.update(bytes);
+    }
+
+    private static void updateInt(MessageDigest digest, int value) {
+        digest.update((byte) (value >>> 24));
+        digest.update((byte) (value >>> 16));
+        digest.update((byte) (value >>> 8));
+        digest.update((byte) value);
+    }
+
+    public boolean isEqual(FieldTypeHash other) {
+        return this.hash != null && other.hash != null && MessageDigest.isEqual(this.hash, other.hash);
+    }
+
+    public boolean hasEqualAnalyzer(String analyzerType, FieldTypeHash other) {
+        int index = getAnalyzerIndex(analyzerType);
+        byte[] analyzerHash = this.analyzerHashes[index];
+        byte[] otherAnalyzerHash = other.analyzerHashes[index];
+        return analyzerHash != null && otherAnalyzerHash != null && MessageDigest.isEqual(analyzerHash, otherAnalyzerHash);
+    }
+}
@@ -0,0 +1,202 @@
+/*
+ *   Licensed to the Indoqa Software Design und Beratung GmbH (Indoqa) under
+ *   one or more contributor license agreements. See the NOTICE file distributed
+ *   with this work for additional information regarding copyright ownership.
+ *   Indoqa licenses this file to You under the Apache License, Version 2.0
+ *   (the "License"); you may not use this file except in compliance with
+ *   the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.indoqa.solr.utils.validation.schema;
+
+import static com.indoqa.solr.utils.SolrConstants.NAME_ATTRIBUTE;
+import static com.indoqa.solr.utils.SolrConstants.SOURCE_ATTRIBUTE;
+import static java.util.Collections.*;
+
+import java.util.*;
+
+import org.apache.solr.client.solrj.request.schema.AnalyzerDefinition;
+import org.apache.solr.client.solrj.request.schema.FieldTypeDefinition;
+
+public final class ParsedSchema {
+
+    private final String name;
+    private final Float version;
+    private final String uniqueKey;
+    private final String defaultSearchField;
+
+    private final List<Map<String, Object>> fields;
+    private final List<Map<String, Object>> dynamicFields;
+    private final List<Map<String, Object>> copyFields;
+    private final List<FieldTypeDefinition> fieldTypes;
+
+    private final Map<String, Map<String, Object>> fieldsByName;
+    private final Map<String, Map<String, Object>> dynamicFieldsByName;
+    private final Map<String, List<Map<String, Object>>> copyFieldsBySource;
+    private final Map<String, FieldTypeDefinition> fieldTypesByName;
+
+    private final Set<SchemaSection> sections;
+
+    public ParsedSchema(String name, Float version, String uniqueKey, String defaultSearchField, List<Map<String, Object>> fields,
+        List<Map<String, Object>> dynamicFields, List<Map<String, Object>> copyFields, List<FieldTypeDefinition> fieldTypes) {
+        this(name, version, uniqueKey, defaultSearchField, fields, dynamicFields, copyFields, fieldTypes,
+            EnumSet.allOf(SchemaSection.class));
+    }
+
+    public ParsedSchema(String name, Float version, String uniqueKey, String defaultSearchField, List<Map<String, Object>> fields,
+        List<Map<String, Object>> dynamicFields, List<Map<String, Object>> copyFields, List<FieldTypeDefinition> fieldTypes,
+        Set<SchemaSection> sections) {
+        this.name = name;
+        this.version = version;
+        this.uniqueKey = uniqueKey;
+        this.defaultSearchField = defaultSearchField;
+
+        this.fields = freezeAttributes(fields);
+        this.dynamicFields = freezeAttributes(dynamicFields);
+        this.copyFields = freezeAttributes(copyFields);
+        this.fieldTypes = freezeFieldTypes(fieldTypes);
+
+        this.fieldsByName = indexByName(this.fields);
+        this.dynamicFieldsByName = indexByName(this.dynamicFields);
+        this.copyFieldsBySource = indexBySource(this.copyFields);
+        this.fieldTypesByName = indexFieldTypesByName(this.fieldTypes);
+
+        this.sections = unmodifiableSet(sections.isEmpty() ? EnumSet.noneOf(SchemaSection.class) : EnumSet.copyOf(sections));
+    }
+
+    private static Map<String, Object> freeze(Map<String, Object> attributes) {
+        if (attributes == null) {
+            return null;
+        }
+        return SchemaAttributes.of(attributes);
+    }
+
+    private static AnalyzerDefinition freeze(AnalyzerDefinition analyzer) {
+        if (analyzer == null) {
+            return null;
+        }
+        AnalyzerDefinition result = new AnalyzerDefinition();
+        result.setAttributes(freeze(analyzer.getAttributes()));
+        result.setCharFilters(freezeAttributes(analyzer.getCharFilters()));
+        result.setFilters(freezeAttributes(analyzer.getFilters()));
+        result.setTokenizer(freeze(analyzer.getTokenizer()));
+        return result;
+    }
+
+    private static List<Map<String, Object>> freezeAttributes(List<Map<String, Object>> attributes) {
+        if (attributes == null) {
+            return null;
+        }
+        List<Map<String, Object>> result = new ArrayList<>(attributes.size());
+        for (Map<String, Object> eachAttributes : attributes) {
+            result.add(freeze(eachAttributes));
+        }
+        return unmodifiableList(result);
+    }
+
+    private static List<FieldTypeDefinition> freezeFieldTypes(List<FieldTypeDefinition> fieldTypes) {
+        List<FieldTypeDefinition> result = new ArrayList<>(fieldTypes.size());
+        for (FieldTypeDefinition eachFieldType : fieldTypes) {
+            FieldTypeDefinition fieldType = new FieldTypeDefinition();
+            fieldType.setAttributes(freeze(eachFieldType.getAttributes()));
+            fieldType.setAnalyzer(freeze(eachFieldType.getAnalyzer()));
+            fieldType.setIndexAnalyzer(freeze(eachFieldType.getIndexAnalyzer()));
+            fieldType.setQueryAnalyzer(freeze(eachFieldType.getQueryAnalyzer()));
+            fieldType.setMultiTermAnalyzer(freeze(eachFieldType.getMultiTermAnalyzer()));
+            fieldType.setSimilarity(freeze(eachFieldType.getSimilarity()));
+            result.add(fieldType);
+        }
+        return unmodifiableList(result);
+    }
+
+    private static Map<String, Map<String, Object>> indexByName(List<Map<String, Object>> attributes) {
+        Map<String, Map<String, Object>> result = new HashMap<>();
+        for (Map<String, Object> eachAttributes : attributes) {
+            Object key = eachAttributes.get(NAME_ATTRIBUTE);
+            if (key != null) {
+                result.putIfAbsent(String.valueOf(key), eachAttributes);
+            }
+        }
+        return unmodifiableMap(result);
+    }
+
+    private static Map<String, List<Map<String, Object>>> indexBySource(List<Map<String, Object>> attributes) {
+        Map<String, List<Map<String, Object>>> result = new HashMap<>();
+        for (Map<String, Object> eachAttributes : attributes) {
+            String source = String.valueOf(eachAttributes.get(SOURCE_ATTRIBUTE));
+            result.computeIfAbsent(source, key -> new ArrayList<>()).add(eachAttributes);
+        }
+        result.replaceAll((key, value) -> unmodifiableList(value));
+        return unmodifiableMap(result);
+    }
+
+    private static Map<String, FieldTypeDefinition> indexFieldTypesByName(List<FieldTypeDefinition> fieldTypes) {
+        Map<String, FieldTypeDefinition> result = new HashMap<>();
+        for (FieldTypeDefinition eachFieldType : fieldTypes) {
+            Object key = eachFieldType.getAttributes().get(NAME_ATTRIBUTE);
+            if (key != null) {
+                result.putIfAbsent(String.valueOf(key), eachFieldType);
+            }
+        }
+        return unmodifiableMap(result);
+    }
+
+    public String getName() {
+        return this.name;
+    }
+
+    public Float getVersion() {
+        return this.version;
+    }
+
+    public String getUniqueKey() {
+        return this.uniqueKey;
+    }
+
+    public String getDefaultSearchField() {
+        return this.defaultSearchField;
+    }
+
+    public List<Map<String, Object>> getFields() {
+        return this.fields;
+    }
+
+    public Optional<Map<String, Object>> getField(String fieldName) {
+        return Optional.ofNullable(this.fieldsByName.get(fieldName));
+    }
+
+    public List<Map<String, Object>> getDynamicFields() {
+        return this.dynamicFields;
+    }
+
+    public Optional<Map<String, Object>> getDynamicField(String fieldName) {
+        return Optional.ofNullable(this.dynamicFieldsByName.get(fieldName));
+    }
+
+    public List<Map<String, Object>> getCopyFields() {
+        return this.copyFields;
+    }
+
+    public List<Map<String, Object>> getCopyFields(String source) {
+        return this.copyFieldsBySource.getOrDefault(source, emptyList());
+    }
+
+    public List<FieldTypeDefinition> getFieldTypes() {
+        return this.fieldTypes;
+    }
+
+    public Optional<FieldTypeDefinition> getFieldType(String fieldTypeName) {
+        return Optional.ofNullable(this.fieldTypesByName.get(fieldTypeName));
+    }
+
+    public Set<SchemaSection> getSections() {
+        return this.sections;
+    }
+}
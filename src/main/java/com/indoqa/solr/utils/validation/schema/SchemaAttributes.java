@@ -0,0 +1,191 @@
+/*
+ *   Licensed to the Indoqa Software Design und Beratung GmbH (Indoqa) under
+ *   one or more contributor license agreements. See the NOTICE file distributed
+ *   with this work for additional information regarding copyright ownership.
+ *   Indoqa licenses this file to You under the Apache License, Version 2.0
+ *   (the "License"); you may not use this file except in compliance with
+ *   the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.indoqa.solr.utils.validation.schema;
+
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.unmodifiableMap;
+
+import java.util.*;
+
+public final class SchemaAttributes extends AbstractMap<String, Object> {
+
+    // boolean field properties as documented in the Solr reference guide, packed into the bits of an int
+    private static final String[] PROPERTIES = {"indexed", "stored", "docValues", "multiValued", "required", "omitNorms",
+        "omitTermFreqAndPositions", "omitPositions", "termVectors", "termPositions", "termOffsets", "termPayloads",
+        "useDocValuesAsStored", "large", "sortMissingFirst", "sortMissingLast", "uninvertible", "autoGeneratePhraseQueries",
+        "enableGraphQueries"};
+    private static final Map<String, Integer> PROPERTY_INDEXES = new HashMap<>();
+
+    static {
+        for (int i = 0; i < PROPERTIES.length; i++) {
+            PROPERTY_INDEXES.put(PROPERTIES[i], i);
+        }
+    }
+
+    private final int presentProperties;
+    private final int propertyValues;
+    private final Map<String, Object> otherAttributes;
+
+    private SchemaAttributes(int presentProperties, int propertyValues, Map<String, Object> otherAttributes) {
+        this.presentProperties = presentProperties;
+        this.propertyValues = propertyValues;
+        this.otherAttributes = otherAttributes;
+    }
+
+    public static SchemaAttributes of(Map<String, Object> attributes) {
+        if (attributes instanceof SchemaAttributes) {
+            return (SchemaAttributes) attributes;
+        }
+
+        StringPool stringPool = StringPool.getInstance();
+        int presentProperties = 0;
+        int propertyValues = 0;
+        Map<String, Object> otherAttributes = null;
+        for (Map.Entry<String, Object> eachAttribute : attributes.entrySet()) {
+            Integer index = PROPERTY_INDEXES.get(eachAttribute.getKey());
+            if (index != null && eachAttribute.getValue() instanceof Boolean) {
+                presentProperties |= 1 << index;
+                if ((Boolean) eachAttribute.getValue()) {
+                    propertyValues |= 1 << index;
+                }
+                continue;
+            }
+
+            if (otherAttributes == null) {
+                otherAttributes = new HashMap<>();
+            }
+            otherAttributes.put(stringPool.intern(eachAttribute.getKey()), stringPool.intern(eachAttribute.getValue()));
+        }
+
+        return new SchemaAttributes(presentProperties, propertyValues,
+            otherAttributes == null ? emptyMap() : unmodifiableMap(otherAttributes));
+    }
+
+    public static boolean isEqualValue(Object value, Object otherValue) {
+        // custom field attributes may return as string literal and not as primitive boolean
+        if (value instanceof Boolean) {
+            return isEqualBoolean((Boolean) value, otherValue);
+        }
+        if (otherValue instanceof Boolean) {
+            return isEqualBoolean((Boolean) otherValue, value);
+        }
+
+        return Objects.equals(value, otherValue);
+    }
+
+    private static boolean isEqualBoolean(Boolean value, Object otherValue) {
+        if (otherValue instanceof Boolean) {
+            return value.booleanValue() == (Boolean) otherValue;
+        }
+        if (otherValue instanceof String) {
+            return value.toString().equalsIgnoreCase((String) otherValue);
+        }
+        return otherValue != null && value.toString().equalsIgnoreCase(otherValue.toString());
+    }
+
+    public boolean hasEqualValues(SchemaAttributes other) {
+        if (this.presentProperties != other.presentProperties || this.propertyValues != other.propertyValues) {
+            return false;
+        }
+        if (this.otherAttributes.size() != other.otherAttributes.size()) {
+            return false;
+        }
+
+        for (Map.Entry<String, Object> eachAttribute : this.otherAttributes.entrySet()) {
+            Object otherValue = other.otherAttributes.get(eachAttribute.getKey());
+            if (eachAttribute.getValue() == null || otherValue == null) {
+                return false;
+            }
+            if (!isEqualValue(eachAttribute.getValue(), otherValue)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        Integer index = PROPERTY_INDEXES.get(key);
+        if (index != null && (this.presentProperties & 1 << index) != 0) {
+            return true;
+        }
+        return this.otherAttributes.containsKey(key);
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        return new AbstractSet<Entry<String, Object>>() {
+
+            @Override
+            public Iterator<Entry<String, Object>> iterator() {
+                return new EntryIterator();
+            }
+
+            @Override
+            public int size() {
+                return SchemaAttributes.this.size();
+            }
+        };
+    }
+
+    @Override
+    public Object get(Object key) {
+        Integer index = PROPERTY_INDEXES.get(key);
+        if (index != null && (this.presentProperties & 1 << index) != 0) {
+            return (this.propertyValues & 1 << index) != 0;
+        }
+        return this.otherAttributes.get(key);
+    }
+
+    public Boolean getProperty(String name) {
+        Object value = this.get(name);
+        if (value instanceof Boolean) {
+            return (Boolean) value;
+        }
+        return null;
+    }
+
+    @Override
+    public int size() {
+        return Integer.bitCount(this.presentProperties) + this.otherAttributes.size();
+    }
+
+    private class EntryIterator implements Iterator<Entry<String, Object>> {
+
+        private int remainingProperties = SchemaAttributes.this.presentProperties;
+        private final Iterator<Entry<String, Object>> otherAttributesIterator = SchemaAttributes.this.otherAttributes
+            .entrySet()
+            .iterator();
+
+        @Override
+        public boolean hasNext() {
+            return this.remainingProperties != 0 || this.otherAttributesIterator.hasNext();
+        }
+
+        @Override
+        public Entry<String, Object> next() {
+            if (this.remainingProperties == 0) {
+                return this.otherAttributesIterator.next();
+            }
+
+            int index = Integer.numberOfTrailingZeros(this.remainingProperties);
+            this.remainingProperties &= this.remainingProperties - 1;
+            boolean value = (SchemaAttributes.this.propertyValues & 1 << index) != 0;
+            return new SimpleImmutableEntry<>(PROPERTIES[index], value);
+        }
+    }
+}
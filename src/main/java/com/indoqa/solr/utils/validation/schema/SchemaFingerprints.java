@@ -0,0 +1,191 @@
+/*
+ *   Licensed to the Indoqa Software Design und Beratung GmbH (Indoqa) under
+ *   one or more contributor license agreements. See the NOTICE file distributed
+ *   with this work for additional information regarding copyright ownership.
+ *   Indoqa licenses this file to You under the Apache License, Version 2.0
+ *   (the "License"); you may not use this file except in compliance with
+ *   the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.indoqa.solr.utils.validation.schema;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+
+import org.apache.solr.client.solrj.request.schema.AnalyzerDefinition;
+import org.apache.solr.client.solrj.request.schema.FieldTypeDefinition;
+import org.apache.solr.client.solrj.response.schema.SchemaRepresentation;
+
+public final class SchemaFingerprints {
+
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    private SchemaFingerprints() {
+        // hide constructor
+    }
+
+    public static String checksum(byte[] content) {
+        return toHex(createDigest().digest(content));
+    }
+
+    public static String fingerprint(ParsedSchema parsedSchema) {
+        return fingerprint(
+            parsedSchema.getName(),
+            parsedSchema.getVersion(),
+            parsedSchema.getUniqueKey(),
+            parsedSchema.getFields(),
+            parsedSchema.getDynamicFields(),
+            parsedSchema.getCopyFields(),
+            parsedSchema.getFieldTypes());
+    }
+
+    public static String fingerprint(SchemaRepresentation schemaRepresentation) {
+        return fingerprint(
+            schemaRepresentation.getName(),
+            schemaRepresentation.getVersion(),
+            schemaRepresentation.getUniqueKey(),
+            schemaRepresentation.getFields(),
+            schemaRepresentation.getDynamicFields(),
+            schemaRepresentation.getCopyFields(),
+            schemaRepresentation.getFieldTypes());
+    }
+
+    public static String fingerprint(ParsedSchema parsedSchema, SchemaSection schemaSection) {
+        MessageDigest digest = createDigest();
+        switch (schemaSection) {
+            case FIELDS:
+                update(digest, "fields", canonicalize(parsedSchema.getFields()));
+                break;
+            case DYNAMIC_FIELDS:
+                update(digest, "dynamicFields", canonicalize(parsedSchema.getDynamicFields()));
+                break;
+            case COPY_FIELDS:
+                update(digest, "copyFields", canonicalize(parsedSchema.getCopyFields()));
+                break;
+            case FIELD_TYPES:
+                update(digest, "fieldTypes", canonicalize(parsedSchema.getFieldTypes()));
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown schema section " + schemaSection + ".");
+        }
+        return toHex(digest.digest());
+    }
+
+    private static String fingerprint(String name, Float version, String uniqueKey, List<Map<String, Object>> fields,
+        List<Map<String, Object>> dynamicFields, List<Map<String, Object>> copyFields, List<FieldTypeDefinition> fieldTypes) {
+        MessageDigest digest = createDigest();
+        update(digest, "name", Collections.singletonList(String.valueOf(name)));
+        update(digest, "version", Collections.singletonList(String.valueOf(version)));
+        update(digest, "uniqueKey", Collections.singletonList(String.valueOf(uniqueKey)));
+        // the order of fields and field types is not significant for Solr, so they are hashed in canonical order
+        update(digest, "fields", canonicalize(fields));
+        update(digest, "dynamicFields", canonicalize(dynamicFields));
+        update(digest, "copyFields", canonicalize(copyFields));
+        update(digest, "fieldTypes", canonicalize(fieldTypes));
+        return toHex(digest.digest());
+    }
+
+    static MessageDigest createDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not supported by this JVM.", e);
+        }
+    }
+
+    private static void update(MessageDigest digest, String section, List<String> values) {
+        digest.update(section.getBytes(UTF_8));
+        digest.update((byte) 0);
+        for (String eachValue : values) {
+            digest.update(eachValue.getBytes(UTF_8));
+            digest.update((byte) 0);
+        }
+        digest.update((byte) 1);
+    }
+
+    private static List<String> canonicalize(List<?> values) {
+        if (values == null) {
+            return Collections.emptyList();
+        }
+
+        List<String> result = new ArrayList<>(values.size());
+        for (Object eachValue : values) {
+            StringBuilder stringBuilder = new StringBuilder();
+            append(stringBuilder, eachValue);
+            result.add(stringBuilder.toString());
+        }
+        Collections.sort(result);
+        return result;
+    }
+
+    private static void append(StringBuilder stringBuilder, Object value) {
+        if (value instanceof Map) {
+            append(stringBuilder, (Map<?, ?>) value);
+        } else if (value instanceof List) {
+            stringBuilder.append('[');
+            for (Object eachValue : (List<?>) value) {
+                append(stringBuilder, eachValue);
+                stringBuilder.append(',');
+            }
+            stringBuilder.append(']');
+        } else if (value instanceof FieldTypeDefinition) {
+            FieldTypeDefinition fieldType = (FieldTypeDefinition) value;
+            Map<String, Object> parts = new HashMap<>();
+            parts.put("attributes", fieldType.getAttributes());
+            parts.put("analyzer", fieldType.getAnalyzer());
+            parts.put("indexAnalyzer", fieldType.getIndexAnalyzer());
+            parts.put("queryAnalyzer", fieldType.getQueryAnalyzer());
+            parts.put("multiTermAnalyzer", fieldType.getMultiTermAnalyzer());
+            parts.put("similarity", fieldType.getSimilarity());
+            append(stringBuilder, parts);
+        } else if (value instanceof AnalyzerDefinition) {
+            AnalyzerDefinition analyzer = (AnalyzerDefinition) value;
+            Map<String, Object> parts = new HashMap<>();
+            parts.put("attributes", analyzer.getAttributes());
+            parts.put("charFilters", analyzer.getCharFilters());
+            parts.put("tokenizer", analyzer.getTokenizer());
+            parts.put("filters", analyzer.getFilters());
+            append(stringBuilder, parts);
+        } else {
+            // attribute values are compared by their string form, e.g. true and "true" are equal
+            stringBuilder.append(value);
+        }
+    }
+
+    private static void append(StringBuilder stringBuilder, Map<?, ?> map) {
+        Map<String, Object> sortedMap = new TreeMap<>();
+        for (Map.Entry<?, ?> eachEntry : map.entrySet()) {
+            if (eachEntry.getValue() != null) {
+                sortedMap.put(String.valueOf(eachEntry.getKey()), eachEntry.getValue());
+            }
+        }
+
+        stringBuilder.append('{');
+        for (Map.Entry<String, Object> eachEntry : sortedMap.entrySet()) {
+            stringBuilder.append(eachEntry.getKey());
+            stringBuilder.append('=');
+            append(stringBuilder, eachEntry.getValue());
+            stringBuilder.append(';');
+        }
+        stringBuilder.append('}');
+    }
+
+    private static String toHex(byte[] bytes) {
+        char[] result = new char[bytes.length * 2];
+        for (int i = 0; i < bytes.length; i++) {
+            result[i * 2] = HEX_DIGITS[(bytes[i] >> 4) & 0xF];
+            result[i * 2 + 1] = HEX_DIGITS[bytes[i] & 0xF];
+        }
+        return new String(result);
+    }
+}
@@ -0,0 +1,285 @@
+/*
+ *   Licensed to the Indoqa Software Design und Beratung GmbH (Indoqa) under
+ *   one or more contributor license agreements. See the NOTICE file distributed
+ *   with this work for additional information regarding copyright ownership.
+ *   Indoqa licenses this file to You under the Apache License, Version 2.0
+ *   (the "License"); you may not use this file except in compliance with
+ *   the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.indoqa.solr.utils.validation.schema;
+
+import static javax.xml.stream.XMLStreamConstants.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.*;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import org.apache.solr.client.solrj.request.schema.AnalyzerDefinition;
+import org.apache.solr.client.solrj.request.schema.FieldTypeDefinition;
+
+public class StaxSchemaParser implements SchemaParser {
+
+    private static final XMLInputFactory XML_INPUT_FACTORY = createXmlInputFactory();
+
+    private static XMLInputFactory createXmlInputFactory() {
+        XMLInputFactory result = XMLInputFactory.newInstance();
+        result.setProperty(XMLInputFactory.IS_COALESCING, true);
+        // internal entities are replaced like the DOM parser does, external DTDs and entities are never loaded
+        result.setProperty(XMLInputFactory.SUPPORT_DTD, true);
+        result.setProperty(XMLInputFactory.IS_REPLACING_ENTITY_REFERENCES, true);
+        result.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        result.setXMLResolver((publicId, systemId, baseUri, namespace) -> new ByteArrayInputStream(new byte[0]));
+        return result;
+    }
+
+    private static String getAttribute(XMLStreamReader reader, String name) {
+        for (int i = 0; i < reader.getAttributeCount(); i++) {
+            if (name.equals(getAttributeName(reader, i))) {
+                return reader.getAttributeValue(i);
+            }
+        }
+        return null;
+    }
+
+    private static String getAttributeName(XMLStreamReader reader, int index) {
+        String prefix = reader.getAttributePrefix(index);
+        if (prefix == null || prefix.isEmpty()) {
+            return reader.getAttributeLocalName(index);
+        }
+        return prefix + ':' + reader.getAttributeLocalName(index);
+    }
+
+    private static Map<String, Object> readAttributes(XMLStreamReader reader, boolean numeric) {
+        Map<String, Object> result = new HashMap<>();
+        for (int i = 0; i < reader.getAttributeCount(); i++) {
+            result.put(getAttributeName(reader, i), AttributeValues.getValue(reader.getAttributeValue(i), numeric));
+        }
+        return result;
+    }
+
+    private static AnalyzerDefinition readAnalyzer(XMLStreamReader reader) throws XMLStreamException {
+        AnalyzerDefinition result = new AnalyzerDefinition();
+
+        Map<String, Object> attributes = readAttributes(reader, false);
+        attributes.remove("type");
+        result.setAttributes(attributes);
+
+        List<Map<String, Object>> charFilters = new ArrayList<>();
+        List<Map<String, Object>> filters = new ArrayList<>();
+
+        int depth = 1;
+        while (depth > 0) {
+            int event = reader.next();
+            if (event == END_ELEMENT) {
+                depth--;
+                continue;
+            }
+            if (event != START_ELEMENT) {
+                continue;
+            }
+            depth++;
+
+            String elementName = reader.getLocalName();
+            if ("charFilter".equals(elementName)) {
+                charFilters.add(readAttributes(reader, false));
+            } else if ("filter".equals(elementName)) {
+                filters.add(readAttributes(reader, false));
+            } else if ("tokenizer".equals(elementName) && result.getTokenizer() == null) {
+                result.setTokenizer(readAttributes(reader, false));
+            }
+        }
+
+        result.setCharFilters(charFilters.isEmpty() ? null : charFilters);
+        result.setFilters(filters.isEmpty() ? null : filters);
+        return result;
+    }
+
+    private static FieldTypeDefinition readFieldType(XMLStreamReader reader) throws XMLStreamException {
+        FieldTypeDefinition result = new FieldTypeDefinition();
+        result.setAttributes(readAttributes(reader, false));
+
+        Map<String, AnalyzerDefinition> analyzers = new HashMap<>();
+
+        int depth = 1;
+        while (depth > 0) {
+            int event = reader.next();
+            if (event == END_ELEMENT) {
+                depth--;
+                continue;
+            }
+            if (event != START_ELEMENT) {
+                continue;
+            }
+
+            String elementName = reader.getLocalName();
+            if ("analyzer".equals(elementName)) {
+                String type = getAttribute(reader, "type");
+                analyzers.putIfAbsent(type == null ? "" : type, readAnalyzer(reader));
+                continue;
+            }
+            if ("similarity".equals(elementName) && result.getSimilarity() == null) {
+                result.setSimilarity(readSimilarity(reader));
+                continue;
+            }
+            depth++;
+        }
+
+        result.setQueryAnalyzer(analyzers.get("query"));
+        result.setIndexAnalyzer(analyzers.get("index"));
+        result.setMultiTermAnalyzer(analyzers.get("multiterm"));
+        result.setAnalyzer(analyzers.get(""));
+        return result;
+    }
+
+    private static Map<String, Object> readSimilarity(XMLStreamReader reader) throws XMLStreamException {
+        Map<String, Object> result = readAttributes(reader, false);
+
+        while (true) {
+            int event = reader.next();
+            if (event == END_ELEMENT) {
+                return result;
+            }
+            if (event == START_ELEMENT) {
+                String name = getAttribute(reader, "name");
+                result.put(name == null ? "" : name, readText(reader));
+            }
+        }
+    }
+
+    private static String readText(XMLStreamReader reader) throws XMLStreamException {
+        StringBuilder result = new StringBuilder();
+
+        int depth = 1;
+        while (depth > 0) {
+            int event = reader.next();
+            if (event == START_ELEMENT) {
+                depth++;
+            } else if (event == END_ELEMENT) {
+                depth--;
+            } else if (event == CHARACTERS || event == CDATA || event == SPACE) {
+                result.append(reader.getText());
+            }
+        }
+
+        return result.toString();
+    }
+
+    private static Float toVersion(String version) {
+        if (version == null) {
+            return null;
+        }
+        return Float.valueOf(version);
+    }
+
+    private static void skipElement(XMLStreamReader reader) throws XMLStreamException {
+        int depth = 1;
+        while (depth > 0) {
+            int event = reader.next();
+            if (event == START_ELEMENT) {
+                depth++;
+            } else if (event == END_ELEMENT) {
+                depth--;
+            }
+        }
+    }
+
+    @Override
+    public ParsedSchema parse(InputStream inputStream) throws IOException {
+        return this.parse(inputStream, EnumSet.allOf(SchemaSection.class));
+    }
+
+    @Override
+    public ParsedSchema parse(InputStream inputStream, Set<SchemaSection> sections) throws IOException {
+        try {
+            XMLStreamReader reader = XML_INPUT_FACTORY.createXMLStreamReader(inputStream);
+            try {
+                return read(reader, sections);
+            } finally {
+                reader.close();
+            }
+        } catch (XMLStreamException e) {
+            throw new IOException("Could not parse schema.", e);
+        }
+    }
+
+    private ParsedSchema read(XMLStreamReader reader, Set<SchemaSection> sections) throws XMLStreamException {
+        boolean readFields = sections.contains(SchemaSection.FIELDS);
+        boolean readDynamicFields = sections.contains(SchemaSection.DYNAMIC_FIELDS);
+        boolean readCopyFields = sections.contains(SchemaSection.COPY_FIELDS);
+        boolean readFieldTypes = sections.contains(SchemaSection.FIELD_TYPES);
+
+        String name = null;
+        String version = null;
+        String defaultSearchField = null;
+        String uniqueKey = null;
+
+        List<Map<String, Object>> fields = new ArrayList<>();
+        List<Map<String, Object>> dynamicFields = new ArrayList<>();
+        List<Map<String, Object>> copyFields = new ArrayList<>();
+        List<FieldTypeDefinition> fieldTypes = new ArrayList<>();
+
+        boolean root = true;
+        while (reader.hasNext()) {
+            if (reader.next() != START_ELEMENT) {
+                continue;
+            }
+
+            if (root) {
+                name = getAttribute(reader, "name");
+                version = getAttribute(reader, "version");
+                defaultSearchField = getAttribute(reader, "defaultSearchField");
+                root = false;
+                continue;
+            }
+
+            switch (reader.getLocalName()) {
+                case "field":
+                    if (readFields) {
+                        fields.add(readAttributes(reader, false));
+                    }
+                    break;
+                case "dynamicField":
+                    if (readDynamicFields) {
+                        dynamicFields.add(readAttributes(reader, false));
+                    }
+                    break;
+                case "copyField":
+                    if (readCopyFields) {
+                        copyFields.add(readAttributes(reader, true));
+                    }
+                    break;
+                case "fieldType":
+                case "fieldtype":
+                    if (readFieldTypes) {
+                        fieldTypes.add(readFieldType(reader));
+                    } else {
+                        skipElement(reader);
+                    }
+                    break;
+                case "uniqueKey":
+                    String text = readText(reader);
+                    if (uniqueKey == null) {
+                        uniqueKey = text;
+                    }
+                    break;
+                default:
+                    break;
+            }
+        }
+
+        return new ParsedSchema(name, toVersion(version), uniqueKey, defaultSearchField, fields, dynamicFields, copyFields, fieldTypes,
+            sections);
+    }
+}
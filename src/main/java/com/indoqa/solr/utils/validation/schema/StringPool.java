@@ -0,0 +1,167 @@
+/*
+ *   Licensed to the Indoqa Software Design und Beratung GmbH (Indoqa) under
+ *   one or more contributor license agreements. See the NOTICE file distributed
+ *   with this work for additional information regarding copyright ownership.
+ *   Indoqa licenses this file to You under the Apache License, Version 2.0
+ *   (the "License"); you may not use this file except in compliance with
+ *   the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.indoqa.solr.utils.validation.schema;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.solr.client.solrj.request.schema.AnalyzerDefinition;
+import org.apache.solr.client.solrj.request.schema.FieldTypeDefinition;
+import org.apache.solr.client.solrj.response.schema.SchemaRepresentation;
+
+public final class StringPool {
+
+    private static final StringPool INSTANCE = new StringPool(100_000, 128);
+
+    // shallow size of a String plus the header of its byte array on a 64 bit JVM with compressed oops
+    private static final int STRING_OVERHEAD = 24 + 16;
+
+    private final Map<String, String> values = new ConcurrentHashMap<>();
+    private final int maxSize;
+    private final int maxLength;
+
+    private final AtomicLong deduplicatedCount = new AtomicLong();
+    private final AtomicLong savedBytes = new AtomicLong();
+
+    public StringPool(int maxSize, int maxLength) {
+        this.maxSize = maxSize;
+        this.maxLength = maxLength;
+    }
+
+    public static StringPool getInstance() {
+        return INSTANCE;
+    }
+
+    private static long getSize(String value) {
+        int bytesPerChar = 1;
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) > 0xFF) {
+                bytesPerChar = 2;
+                break;
+            }
+        }
+        // object sizes are aligned to 8 bytes
+        return STRING_OVERHEAD + ((value.length() * bytesPerChar + 7) & ~7);
+    }
+
+    public String intern(String value) {
+        if (value == null || value.length() > this.maxLength) {
+            return value;
+        }
+
+        String result = this.values.get(value);
+        if (result == null) {
+            if (this.values.size() >= this.maxSize) {
+                return value;
+            }
+            result = this.values.putIfAbsent(value, value);
+            if (result == null) {
+                return value;
+            }
+        }
+
+        if (result != value) {
+            this.deduplicatedCount.incrementAndGet();
+            this.savedBytes.addAndGet(getSize(value));
+        }
+        return result;
+    }
+
+    public Object intern(Object value) {
+        if (value instanceof String) {
+            return this.intern((String) value);
+        }
+        return value;
+    }
+
+    public void intern(SchemaRepresentation schemaRepresentation) {
+        if (schemaRepresentation == null) {
+            return;
+        }
+
+        schemaRepresentation.setFields(this.internAll(schemaRepresentation.getFields()));
+        schemaRepresentation.setDynamicFields(this.internAll(schemaRepresentation.getDynamicFields()));
+        schemaRepresentation.setCopyFields(this.internAll(schemaRepresentation.getCopyFields()));
+
+        if (schemaRepresentation.getFieldTypes() != null) {
+            for (FieldTypeDefinition eachFieldType : schemaRepresentation.getFieldTypes()) {
+                eachFieldType.setAttributes(this.intern(eachFieldType.getAttributes()));
+                this.intern(eachFieldType.getAnalyzer());
+                this.intern(eachFieldType.getIndexAnalyzer());
+                this.intern(eachFieldType.getQueryAnalyzer());
+                this.intern(eachFieldType.getMultiTermAnalyzer());
+            }
+        }
+    }
+
+    private void intern(AnalyzerDefinition analyzer) {
+        if (analyzer == null) {
+            return;
+        }
+
+        analyzer.setAttributes(this.intern(analyzer.getAttributes()));
+        analyzer.setCharFilters(this.internAll(analyzer.getCharFilters()));
+        analyzer.setTokenizer(this.intern(analyzer.getTokenizer()));
+        analyzer.setFilters(this.internAll(analyzer.getFilters()));
+    }
+
+    private List<Map<String, Object>> internAll(List<Map<String, Object>> attributesList) {
+        if (attributesList == null) {
+            return null;
+        }
+
+        List<Map<String, Object>> result = new ArrayList<>(attributesList.size());
+        for (Map<String, Object> eachAttributes : attributesList) {
+            result.add(this.intern(eachAttributes));
+        }
+        return result;
+    }
+
+    private Map<String, Object> intern(Map<String, Object> attributes) {
+        if (attributes == null) {
+            return null;
+        }
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        for (Map.Entry<String, Object> eachAttribute : attributes.entrySet()) {
+            result.put(this.intern(eachAttribute.getKey()), this.intern(eachAttribute.getValue()));
+        }
+        return result;
+    }
+
+    public long getDeduplicatedCount() {
+        return this.deduplicatedCount.get();
+    }
+
+    public long getSavedBytes() {
+        return this.savedBytes.get();
+    }
+
+    public int size() {
+        return this.values.size();
+    }
+
+    @Override
+    public String toString() {
+        return "StringPool[size=" + this.size() + ", deduplicated=" + this.getDeduplicatedCount() + ", savedBytes="
+            + this.getSavedBytes() + "]";
+    }
+}
@@ -0,0 +1,235 @@
+/*
+ *   Licensed to the Indoqa Software Design und Beratung GmbH (Indoqa) under
+ *   one or more contributor license agreements. See the NOTICE file distributed
+ *   with this work for additional information regarding copyright ownership.
+ *   Indoqa licenses this file to You under the Apache License, Version 2.0
+ *   (the "License"); you may not use this file except in compliance with
+ *   the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.indoqa.solr.utils.validation.snapshot;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+
+import org.apache.solr.client.solrj.request.schema.AnalyzerDefinition;
+import org.apache.solr.client.solrj.request.schema.FieldTypeDefinition;
+import org.apache.solr.client.solrj.response.schema.SchemaRepresentation;
+import org.noggit.JSONUtil;
+import org.noggit.ObjectBuilder;
+
+public final class SchemaSnapshots {
+
+    private static final String SCHEMA = "schema";
+    private static final String NAME = "name";
+    private static final String VERSION = "version";
+    private static final String UNIQUE_KEY = "uniqueKey";
+    private static final String SIMILARITY = "similarity";
+    private static final String FIELDS = "fields";
+    private static final String DYNAMIC_FIELDS = "dynamicFields";
+    private static final String COPY_FIELDS = "copyFields";
+    private static final String FIELD_TYPES = "fieldTypes";
+
+    private static final String ANALYZER = "analyzer";
+    private static final String INDEX_ANALYZER = "indexAnalyzer";
+    private static final String QUERY_ANALYZER = "queryAnalyzer";
+    private static final String MULTI_TERM_ANALYZER = "multiTermAnalyzer";
+    private static final String TOKENIZER = "tokenizer";
+    private static final String FILTERS = "filters";
+    private static final String CHAR_FILTERS = "charFilters";
+
+    private static final Set<String> FIELD_TYPE_ELEMENTS = new HashSet<>(
+        Arrays.asList(ANALYZER, INDEX_ANALYZER, QUERY_ANALYZER, MULTI_TERM_ANALYZER, SIMILARITY));
+    private static final Set<String> ANALYZER_ELEMENTS = new HashSet<>(Arrays.asList(TOKENIZER, FILTERS, CHAR_FILTERS));
+
+    private SchemaSnapshots() {
+        // hide constructor
+    }
+
+    public static SchemaRepresentation read(Path path) throws IOException {
+        return read(new String(Files.readAllBytes(path), UTF_8));
+    }
+
+    public static SchemaRepresentation read(String json) throws IOException {
+        Object value = ObjectBuilder.fromJSON(json);
+        if (!(value instanceof Map)) {
+            throw new IOException("A schema snapshot must be a JSON object.");
+        }
+
+        // accept both the complete response of the Schema API and its bare schema object
+        Map<String, Object> schema = asMap(value);
+        if (schema.get(SCHEMA) instanceof Map) {
+            schema = asMap(schema.get(SCHEMA));
+        }
+
+        SchemaRepresentation result = new SchemaRepresentation();
+        result.setName((String) schema.get(NAME));
+        if (schema.get(VERSION) instanceof Number) {
+            result.setVersion(((Number) schema.get(VERSION)).floatValue());
+        }
+        result.setUniqueKey((String) schema.get(UNIQUE_KEY));
+        result.setSimilarity(toAttributes(schema.get(SIMILARITY)));
+        result.setFields(toAttributesList(schema.get(FIELDS)));
+        result.setDynamicFields(toAttributesList(schema.get(DYNAMIC_FIELDS)));
+        result.setCopyFields(toAttributesList(schema.get(COPY_FIELDS)));
+
+        List<FieldTypeDefinition> fieldTypes = new ArrayList<>();
+        for (Map<String, Object> eachFieldType : toAttributesList(schema.get(FIELD_TYPES))) {
+            fieldTypes.add(toFieldTypeDefinition(eachFieldType));
+        }
+        result.setFieldTypes(fieldTypes);
+        return result;
+    }
+
+    public static void write(SchemaRepresentation schemaRepresentation, Path path) throws IOException {
+        Files.write(path, toJson(schemaRepresentation).getBytes(UTF_8));
+    }
+
+    public static String toJson(SchemaRepresentation schemaRepresentation) {
+        Map<String, Object> schema = new LinkedHashMap<>();
+        schema.put(NAME, schemaRepresentation.getName());
+        schema.put(VERSION, schemaRepresentation.getVersion());
+        putIfNotNull(schema, UNIQUE_KEY, schemaRepresentation.getUniqueKey());
+        putIfNotNull(schema, SIMILARITY, schemaRepresentation.getSimilarity());
+
+        List<Map<String, Object>> fieldTypes = new ArrayList<>();
+        if (schemaRepresentation.getFieldTypes() != null) {
+            for (FieldTypeDefinition eachFieldType : schemaRepresentation.getFieldTypes()) {
+                fieldTypes.add(toMap(eachFieldType));
+            }
+        }
+        schema.put(FIELD_TYPES, fieldTypes);
+        schema.put(FIELDS, nullToEmpty(schemaRepresentation.getFields()));
+        schema.put(DYNAMIC_FIELDS, nullToEmpty(schemaRepresentation.getDynamicFields()));
+        schema.put(COPY_FIELDS, nullToEmpty(schemaRepresentation.getCopyFields()));
+
+        return JSONUtil.toJSON(Collections.singletonMap(SCHEMA, schema), 2);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> asMap(Object value) {
+        return (Map<String, Object>) value;
+    }
+
+    private static List<Map<String, Object>> nullToEmpty(List<Map<String, Object>> values) {
+        if (values == null) {
+            return Collections.emptyList();
+        }
+        return values;
+    }
+
+    private static void putIfNotNull(Map<String, Object> map, String key, Object value) {
+        if (value != null) {
+            map.put(key, value);
+        }
+    }
+
+    private static Map<String, Object> toMap(FieldTypeDefinition fieldType) {
+        Map<String, Object> result = new LinkedHashMap<>();
+        if (fieldType.getAttributes() != null) {
+            result.putAll(fieldType.getAttributes());
+        }
+        putIfNotNull(result, ANALYZER, toMap(fieldType.getAnalyzer()));
+        putIfNotNull(result, INDEX_ANALYZER, toMap(fieldType.getIndexAnalyzer()));
+        putIfNotNull(result, QUERY_ANALYZER, toMap(fieldType.getQueryAnalyzer()));
+        putIfNotNull(result, MULTI_TERM_ANALYZER, toMap(fieldType.getMultiTermAnalyzer()));
+        putIfNotNull(result, SIMILARITY, fieldType.getSimilarity());
+        return result;
+    }
+
+    private static Map<String, Object> toMap(AnalyzerDefinition analyzer) {
+        if (analyzer == null) {
+            return null;
+        }
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        if (analyzer.getAttributes() != null) {
+            result.putAll(analyzer.getAttributes());
+        }
+        putIfNotNull(result, CHAR_FILTERS, analyzer.getCharFilters());
+        putIfNotNull(result, TOKENIZER, analyzer.getTokenizer());
+        putIfNotNull(result, FILTERS, analyzer.getFilters());
+        return result;
+    }
+
+    private static FieldTypeDefinition toFieldTypeDefinition(Map<String, Object> fieldType) {
+        FieldTypeDefinition result = new FieldTypeDefinition();
+        result.setAttributes(without(fieldType, FIELD_TYPE_ELEMENTS));
+        result.setAnalyzer(toAnalyzerDefinition(fieldType.get(ANALYZER)));
+        result.setIndexAnalyzer(toAnalyzerDefinition(fieldType.get(INDEX_ANALYZER)));
+        result.setQueryAnalyzer(toAnalyzerDefinition(fieldType.get(QUERY_ANALYZER)));
+        result.setMultiTermAnalyzer(toAnalyzerDefinition(fieldType.get(MULTI_TERM_ANALYZER)));
+        result.setSimilarity(toAttributes(fieldType.get(SIMILARITY)));
+        return result;
+    }
+
+    private static AnalyzerDefinition toAnalyzerDefinition(Object value) {
+        if (!(value instanceof Map)) {
+            return null;
+        }
+
+        Map<String, Object> analyzer = toAttributes(value);
+        AnalyzerDefinition result = new AnalyzerDefinition();
+        result.setAttributes(without(analyzer, ANALYZER_ELEMENTS));
+        result.setTokenizer(toAttributes(analyzer.get(TOKENIZER)));
+        if (analyzer.containsKey(FILTERS)) {
+            result.setFilters(toAttributesList(analyzer.get(FILTERS)));
+        }
+        if (analyzer.containsKey(CHAR_FILTERS)) {
+            result.setCharFilters(toAttributesList(analyzer.get(CHAR_FILTERS)));
+        }
+        return result;
+    }
+
+    private static Map<String, Object> without(Map<String, Object> attributes, Set<String> keys) {
+        Map<String, Object> result = new LinkedHashMap<>(attributes);
+        result.keySet().removeAll(keys);
+        return result;
+    }
+
+    private static List<Map<String, Object>> toAttributesList(Object value) {
+        if (!(value instanceof List)) {
+            return new ArrayList<>();
+        }
+
+        List<Map<String, Object>> result = new ArrayList<>();
+        for (Object eachValue : (List<?>) value) {
+            result.add(toAttributes(eachValue));
+        }
+        return result;
+    }
+
+    private static Map<String, Object> toAttributes(Object value) {
+        if (!(value instanceof Map)) {
+            return null;
+        }
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        for (Map.Entry<String, Object> eachEntry : asMap(value).entrySet()) {
+            result.put(eachEntry.getKey(), normalize(eachEntry.getValue()));
+        }
+        return result;
+    }
+
+    private static Object normalize(Object value) {
+        // JSON numbers are parsed as Long, but Solr and the classpath schema report integer attributes as Integer
+        if (value instanceof Long && (Long) value >= Integer.MIN_VALUE && (Long) value <= Integer.MAX_VALUE) {
+            return ((Long) value).intValue();
+        }
+        if (value instanceof Map) {
+            return toAttributes(value);
+        }
+        return value;
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ *   Licensed to the Indoqa Software Design und Beratung GmbH (Indoqa) under
+ *   one or more contributor license agreements. See the NOTICE file distributed
+ *   with this work for additional information regarding copyright ownership.
+ *   Indoqa licenses this file to You under the Apache License, Version 2.0
+ *   (the "License"); you may not use this file except in compliance with
+ *   the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.indoqa.solr.utils.validation.snapshot;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+import com.indoqa.solr.utils.validation.SchemaCheckConfiguration;
+import com.indoqa.solr.utils.validation.SolrSchemaException;
+import com.indoqa.solr.utils.validation.checks.SchemaValidation;
+import com.indoqa.solr.utils.validation.checks.SchemaValidations;
+import com.indoqa.solr.utils.validation.results.SchemaValidationResult;
+import org.apache.solr.client.solrj.response.schema.SchemaRepresentation;
+
+public class SnapshotSolrSchemaChecker {
+
+    private final List<SchemaValidation> schemaValidations = SchemaValidations.createAll();
+
+    public List<SchemaValidation> getSchemaValidations() {
+        return this.schemaValidations;
+    }
+
+    public SchemaValidationResult validateSolrSchema(SchemaCheckConfiguration validationConfiguration, Path snapshot)
+        throws SolrSchemaException {
+        SchemaRepresentation schemaRepresentation;
+        try {
+            schemaRepresentation = SchemaSnapshots.read(snapshot);
+        } catch (IOException e) {
+            throw new SolrSchemaException("Could not read schema snapshot '" + snapshot + "'.", e);
+        }
+        return this.validateSolrSchema(validationConfiguration, schemaRepresentation);
+    }
+
+    public SchemaValidationResult validateSolrSchema(SchemaCheckConfiguration validationConfiguration,
+        SchemaRepresentation schemaRepresentation) throws SolrSchemaException {
+        SnapshotSchemaResponse schemaResponse = new SnapshotSchemaResponse(schemaRepresentation);
+        validationConfiguration.getSolrSchema().parseSections(validationConfiguration.getSchemaSections());
+
+        SchemaValidationResult result = new SchemaValidationResult();
+        result.setCollectionName(validationConfiguration.getSolrSchema().getCollectionName());
+        for (SchemaValidation eachSchemaValidation : this.schemaValidations) {
+            if (eachSchemaValidation.shouldBeChecked(validationConfiguration)) {
+                // all validations read from the schema response, no SolrClient is needed
+                result.addValidationResult(eachSchemaValidation.validate(validationConfiguration.getSolrSchema(), schemaResponse, null));
+            }
+        }
+        return result;
+    }
+
+    public boolean isInSync(SchemaCheckConfiguration validationConfiguration, SchemaRepresentation schemaRepresentation)
+        throws SolrSchemaException {
+        SnapshotSchemaResponse schemaResponse = new SnapshotSchemaResponse(schemaRepresentation);
+        validationConfiguration.getSolrSchema().parseSections(validationConfiguration.getSchemaSections());
+
+        for (SchemaValidation eachSchemaValidation : this.schemaValidations) {
+            if (eachSchemaValidation.shouldBeChecked(validationConfiguration)
+                && !eachSchemaValidation.isInSync(validationConfiguration.getSolrSchema(), schemaResponse, null)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
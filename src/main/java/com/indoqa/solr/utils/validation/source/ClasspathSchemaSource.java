@@ -0,0 +1,80 @@
+/*
+ *   Licensed to the Indoqa Software Design und Beratung GmbH (Indoqa) under
+ *   one or more contributor license agreements. See the NOTICE file distributed
+ *   with this work for additional information regarding copyright ownership.
+ *   Indoqa licenses this file to You under the Apache License, Version 2.0
+ *   (the "License"); you may not use this file except in compliance with
+ *   the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.indoqa.solr.utils.validation.source;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Optional;
+
+import com.indoqa.lang.io.ResourceLoader;
+
+public class ClasspathSchemaSource implements SchemaSource {
+
+    private final String location;
+
+    public ClasspathSchemaSource(String location) {
+        this.location = location;
+    }
+
+    @Override
+    public String getLocation() {
+        return this.location;
+    }
+
+    @Override
+    public byte[] read() throws IOException {
+        URL url = ResourceLoader.getUrl(this.location);
+        if (url == null) {
+            throw new IllegalArgumentException("Could not find " + this.location + " in classpath.");
+        }
+
+        try (InputStream inputStream = url.openStream()) {
+            ByteArrayOutputStream result = new ByteArrayOutputStream();
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = inputStream.read(buffer)) != -1) {
+                result.write(buffer, 0, read);
+            }
+            return result.toByteArray();
+        }
+    }
+
+    @Override
+    public Optional<Path> getFile() {
+        // resources from exploded directories, e.g. during development, can be watched like plain files
+        URL url = ResourceLoader.getUrl(this.location);
+        if (url == null || !"file".equals(url.getProtocol())) {
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(Paths.get(url.toURI()));
+        } catch (URISyntaxException | IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "classpath:" + this.location;
+    }
+}
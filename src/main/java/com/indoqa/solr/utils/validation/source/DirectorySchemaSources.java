@@ -0,0 +1,68 @@
+/*
+ *   Licensed to the Indoqa Software Design und Beratung GmbH (Indoqa) under
+ *   one or more contributor license agreements. See the NOTICE file distributed
+ *   with this work for additional information regarding copyright ownership.
+ *   Indoqa licenses this file to You under the Apache License, Version 2.0
+ *   (the "License"); you may not use this file except in compliance with
+ *   the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.indoqa.solr.utils.validation.source;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.TreeMap;
+
+public final class DirectorySchemaSources {
+
+    private static final String XML_EXTENSION = ".xml";
+    private static final String[] CONFIG_SCHEMA_NAMES = {"conf/schema.xml", "conf/managed-schema"};
+
+    private DirectorySchemaSources() {
+        // hide constructor
+    }
+
+    public static Map<String, SchemaSource> discover(Path directory) throws IOException {
+        Map<String, SchemaSource> result = new TreeMap<>();
+
+        try (DirectoryStream<Path> directoryStream = Files.newDirectoryStream(directory)) {
+            for (Path eachPath : directoryStream) {
+                String fileName = eachPath.getFileName().toString();
+
+                if (Files.isDirectory(eachPath)) {
+                    Path schemaFile = findConfigSchema(eachPath);
+                    if (schemaFile != null) {
+                        result.put(fileName, new FileSchemaSource(schemaFile));
+                    }
+                    continue;
+                }
+
+                if (fileName.endsWith(XML_EXTENSION) && Files.isRegularFile(eachPath)) {
+                    result.put(fileName.substring(0, fileName.length() - XML_EXTENSION.length()), new FileSchemaSource(eachPath));
+                }
+            }
+        }
+
+        return result;
+    }
+
+    private static Path findConfigSchema(Path coreDirectory) {
+        for (String eachSchemaName : CONFIG_SCHEMA_NAMES) {
+            Path schemaFile = coreDirectory.resolve(eachSchemaName);
+            if (Files.isRegularFile(schemaFile)) {
+                return schemaFile;
+            }
+        }
+        return null;
+    }
+}
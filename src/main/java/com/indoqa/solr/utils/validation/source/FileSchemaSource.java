@@ -0,0 +1,73 @@
+/*
+ *   Licensed to the Indoqa Software Design und Beratung GmbH (Indoqa) under
+ *   one or more contributor license agreements. See the NOTICE file distributed
+ *   with this work for additional information regarding copyright ownership.
+ *   Indoqa licenses this file to You under the Apache License, Version 2.0
+ *   (the "License"); you may not use this file except in compliance with
+ *   the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.indoqa.solr.utils.validation.source;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+
+public class FileSchemaSource implements SchemaSource {
+
+    private final Path path;
+
+    public FileSchemaSource(Path path) {
+        this.path = path;
+    }
+
+    @Override
+    public String getLocation() {
+        return this.path.toString();
+    }
+
+    public Path getPath() {
+        return this.path;
+    }
+
+    @Override
+    public Optional<Path> getFile() {
+        return Optional.of(this.path);
+    }
+
+    @Override
+    public byte[] read() throws IOException {
+        try (FileChannel fileChannel = FileChannel.open(this.path, StandardOpenOption.READ)) {
+            long size = fileChannel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("Schema " + this.path + " is too large (" + size + " bytes).");
+            }
+
+            // bulk reads of the known size instead of many small reads, which are slow on network volumes. The file is not
+            // memory mapped, a mapping stays alive until it is garbage collected and locks the file on Windows.
+            byte[] result = new byte[(int) size];
+            ByteBuffer buffer = ByteBuffer.wrap(result);
+            while (buffer.hasRemaining()) {
+                if (fileChannel.read(buffer) < 0) {
+                    throw new IOException("Schema " + this.path + " was truncated while reading it.");
+                }
+            }
+            return result;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "file:" + this.path;
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ *   Licensed to the Indoqa Software Design und Beratung GmbH (Indoqa) under
+ *   one or more contributor license agreements. See the NOTICE file distributed
+ *   with this work for additional information regarding copyright ownership.
+ *   Indoqa licenses this file to You under the Apache License, Version 2.0
+ *   (the "License"); you may not use this file except in compliance with
+ *   the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.indoqa.solr.utils.tests.maintenance;
+
+import static com.indoqa.solr.utils.maintenance.SolrCoreMaintainerConfiguration.configOf;
+import static com.indoqa.solr.utils.maintenance.handlers.SchemaOperations.ALLOW_ADDING_FIELDS;
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.indoqa.solr.utils.InitializationFailedException;
+import com.indoqa.solr.utils.maintenance.ClasspathSolrCoreMaintainer;
+import com.indoqa.solr.utils.maintenance.ClasspathSolrCoreMaintainerBuilder;
+import com.indoqa.solr.utils.tests.maintenance.RecordingSolrSchemaChecker.Validation;
+import com.indoqa.solr.utils.validation.SchemaCheck;
+import com.indoqa.solr.utils.validation.SchemaCheckConfiguration;
+import com.indoqa.solr.utils.validation.SolrSchema;
+import com.indoqa.solr.utils.validation.SolrSchemaException;
+import com.indoqa.solr.utils.validation.results.SchemaValidationResult;
+import org.apache.solr.client.solrj.SolrClient;
+import org.apache.solr.client.solrj.impl.HttpSolrClient;
+import org.junit.Test;
+
+public class ConcurrentMaintenanceTest {
+
+    private static final String SCHEMA = "src/test/resources/solr/validation/initial/conf/schema.xml";
+
+    private static ClasspathSolrCoreMaintainer createMaintainer(RecordingSolrSchemaChecker schemaChecker, String... collectionNames)
+        throws SolrSchemaException {
+        ClasspathSolrCoreMaintainerBuilder builder = new ClasspathSolrCoreMaintainerBuilder()
+            .schemaChecker(schemaChecker)
+            .maintainCoresConcurrently(collectionNames.length);
+        for (String eachCollectionName : collectionNames) {
+            builder.addConfiguration(configOf(null, new SolrSchema(eachCollectionName, SCHEMA), ALLOW_ADDING_FIELDS));
+        }
+        return builder.build();
+    }
+
+    @Test
+    public void testAllCoresAreMaintained() throws SolrSchemaException, InitializationFailedException {
+        RecordingSolrSchemaChecker schemaChecker = new RecordingSolrSchemaChecker();
+        createMaintainer(schemaChecker, "first", "second", "third").initialize();
+
+        Set<String> collectionNames = new TreeSet<>();
+        for (Validation eachValidation : schemaChecker.getValidations()) {
+            collectionNames.add(eachValidation.getSolrSchema().getCollectionName());
+            assertArrayEquals(new SchemaCheck[] {SchemaCheck.COMPLETE}, eachValidation.getSchemaChecks());
+        }
+        assertEquals(3, schemaChecker.getValidations().size());
+        assertEquals(new TreeSet<>(Arrays.asList("first", "second", "third")), collectionNames);
+    }
+
+    @Test
+    public void testFailuresOfAllCoresAreReported() throws SolrSchemaException {
+        RecordingSolrSchemaChecker schemaChecker = new RecordingSolrSchemaChecker("first", "third");
+
+        try {
+            createMaintainer(schemaChecker, "first", "second", "third").initialize();
+            fail("The failures of the first and third core must be reported.");
+        } catch (InitializationFailedException e) {
+            assertTrue(e.getMessage().startsWith("Could not maintain 2 of 3 cores:"));
+            assertEquals(2, e.getSuppressed().length);
+        }
+
+        // a failing core does not stop the maintenance of the other cores
+        assertEquals(3, schemaChecker.getValidations().size());
+    }
+
+    @Test
+    public void testSingleFailureIsRethrown() throws SolrSchemaException {
+        RecordingSolrSchemaChecker schemaChecker = new RecordingSolrSchemaChecker("second");
+
+        try {
+            createMaintainer(schemaChecker, "first", "second").initialize();
+            fail("The failure of the second core must be reported.");
+        } catch (InitializationFailedException e) {
+            assertEquals("Could not initialize schema checker for second.", e.getMessage());
+        }
+    }
+
+    @Test
+    public void testCoresOfOneSolrNodeAreMaintainedSequentially() throws SolrSchemaException, InitializationFailedException {
+        NodeTrackingSolrSchemaChecker schemaChecker = new NodeTrackingSolrSchemaChecker();
+        new ClasspathSolrCoreMaintainerBuilder()
+            .schemaChecker(schemaChecker)
+            .maintainCoresConcurrently(3)
+            .addConfiguration(configOf(new HttpSolrClient.Builder("http://node1:8983/solr/first").build(),
+                new SolrSchema("first", SCHEMA), ALLOW_ADDING_FIELDS))
+            .addConfiguration(configOf(new HttpSolrClient.Builder("http://node1:8983/solr/second").build(),
+                new SolrSchema("second", SCHEMA), ALLOW_ADDING_FIELDS))
+            .addConfiguration(configOf(new HttpSolrClient.Builder("http://node2:8983/solr/third").build(),
+                new SolrSchema("third", SCHEMA), ALLOW_ADDING_FIELDS))
+            .build()
+            .initialize();
+
+        assertEquals(3, schemaChecker.getValidations().size());
+        assertEquals(1, schemaChecker.getMaxConcurrentValidations("http://node1:8983"));
+        assertEquals(1, schemaChecker.getMaxConcurrentValidations("http://node2:8983"));
+    }
+
+    private static class NodeTrackingSolrSchemaChecker extends RecordingSolrSchemaChecker {
+
+        private final Map<String, AtomicInteger> activeValidations = new ConcurrentHashMap<>();
+        private final Map<String, AtomicInteger> maxConcurrentValidations = new ConcurrentHashMap<>();
+
+        public int getMaxConcurrentValidations(String node) {
+            return this.maxConcurrentValidations.get(node).get();
+        }
+
+        @Override
+        public SchemaValidationResult validateSolrSchema(SchemaCheckConfiguration validationConfiguration, SolrClient solrClient)
+            throws SolrSchemaException {
+            String baseUrl = ((HttpSolrClient) solrClient).getBaseURL();
+            String node = baseUrl.substring(0, baseUrl.indexOf("/solr"));
+
+            AtomicInteger active = this.activeValidations.computeIfAbsent(node, key -> new AtomicInteger());
+            AtomicInteger max = this.maxConcurrentValidations.computeIfAbsent(node, key -> new AtomicInteger());
+            max.accumulateAndGet(active.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(100);
+                return super.validateSolrSchema(validationConfiguration, solrClient);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new SolrSchemaException("Interrupted while validating " + baseUrl + ".");
+            } finally {
+                active.decrementAndGet();
+            }
+        }
+    }
+}
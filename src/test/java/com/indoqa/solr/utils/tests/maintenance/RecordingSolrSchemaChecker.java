@@ -0,0 +1,87 @@
+/*
+ *   Licensed to the Indoqa Software Design und Beratung GmbH (Indoqa) under
+ *   one or more contributor license agreements. See the NOTICE file distributed
+ *   with this work for additional information regarding copyright ownership.
+ *   Indoqa licenses this file to You under the Apache License, Version 2.0
+ *   (the "License"); you may not use this file except in compliance with
+ *   the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.indoqa.solr.utils.tests.maintenance;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import com.indoqa.solr.utils.validation.SchemaCheck;
+import com.indoqa.solr.utils.validation.SchemaCheckConfiguration;
+import com.indoqa.solr.utils.validation.SchemaErrorHandling;
+import com.indoqa.solr.utils.validation.SolrSchema;
+import com.indoqa.solr.utils.validation.SolrSchemaException;
+import com.indoqa.solr.utils.validation.classpath.ClasspathSolrSchemaChecker;
+import com.indoqa.solr.utils.validation.results.SchemaValidationResult;
+import org.apache.solr.client.solrj.SolrClient;
+
+// records the validated schemas instead of asking Solr, every schema is reported as up to date
+public class RecordingSolrSchemaChecker extends ClasspathSolrSchemaChecker {
+
+    private final BlockingQueue<Validation> validations = new LinkedBlockingQueue<>();
+    private final List<String> failingCollections = new ArrayList<>();
+
+    public RecordingSolrSchemaChecker(String... failingCollections) {
+        super(SchemaErrorHandling.LOGGING_ONLY);
+        this.failingCollections.addAll(Arrays.asList(failingCollections));
+    }
+
+    public List<Validation> getValidations() {
+        return new ArrayList<>(this.validations);
+    }
+
+    public Validation takeValidation(long timeoutMillis) throws InterruptedException {
+        return this.validations.poll(timeoutMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public SchemaValidationResult validateSolrSchema(SchemaCheckConfiguration validationConfiguration, SolrClient solrClient)
+        throws SolrSchemaException {
+        SolrSchema solrSchema = validationConfiguration.getSolrSchema();
+        this.validations.add(new Validation(solrSchema, validationConfiguration.getSolrSchemaChecks()));
+
+        if (this.failingCollections.contains(solrSchema.getCollectionName())) {
+            throw new SolrSchemaException("Schema of " + solrSchema.getCollectionName() + " could not be checked.");
+        }
+
+        SchemaValidationResult result = new SchemaValidationResult();
+        result.setCollectionName(solrSchema.getCollectionName());
+        return result;
+    }
+
+    public static class Validation {
+
+        private final SolrSchema solrSchema;
+        private final SchemaCheck[] schemaChecks;
+
+        public Validation(SolrSchema solrSchema, SchemaCheck[] schemaChecks) {
+            this.solrSchema = solrSchema;
+            this.schemaChecks = schemaChecks;
+        }
+
+        public SolrSchema getSolrSchema() {
+            return this.solrSchema;
+        }
+
+        public SchemaCheck[] getSchemaChecks() {
+            return this.schemaChecks;
+        }
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ *   Licensed to the Indoqa Software Design und Beratung GmbH (Indoqa) under
+ *   one or more contributor license agreements. See the NOTICE file distributed
+ *   with this work for additional information regarding copyright ownership.
+ *   Indoqa licenses this file to You under the Apache License, Version 2.0
+ *   (the "License"); you may not use this file except in compliance with
+ *   the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.indoqa.solr.utils.tests.maintenance;
+
+import static com.indoqa.solr.utils.maintenance.handlers.SchemaUpdateBatching.chunksOf;
+import static com.indoqa.solr.utils.maintenance.handlers.SchemaUpdateBatching.singleRequest;
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+public class SchemaUpdateBatchingTest {
+
+    @Test
+    public void testSingleRequest() {
+        assertEquals(1, singleRequest().getChunkCount(0));
+        assertEquals(1, singleRequest().getChunkCount(5000));
+        assertEquals(10, singleRequest().getTimeoutSecs());
+    }
+
+    @Test
+    public void testChunks() {
+        assertEquals(1, chunksOf(100, 30, 500).getChunkCount(0));
+        assertEquals(1, chunksOf(100, 30, 500).getChunkCount(100));
+        assertEquals(2, chunksOf(100, 30, 500).getChunkCount(101));
+        assertEquals(5, chunksOf(100, 30, 500).getChunkCount(500));
+        assertEquals(30, chunksOf(100, 30, 500).getTimeoutSecs());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidChunkSize() {
+        chunksOf(0, 30, 500);
+    }
+}
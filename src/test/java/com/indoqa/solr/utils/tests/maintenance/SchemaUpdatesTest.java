@@ -0,0 +1,79 @@
+/*
+ *   Licensed to the Indoqa Software Design und Beratung GmbH (Indoqa) under
+ *   one or more contributor license agreements. See the NOTICE file distributed
+ *   with this work for additional information regarding copyright ownership.
+ *   Indoqa licenses this file to You under the Apache License, Version 2.0
+ *   (the "License"); you may not use this file except in compliance with
+ *   the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.indoqa.solr.utils.tests.maintenance;
+
+import static java.util.Collections.singletonList;
+import static java.util.Collections.singletonMap;
+import static org.junit.Assert.assertEquals;
+
+import java.util.List;
+
+import com.indoqa.solr.utils.maintenance.handlers.SchemaUpdates;
+import org.apache.solr.client.solrj.request.schema.FieldTypeDefinition;
+import org.apache.solr.client.solrj.request.schema.SchemaRequest;
+import org.junit.Test;
+
+public class SchemaUpdatesTest {
+
+    @Test
+    public void testMergedUpdatesAreDependencyOrdered() {
+        SchemaRequest.AddFieldType addFieldType = new SchemaRequest.AddFieldType(new FieldTypeDefinition());
+        SchemaRequest.ReplaceFieldType replaceFieldType = new SchemaRequest.ReplaceFieldType(new FieldTypeDefinition());
+        SchemaRequest.DeleteFieldType deleteFieldType = new SchemaRequest.DeleteFieldType("old_type");
+        SchemaRequest.AddField addField = new SchemaRequest.AddField(singletonMap("name", "new_field"));
+        SchemaRequest.ReplaceField replaceField = new SchemaRequest.ReplaceField(singletonMap("name", "field"));
+        SchemaRequest.DeleteField deleteField = new SchemaRequest.DeleteField("old_field");
+        SchemaRequest.AddDynamicField addDynamicField = new SchemaRequest.AddDynamicField(singletonMap("name", "new_*"));
+        SchemaRequest.ReplaceDynamicField replaceDynamicField = new SchemaRequest.ReplaceDynamicField(singletonMap("name", "dyn_*"));
+        SchemaRequest.DeleteDynamicField deleteDynamicField = new SchemaRequest.DeleteDynamicField("old_*");
+        SchemaRequest.AddCopyField addCopyField = new SchemaRequest.AddCopyField("field", singletonList("new_field"));
+        SchemaRequest.DeleteCopyField deleteCopyField = new SchemaRequest.DeleteCopyField("old_field", singletonList("field"));
+        SchemaRequest.DeleteCopyField modifiedCopyFieldDelete = new SchemaRequest.DeleteCopyField("field", singletonList("other"));
+        SchemaRequest.AddCopyField modifiedCopyFieldAdd = new SchemaRequest.AddCopyField("field", singletonList("other"), 100);
+
+        SchemaUpdates schemaUpdates = new SchemaUpdates();
+        schemaUpdates.addAllCopyFieldUpdatesRemove(singletonList(deleteCopyField));
+        schemaUpdates.addAllFieldUpdatesRemove(singletonList(deleteField));
+        schemaUpdates.addAllDynamicUpdatesRemove(singletonList(deleteDynamicField));
+        schemaUpdates.addAllFieldTypeUpdatesRemove(singletonList(deleteFieldType));
+        schemaUpdates.addAllCopyFieldUpdatesAdd(singletonList(addCopyField));
+        schemaUpdates.addAllFieldUpdatesAdd(singletonList(addField));
+        schemaUpdates.addAllDynamicUpdatesAdd(singletonList(addDynamicField));
+        schemaUpdates.addAllFieldTypeAdd(singletonList(addFieldType));
+        schemaUpdates.addAllCopyFieldUpdatesModify(modifiedCopyFieldDelete, modifiedCopyFieldAdd);
+        schemaUpdates.addAllFieldUpdatesModify(singletonList(replaceField));
+        schemaUpdates.addAllDynamicUpdatesModify(singletonList(replaceDynamicField));
+        schemaUpdates.addAllFieldTypeModify(singletonList(replaceFieldType));
+
+        List<SchemaRequest.Update> updates = schemaUpdates.getAllUpdates();
+
+        assertEquals(13, updates.size());
+        assertEquals(addFieldType, updates.get(0));
+        assertEquals(replaceFieldType, updates.get(1));
+        assertEquals(deleteCopyField, updates.get(2));
+        assertEquals(modifiedCopyFieldDelete, updates.get(3));
+        assertEquals(addField, updates.get(4));
+        assertEquals(addDynamicField, updates.get(5));
+        assertEquals(replaceField, updates.get(6));
+        assertEquals(replaceDynamicField, updates.get(7));
+        assertEquals(deleteDynamicField, updates.get(8));
+        assertEquals(deleteField, updates.get(9));
+        assertEquals(deleteFieldType, updates.get(10));
+        assertEquals(addCopyField, updates.get(11));
+        assertEquals(modifiedCopyFieldAdd, updates.get(12));
+    }
+}
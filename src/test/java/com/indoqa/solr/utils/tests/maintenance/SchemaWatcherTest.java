@@ -0,0 +1,129 @@
+/*
+ *   Licensed to the Indoqa Software Design und Beratung GmbH (Indoqa) under
+ *   one or more contributor license agreements. See the NOTICE file distributed
+ *   with this work for additional information regarding copyright ownership.
+ *   Indoqa licenses this file to You under the Apache License, Version 2.0
+ *   (the "License"); you may not use this file except in compliance with
+ *   the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.indoqa.solr.utils.tests.maintenance;
+
+import static com.indoqa.solr.utils.maintenance.SolrCoreMaintainerConfiguration.configOf;
+import static com.indoqa.solr.utils.maintenance.handlers.SchemaOperations.ALLOW_ADDING_FIELDS;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+
+import com.indoqa.solr.utils.InitializationFailedException;
+import com.indoqa.solr.utils.maintenance.ClasspathSolrCoreMaintainer;
+import com.indoqa.solr.utils.maintenance.ClasspathSolrCoreMaintainerBuilder;
+import com.indoqa.solr.utils.maintenance.SolrCoreMaintainerConfiguration;
+import com.indoqa.solr.utils.tests.maintenance.RecordingSolrSchemaChecker.Validation;
+import com.indoqa.solr.utils.validation.SchemaCheck;
+import com.indoqa.solr.utils.validation.SolrSchema;
+import com.indoqa.solr.utils.validation.SolrSchemaException;
+import com.indoqa.solr.utils.validation.source.FileSchemaSource;
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class SchemaWatcherTest {
+
+    private static final Path INITIAL_SCHEMA = Paths.get("src/test/resources/solr/validation/initial/conf/schema.xml");
+    private static final String ID_FIELD = "<field name=\"id\"";
+    private static final String ADDED_FIELD = "<field name=\"watched\" type=\"string\" indexed=\"true\" stored=\"true\" />";
+    private static final long TIMEOUT_MILLIS = 10_000;
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private ClasspathSolrCoreMaintainer solrCoreMaintainer;
+
+    @After
+    public void destroySolrCoreMaintainer() {
+        if (this.solrCoreMaintainer != null) {
+            this.solrCoreMaintainer.destroy();
+        }
+    }
+
+    @Test
+    public void testChangedSectionsAreMaintained() throws IOException, SolrSchemaException, InitializationFailedException,
+        InterruptedException {
+        Path schemaFile = this.temporaryFolder.getRoot().toPath().resolve("schema.xml");
+        Files.copy(INITIAL_SCHEMA, schemaFile);
+
+        SolrCoreMaintainerConfiguration configuration = configOf(null, new SolrSchema("watched", new FileSchemaSource(schemaFile)),
+            ALLOW_ADDING_FIELDS);
+        RecordingSolrSchemaChecker schemaChecker = new RecordingSolrSchemaChecker();
+        this.solrCoreMaintainer = new ClasspathSolrCoreMaintainerBuilder()
+            .addConfiguration(configuration)
+            .schemaChecker(schemaChecker)
+            .watchSchemaChanges()
+            .build();
+        this.solrCoreMaintainer.initialize();
+
+        Validation initialValidation = schemaChecker.takeValidation(TIMEOUT_MILLIS);
+        assertArrayEquals(new SchemaCheck[] {SchemaCheck.COMPLETE}, initialValidation.getSchemaChecks());
+
+        String schema = new String(Files.readAllBytes(schemaFile), UTF_8);
+        Files.write(schemaFile, schema.replace(ID_FIELD, ADDED_FIELD + "\n  " + ID_FIELD).getBytes(UTF_8));
+
+        Validation changedValidation = schemaChecker.takeValidation(TIMEOUT_MILLIS);
+        assertNotNull("The changed schema was not maintained.", changedValidation);
+        assertArrayEquals(new SchemaCheck[] {SchemaCheck.FIELDS}, changedValidation.getSchemaChecks());
+        assertTrue(changedValidation.getSolrSchema().getField("watched").isPresent());
+
+        // the maintained schema replaces the previous one, so the next change is compared against it
+        long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        while (configuration.getSolrSchema() != changedValidation.getSolrSchema() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertSame(changedValidation.getSolrSchema(), configuration.getSolrSchema());
+    }
+
+    @Test
+    public void testConfigMapUpdatesAreMaintained() throws IOException, SolrSchemaException, InitializationFailedException,
+        InterruptedException {
+        // the layout of a mounted Kubernetes ConfigMap: schema.xml -> ..data/schema.xml, ..data -> ..1
+        Path directory = this.temporaryFolder.getRoot().toPath();
+        Files.createDirectory(directory.resolve("..1"));
+        Files.copy(INITIAL_SCHEMA, directory.resolve("..1/schema.xml"));
+        Files.createSymbolicLink(directory.resolve("..data"), Paths.get("..1"));
+        Path schemaFile = Files.createSymbolicLink(directory.resolve("schema.xml"), Paths.get("..data/schema.xml"));
+
+        RecordingSolrSchemaChecker schemaChecker = new RecordingSolrSchemaChecker();
+        this.solrCoreMaintainer = new ClasspathSolrCoreMaintainerBuilder()
+            .addConfiguration(configOf(null, new SolrSchema("watched", new FileSchemaSource(schemaFile)), ALLOW_ADDING_FIELDS))
+            .schemaChecker(schemaChecker)
+            .watchSchemaChanges()
+            .build();
+        this.solrCoreMaintainer.initialize();
+        assertNotNull(schemaChecker.takeValidation(TIMEOUT_MILLIS));
+
+        // the update writes a new directory and atomically replaces the ..data symlink
+        String schema = new String(Files.readAllBytes(INITIAL_SCHEMA), UTF_8);
+        Files.createDirectory(directory.resolve("..2"));
+        Files.write(directory.resolve("..2/schema.xml"), schema.replace(ID_FIELD, ADDED_FIELD + "\n  " + ID_FIELD).getBytes(UTF_8));
+        Files.createSymbolicLink(directory.resolve("..data_tmp"), Paths.get("..2"));
+        Files.move(directory.resolve("..data_tmp"), directory.resolve("..data"), StandardCopyOption.ATOMIC_MOVE);
+
+        Validation changedValidation = schemaChecker.takeValidation(TIMEOUT_MILLIS);
+        assertNotNull("The changed ConfigMap was not maintained.", changedValidation);
+        assertArrayEquals(new SchemaCheck[] {SchemaCheck.FIELDS}, changedValidation.getSchemaChecks());
+        assertTrue(changedValidation.getSolrSchema().getField("watched").isPresent());
+    }
+}
@@ -22,6 +22,7 @@ import static org.junit.Assert.*;
 
 import com.indoqa.solr.utils.InitializationFailedException;
 import com.indoqa.solr.utils.maintenance.ClasspathSolrCoreMaintainer;
+import com.indoqa.solr.utils.maintenance.ClasspathSolrCoreMaintainerBuilder;
 import com.indoqa.solr.utils.maintenance.handlers.SchemaOperations;
 import com.indoqa.solr.utils.validation.SolrSchema;
 import com.indoqa.solr.utils.validation.SolrSchemaException;
@@ -102,6 +103,28 @@ public class WrongOperationMaintenanceTest extends AbstractMaintenanceTest {
         assertSchema();
     }
 
+    @Test
+    public void testConcurrentFailuresAreAggregated() {
+        assertSchema();
+
+        try {
+            new ClasspathSolrCoreMaintainerBuilder()
+                .addConfiguration(configOf(getRunningSolr(), CHANGED_SCHEMA, ALLOW_MODIFYING_REMOVING_FIELDS))
+                .addConfiguration(configOf(getRunningSolr(), CHANGED_SCHEMA, ALLOW_ADDING_MODIFYING_FIELDS))
+                .maintainCoresConcurrently(2)
+                .build()
+                .initialize();
+            fail("Should have thrown an InitializationFailedException.");
+        } catch (InitializationFailedException e) {
+            MatcherAssert.assertThat(e.getMessage(), CoreMatchers.containsString("Could not maintain 2 of 2 cores:"));
+            MatcherAssert.assertThat(e.getMessage(), CoreMatchers.containsString("Operation to 'ADD' fields not permitted."));
+            MatcherAssert.assertThat(e.getMessage(), CoreMatchers.containsString("Operation to 'REMOVE' fields not permitted."));
+            assertEquals(2, e.getSuppressed().length);
+        }
+
+        assertSchema();
+    }
+
     private void runSolrCoreMaintainer(SchemaOperations schemaOperations, String operation) {
         try {
             new ClasspathSolrCoreMaintainer(configOf(getRunningSolr(), CHANGED_SCHEMA, schemaOperations)).initialize();
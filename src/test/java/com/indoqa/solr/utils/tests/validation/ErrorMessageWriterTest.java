@@ -0,0 +1,78 @@
+/*
+ *   Licensed to the Indoqa Software Design und Beratung GmbH (Indoqa) under
+ *   one or more contributor license agreements. See the NOTICE file distributed
+ *   with this work for additional information regarding copyright ownership.
+ *   Indoqa licenses this file to You under the Apache License, Version 2.0
+ *   (the "License"); you may not use this file except in compliance with
+ *   the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.indoqa.solr.utils.tests.validation;
+
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.io.StringWriter;
+
+import com.indoqa.solr.utils.validation.results.ErrorMessageWriter;
+import com.indoqa.solr.utils.validation.results.FieldAttributesValidationResult;
+import com.indoqa.solr.utils.validation.results.FieldsValidationResult;
+import com.indoqa.solr.utils.validation.results.SchemaValidationResult;
+import org.junit.Test;
+
+public class ErrorMessageWriterTest {
+
+    private static SchemaValidationResult createValidationResult(int fieldCount) {
+        FieldsValidationResult fieldsValidationResult = new FieldsValidationResult();
+        for (int i = 0; i < fieldCount; i++) {
+            FieldAttributesValidationResult fieldValidationResult = new FieldAttributesValidationResult();
+            fieldValidationResult.setName("field-" + i);
+            fieldValidationResult.addAttributeOnlyInSchema("type", "string");
+            fieldsValidationResult.addFieldsOnlyInSchema(fieldValidationResult);
+        }
+
+        SchemaValidationResult result = new SchemaValidationResult();
+        result.setCollectionName("collection");
+        result.addValidationResult(fieldsValidationResult);
+        return result;
+    }
+
+    @Test
+    public void testWriteErrorMessage() throws IOException {
+        SchemaValidationResult validationResult = createValidationResult(3);
+
+        StringWriter writer = new StringWriter();
+        validationResult.writeErrorMessage(writer);
+
+        assertEquals(validationResult.getErrorMessage(), writer.toString());
+        assertTrue(writer.toString().contains("field-2"));
+    }
+
+    @Test
+    public void testLimitEntries() {
+        SchemaValidationResult validationResult = createValidationResult(5);
+
+        String errorMessage = ErrorMessageWriter.render(validationResult, 2);
+
+        assertTrue(errorMessage.contains("'field-0'"));
+        assertTrue(errorMessage.contains("'field-1'"));
+        assertFalse(errorMessage.contains("'field-2'"));
+        assertTrue(errorMessage.endsWith("... 3 more entries omitted\n"));
+    }
+
+    @Test
+    public void testUnlimitedEntries() {
+        SchemaValidationResult validationResult = createValidationResult(5);
+
+        String errorMessage = ErrorMessageWriter.render(validationResult, ErrorMessageWriter.UNLIMITED_ENTRIES);
+
+        assertEquals(validationResult.getErrorMessage(), errorMessage);
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ *   Licensed to the Indoqa Software Design und Beratung GmbH (Indoqa) under
+ *   one or more contributor license agreements. See the NOTICE file distributed
+ *   with this work for additional information regarding copyright ownership.
+ *   Indoqa licenses this file to You under the Apache License, Version 2.0
+ *   (the "License"); you may not use this file except in compliance with
+ *   the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.indoqa.solr.utils.tests.validation;
+
+import static com.indoqa.solr.utils.validation.SchemaCheck.COPY_FIELDS;
+import static com.indoqa.solr.utils.validation.SchemaCheck.FIELDS;
+import static com.indoqa.solr.utils.validation.SchemaCheckConfiguration.of;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import com.indoqa.solr.utils.validation.SchemaCheckConfiguration;
+import com.indoqa.solr.utils.validation.SolrSchema;
+import com.indoqa.solr.utils.validation.SolrSchemaException;
+import com.indoqa.solr.utils.validation.classpath.ClasspathSolrSchemaChecker;
+import com.indoqa.solr.utils.validation.classpath.ClasspathSolrSchemaCheckerBuilder;
+import org.apache.solr.client.solrj.SolrClient;
+import org.apache.solr.client.solrj.SolrRequest;
+import org.apache.solr.common.util.NamedList;
+import org.junit.After;
+import org.junit.Test;
+
+public class SchemaFallbackFetchTest {
+
+    private static final String SCHEMA = "src/test/resources/solr/validation/changed/conf/schema.xml";
+
+    private ExecutorService executorService = Executors.newSingleThreadExecutor();
+
+    @After
+    public void shutdownExecutorService() {
+        this.executorService.shutdownNow();
+    }
+
+    @Test
+    public void testOnlyConfiguredSectionsAreRequested() throws SolrSchemaException {
+        UnreadableSchemaSolrClient solrClient = new UnreadableSchemaSolrClient();
+        SchemaCheckConfiguration configuration = of(new SolrSchema("changed", SCHEMA), FIELDS, COPY_FIELDS);
+
+        ClasspathSolrSchemaChecker checker = new ClasspathSolrSchemaCheckerBuilder()
+            .add(configuration, solrClient)
+            .onlyLogErrors()
+            .runValidationsConcurrently(this.executorService)
+            .build();
+
+        assertFalse(checker.validateSolrSchema(configuration, solrClient).isEmpty());
+        assertEquals(Arrays.asList("/schema", "/schema/copyfields", "/schema/fields"), solrClient.getRequestedPaths());
+    }
+
+    @Test
+    public void testSequentialFetchWithoutExecutor() throws SolrSchemaException {
+        UnreadableSchemaSolrClient solrClient = new UnreadableSchemaSolrClient();
+        SchemaCheckConfiguration configuration = of(new SolrSchema("changed", SCHEMA), FIELDS);
+
+        ClasspathSolrSchemaChecker checker = new ClasspathSolrSchemaCheckerBuilder().add(configuration, solrClient).onlyLogErrors().build();
+
+        assertFalse(checker.validateSolrSchema(configuration, solrClient).isEmpty());
+        assertEquals(Arrays.asList("/schema", "/schema/fields"), solrClient.getRequestedPaths());
+    }
+
+    @Test(timeout = 10_000)
+    public void testCoresAndValidationsShareOneThread() throws SolrSchemaException {
+        UnreadableSchemaSolrClient solrClient = new UnreadableSchemaSolrClient();
+        UnreadableSchemaSolrClient otherSolrClient = new UnreadableSchemaSolrClient();
+
+        ClasspathSolrSchemaChecker checker = new ClasspathSolrSchemaCheckerBuilder()
+            .add(of(new SolrSchema("changed", SCHEMA), FIELDS, COPY_FIELDS), solrClient)
+            .add(of(new SolrSchema("other", SCHEMA), FIELDS, COPY_FIELDS), otherSolrClient)
+            .onlyLogErrors()
+            .validateCoresInParallel(this.executorService)
+            .runValidationsConcurrently(this.executorService)
+            .build();
+        checker.initialize();
+
+        assertEquals(Arrays.asList("/schema", "/schema/copyfields", "/schema/fields"), solrClient.getRequestedPaths());
+        assertEquals(Arrays.asList("/schema", "/schema/copyfields", "/schema/fields"), otherSolrClient.getRequestedPaths());
+    }
+
+    // answers the request of the complete schema with a response SolrJ can not read and all section requests with empty sections
+    private static class UnreadableSchemaSolrClient extends SolrClient {
+
+        private static final long serialVersionUID = 1L;
+
+        private final List<String> requestedPaths = Collections.synchronizedList(new ArrayList<>());
+
+        @Override
+        public NamedList<Object> request(SolrRequest request, String collection) {
+            this.requestedPaths.add(request.getPath());
+
+            NamedList<Object> result = new NamedList<>();
+            result.add("schema", "unreadable");
+            result.add("fields", new ArrayList<>());
+            result.add("copyFields", new ArrayList<>());
+            return result;
+        }
+
+        @Override
+        public void close() {
+            // nothing to close
+        }
+
+        public List<String> getRequestedPaths() {
+            List<String> result = new ArrayList<>(this.requestedPaths);
+            Collections.sort(result);
+            return result;
+        }
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ *   Licensed to the Indoqa Software Design und Beratung GmbH (Indoqa) under
+ *   one or more contributor license agreements. See the NOTICE file distributed
+ *   with this work for additional information regarding copyright ownership.
+ *   Indoqa licenses this file to You under the Apache License, Version 2.0
+ *   (the "License"); you may not use this file except in compliance with
+ *   the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.indoqa.solr.utils.tests.validation;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import com.indoqa.solr.utils.validation.classpath.SchemaFingerprintStore;
+import org.apache.solr.client.solrj.SolrClient;
+import org.apache.solr.client.solrj.impl.HttpSolrClient;
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class SchemaFingerprintStoreTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private SolrClient solrClient = new HttpSolrClient.Builder("http://localhost:8983/solr").build();
+    private SolrClient otherSolrClient = new HttpSolrClient.Builder("http://localhost:8984/solr").build();
+
+    @After
+    public void closeSolrClients() throws IOException {
+        this.solrClient.close();
+        this.otherSolrClient.close();
+    }
+
+    @Test
+    public void testStoredFingerprintsSurviveRestart() throws IOException {
+        Path file = this.temporaryFolder.getRoot().toPath().resolve("cache/fingerprints.properties");
+
+        SchemaFingerprintStore store = new SchemaFingerprintStore(file);
+        assertFalse(store.matches(this.solrClient, "collection", "classpath", "solr"));
+        store.store(this.solrClient, "collection", "classpath", "solr");
+        assertTrue(store.matches(this.solrClient, "collection", "classpath", "solr"));
+
+        SchemaFingerprintStore restartedStore = new SchemaFingerprintStore(file);
+        assertTrue(restartedStore.matches(this.solrClient, "collection", "classpath", "solr"));
+        assertFalse(restartedStore.matches(this.solrClient, "collection", "classpath", "other"));
+        assertFalse(restartedStore.matches(this.solrClient, "collection", "other", "solr"));
+        assertFalse(restartedStore.matches(this.solrClient, "other", "classpath", "solr"));
+    }
+
+    @Test
+    public void testSchemaVersion() {
+        Path file = this.temporaryFolder.getRoot().toPath().resolve("fingerprints.properties");
+
+        SchemaFingerprintStore store = new SchemaFingerprintStore(file);
+        store.store(this.solrClient, "collection", "classpath", "solr");
+        assertFalse(store.matchesSchemaVersion(this.solrClient, "collection", "classpath", "1.6/3"));
+
+        store.store(this.solrClient, "collection", "classpath", "solr", "1.6/3");
+        assertTrue(store.matches(this.solrClient, "collection", "classpath", "solr"));
+
+        SchemaFingerprintStore restartedStore = new SchemaFingerprintStore(file);
+        assertTrue(restartedStore.matchesSchemaVersion(this.solrClient, "collection", "classpath", "1.6/3"));
+        assertFalse(restartedStore.matchesSchemaVersion(this.solrClient, "collection", "classpath", "1.6/4"));
+        assertFalse(restartedStore.matchesSchemaVersion(this.solrClient, "collection", "other", "1.6/3"));
+    }
+
+    @Test
+    public void testEquallyNamedCollectionsOfDifferentSolrServers() {
+        Path file = this.temporaryFolder.getRoot().toPath().resolve("fingerprints.properties");
+
+        SchemaFingerprintStore store = new SchemaFingerprintStore(file);
+        store.store(this.solrClient, "collection", "classpath", "solr", "1.6/3");
+        assertFalse(store.matches(this.otherSolrClient, "collection", "classpath", "solr"));
+        assertFalse(store.matchesSchemaVersion(this.otherSolrClient, "collection", "classpath", "1.6/3"));
+
+        store.store(this.otherSolrClient, "collection", "classpath", "other", "1.6/4");
+
+        SchemaFingerprintStore restartedStore = new SchemaFingerprintStore(file);
+        assertTrue(restartedStore.matches(this.solrClient, "collection", "classpath", "solr"));
+        assertTrue(restartedStore.matchesSchemaVersion(this.solrClient, "collection", "classpath", "1.6/3"));
+        assertTrue(restartedStore.matches(this.otherSolrClient, "collection", "classpath", "other"));
+        assertFalse(restartedStore.matches(this.otherSolrClient, "collection", "classpath", "solr"));
+    }
+
+    @Test
+    public void testFailedStoreLeavesNoTemporaryFile() throws IOException {
+        Path directory = this.temporaryFolder.getRoot().toPath();
+        // a directory that is not empty can not be replaced by the written file
+        Path file = directory.resolve("fingerprints.properties");
+        Files.createDirectories(file.resolve("blocked"));
+
+        SchemaFingerprintStore store = new SchemaFingerprintStore(file);
+        store.store(this.solrClient, "collection", "classpath", "solr");
+
+        try (Stream<Path> files = Files.list(directory)) {
+            assertEquals(Collections.singletonList(file), files.collect(Collectors.toList()));
+        }
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ *   Licensed to the Indoqa Software Design und Beratung GmbH (Indoqa) under
+ *   one or more contributor license agreements. See the NOTICE file distributed
+ *   with this work for additional information regarding copyright ownership.
+ *   Indoqa licenses this file to You under the Apache License, Version 2.0
+ *   (the "License"); you may not use this file except in compliance with
+ *   the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.indoqa.solr.utils.tests.validation;
+
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+
+import com.indoqa.solr.utils.validation.SchemaContent;
+import com.indoqa.solr.utils.validation.SchemaRegistry;
+import com.indoqa.solr.utils.validation.SolrSchema;
+import com.indoqa.solr.utils.validation.SolrSchemaException;
+import com.indoqa.solr.utils.validation.source.FileSchemaSource;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class SchemaRegistryTest {
+
+    private static final Path INITIAL_SCHEMA = Paths.get("src/test/resources/solr/validation/initial/conf/schema.xml");
+    private static final Path CHANGED_SCHEMA = Paths.get("src/test/resources/solr/validation/changed/conf/schema.xml");
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void testSameLocationIsShared() throws SolrSchemaException {
+        SchemaRegistry schemaRegistry = new SchemaRegistry();
+
+        SchemaContent first = schemaRegistry.getSchemaContent(CHANGED_SCHEMA.toString());
+        SchemaContent second = schemaRegistry.getSchemaContent(CHANGED_SCHEMA.toString());
+
+        assertSame(first, second);
+        assertEquals(1, schemaRegistry.getMissCount());
+        assertEquals(1, schemaRegistry.getHitCount());
+        assertEquals(1, schemaRegistry.size());
+    }
+
+    @Test
+    public void testChangedContentIsNotShared() throws IOException, SolrSchemaException {
+        SchemaRegistry schemaRegistry = new SchemaRegistry();
+        Path schemaFile = this.temporaryFolder.getRoot().toPath().resolve("schema.xml");
+
+        Files.copy(INITIAL_SCHEMA, schemaFile);
+        SchemaContent initial = schemaRegistry.getSchemaContent(schemaFile.toString());
+        Files.copy(CHANGED_SCHEMA, schemaFile, StandardCopyOption.REPLACE_EXISTING);
+        SchemaContent changed = schemaRegistry.getSchemaContent(schemaFile.toString());
+
+        assertNotSame(initial, changed);
+        assertNotEquals(initial.getChecksum(), changed.getChecksum());
+        assertEquals(2, schemaRegistry.getMissCount());
+        assertEquals(0, schemaRegistry.getHitCount());
+    }
+
+    @Test
+    public void testSharedSolrSchemasKeepTheirCollection() throws SolrSchemaException {
+        SolrSchema first = SolrSchema.shared("first", CHANGED_SCHEMA.toString());
+        SolrSchema second = SolrSchema.shared("second", CHANGED_SCHEMA.toString());
+
+        assertSame(first.getSchemaContent(), second.getSchemaContent());
+        assertEquals("first", first.getCollectionName());
+        assertEquals("second", second.getCollectionName());
+    }
+
+    @Test
+    public void testReloadedSharedSolrSchemasStayShared() throws IOException, SolrSchemaException {
+        Path schemaFile = this.temporaryFolder.getRoot().toPath().resolve("schema.xml");
+        Files.copy(INITIAL_SCHEMA, schemaFile);
+        SolrSchema solrSchema = SolrSchema.shared("shared", new FileSchemaSource(schemaFile));
+
+        assertSame(solrSchema.getSchemaContent(), solrSchema.reload().getSchemaContent());
+
+        Files.copy(CHANGED_SCHEMA, schemaFile, StandardCopyOption.REPLACE_EXISTING);
+        SolrSchema changedSolrSchema = solrSchema.reload();
+        assertNotEquals(solrSchema.getSchemaContent().getChecksum(), changedSolrSchema.getSchemaContent().getChecksum());
+        assertSame(changedSolrSchema.getSchemaContent(), SolrSchema.shared("other", new FileSchemaSource(schemaFile)).getSchemaContent());
+        assertEquals("shared", changedSolrSchema.getCollectionName());
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ *   Licensed to the Indoqa Software Design und Beratung GmbH (Indoqa) under
+ *   one or more contributor license agreements. See the NOTICE file distributed
+ *   with this work for additional information regarding copyright ownership.
+ *   Indoqa licenses this file to You under the Apache License, Version 2.0
+ *   (the "License"); you may not use this file except in compliance with
+ *   the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.indoqa.solr.utils.tests.validation;
+
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.indoqa.solr.utils.validation.SolrSchema;
+import com.indoqa.solr.utils.validation.SolrSchemaException;
+import com.indoqa.solr.utils.validation.schema.SchemaSection;
+import com.indoqa.solr.utils.validation.source.DirectorySchemaSources;
+import com.indoqa.solr.utils.validation.source.FileSchemaSource;
+import com.indoqa.solr.utils.validation.source.SchemaSource;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class SchemaSourceTest {
+
+    private static final Path INITIAL_SCHEMA = Paths.get("src/test/resources/solr/validation/initial/conf/schema.xml");
+    private static final Path CHANGED_SCHEMA = Paths.get("src/test/resources/solr/validation/changed/conf/schema.xml");
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void testFileSchemaSource() throws IOException, SolrSchemaException {
+        FileSchemaSource schemaSource = new FileSchemaSource(CHANGED_SCHEMA);
+
+        assertArrayEquals(Files.readAllBytes(CHANGED_SCHEMA), schemaSource.read());
+        assertEquals(new SolrSchema("changed", CHANGED_SCHEMA.toString()).getFingerprint(),
+            new SolrSchema("changed", schemaSource).getFingerprint());
+    }
+
+    @Test
+    public void testDirectorySchemaSources() throws IOException, SolrSchemaException {
+        Path directory = this.temporaryFolder.getRoot().toPath();
+        Files.copy(INITIAL_SCHEMA, directory.resolve("initial.xml"));
+        Files.createDirectories(directory.resolve("changed/conf"));
+        Files.copy(CHANGED_SCHEMA, directory.resolve("changed/conf/schema.xml"));
+        Files.createDirectories(directory.resolve("empty"));
+        Files.createFile(directory.resolve("notes.txt"));
+
+        Map<String, SchemaSource> schemaSources = DirectorySchemaSources.discover(directory);
+        assertEquals(2, schemaSources.size());
+        assertEquals(directory.resolve("changed/conf/schema.xml").toString(), schemaSources.get("changed").getLocation());
+        assertEquals(directory.resolve("initial.xml").toString(), schemaSources.get("initial").getLocation());
+
+        List<SolrSchema> solrSchemas = SolrSchema.fromDirectory(directory);
+        assertEquals(2, solrSchemas.size());
+        assertEquals("changed", solrSchemas.get(0).getCollectionName());
+        assertEquals("initial", solrSchemas.get(1).getCollectionName());
+    }
+
+    @Test
+    public void testReloadDetectsChangedSections() throws IOException, SolrSchemaException {
+        Path schemaFile = this.temporaryFolder.getRoot().toPath().resolve("schema.xml");
+        Files.copy(CHANGED_SCHEMA, schemaFile);
+        SolrSchema solrSchema = new SolrSchema("changed", new FileSchemaSource(schemaFile));
+
+        SolrSchema unchangedSolrSchema = solrSchema.reload();
+        assertTrue(solrSchema.getSchemaContent().getChangedSections(unchangedSolrSchema.getSchemaContent()).isEmpty());
+
+        Files.copy(INITIAL_SCHEMA, schemaFile, StandardCopyOption.REPLACE_EXISTING);
+        SolrSchema changedSolrSchema = solrSchema.reload();
+        Set<SchemaSection> changedSections = solrSchema.getSchemaContent().getChangedSections(changedSolrSchema.getSchemaContent());
+        assertFalse(changedSections.isEmpty());
+        assertEquals("changed", changedSolrSchema.getCollectionName());
+        for (SchemaSection eachSection : SchemaSection.values()) {
+            assertEquals(changedSections.contains(eachSection),
+                !solrSchema.getSchemaContent().getSectionFingerprint(eachSection).equals(
+                    changedSolrSchema.getSchemaContent().getSectionFingerprint(eachSection)));
+        }
+    }
+}
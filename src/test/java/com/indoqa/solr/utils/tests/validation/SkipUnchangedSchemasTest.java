@@ -0,0 +1,140 @@
+/*
+ *   Licensed to the Indoqa Software Design und Beratung GmbH (Indoqa) under
+ *   one or more contributor license agreements. See the NOTICE file distributed
+ *   with this work for additional information regarding copyright ownership.
+ *   Indoqa licenses this file to You under the Apache License, Version 2.0
+ *   (the "License"); you may not use this file except in compliance with
+ *   the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.indoqa.solr.utils.tests.validation;
+
+import static com.indoqa.solr.utils.validation.SchemaCheck.NAME;
+import static com.indoqa.solr.utils.validation.SchemaCheck.VERSION;
+import static com.indoqa.solr.utils.validation.SchemaCheckConfiguration.of;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import com.indoqa.solr.utils.validation.SchemaCheckConfiguration;
+import com.indoqa.solr.utils.validation.SolrSchema;
+import com.indoqa.solr.utils.validation.SolrSchemaException;
+import com.indoqa.solr.utils.validation.classpath.ClasspathSolrSchemaChecker;
+import com.indoqa.solr.utils.validation.classpath.ClasspathSolrSchemaCheckerBuilder;
+import org.apache.solr.client.solrj.SolrClient;
+import org.apache.solr.client.solrj.SolrRequest;
+import org.apache.solr.common.util.NamedList;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class SkipUnchangedSchemasTest {
+
+    private static final String SCHEMA = "src/test/resources/solr/validation/initial/conf/schema.xml";
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void testUnchangedSchemaWithSeveralChecksIsSkipped() throws SolrSchemaException {
+        Path fingerprintFile = this.temporaryFolder.getRoot().toPath().resolve("fingerprints.properties");
+        SolrSchema solrSchema = new SolrSchema("initial", SCHEMA);
+        SchemaCheckConfiguration configuration = of(solrSchema, NAME, VERSION);
+        SchemaSolrClient solrClient = new SchemaSolrClient(solrSchema, 3);
+
+        ClasspathSolrSchemaChecker checker = new ClasspathSolrSchemaCheckerBuilder()
+            .add(configuration, solrClient)
+            .onlyLogErrors()
+            .skipUnchangedSchemas(fingerprintFile)
+            .build();
+
+        assertTrue(checker.validateSolrSchema(configuration, solrClient).isEmpty());
+        assertEquals(Arrays.asList("/schema/zkversion", "/schema/version", "/schema"), solrClient.takeRequestedPaths());
+
+        // the schema version and zkVersion are unchanged, so the complete schema is not requested again
+        assertTrue(checker.validateSolrSchema(configuration, solrClient).isEmpty());
+        assertEquals(Arrays.asList("/schema/zkversion", "/schema/version"), solrClient.takeRequestedPaths());
+
+        assertTrue(checker.isInSync(configuration, solrClient));
+        assertEquals(Arrays.asList("/schema/zkversion", "/schema/version"), solrClient.takeRequestedPaths());
+    }
+
+    @Test
+    public void testZkVersionOfStandaloneCoreIsNotRequestedAgain() throws SolrSchemaException {
+        Path fingerprintFile = this.temporaryFolder.getRoot().toPath().resolve("fingerprints.properties");
+        SolrSchema solrSchema = new SolrSchema("initial", SCHEMA);
+        SchemaCheckConfiguration configuration = of(solrSchema, NAME, VERSION);
+        SchemaSolrClient solrClient = new SchemaSolrClient(solrSchema, -1);
+
+        ClasspathSolrSchemaChecker checker = new ClasspathSolrSchemaCheckerBuilder()
+            .add(configuration, solrClient)
+            .onlyLogErrors()
+            .skipUnchangedSchemas(fingerprintFile)
+            .build();
+
+        assertTrue(checker.validateSolrSchema(configuration, solrClient).isEmpty());
+        assertEquals(Arrays.asList("/schema/zkversion", "/schema"), solrClient.takeRequestedPaths());
+
+        // a standalone core has no zkVersion, so only the complete schema is compared with the stored fingerprint
+        assertTrue(checker.validateSolrSchema(configuration, solrClient).isEmpty());
+        assertEquals(Arrays.asList("/schema"), solrClient.takeRequestedPaths());
+    }
+
+    // answers with the name and version of the given schema and no fields, a zkVersion of -1 is returned by standalone cores
+    private static class SchemaSolrClient extends SolrClient {
+
+        private static final long serialVersionUID = 1L;
+
+        private final SolrSchema solrSchema;
+        private final int zkVersion;
+        private final List<String> requestedPaths = Collections.synchronizedList(new ArrayList<>());
+
+        SchemaSolrClient(SolrSchema solrSchema, int zkVersion) {
+            this.solrSchema = solrSchema;
+            this.zkVersion = zkVersion;
+        }
+
+        @Override
+        public NamedList<Object> request(SolrRequest request, String collection) {
+            this.requestedPaths.add(request.getPath());
+
+            NamedList<Object> schema = new NamedList<>();
+            schema.add("name", this.solrSchema.getName());
+            schema.add("version", this.solrSchema.getVersion());
+            schema.add("similarity", new NamedList<>());
+            schema.add("fields", new ArrayList<>());
+            schema.add("dynamicFields", new ArrayList<>());
+            schema.add("copyFields", new ArrayList<>());
+            schema.add("fieldTypes", new ArrayList<>());
+
+            NamedList<Object> result = new NamedList<>();
+            result.add("schema", schema);
+            result.add("version", this.solrSchema.getVersion());
+            result.add("zkversion", this.zkVersion);
+            return result;
+        }
+
+        @Override
+        public void close() {
+            // nothing to close
+        }
+
+        public List<String> takeRequestedPaths() {
+            List<String> result = new ArrayList<>(this.requestedPaths);
+            this.requestedPaths.clear();
+            return result;
+        }
+    }
+}
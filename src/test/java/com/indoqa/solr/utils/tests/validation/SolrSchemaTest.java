@@ -0,0 +1,195 @@
+/*
+ *   Licensed to the Indoqa Software Design und Beratung GmbH (Indoqa) under
+ *   one or more contributor license agreements. See the NOTICE file distributed
+ *   with this work for additional information regarding copyright ownership.
+ *   Indoqa licenses this file to You under the Apache License, Version 2.0
+ *   (the "License"); you may not use this file except in compliance with
+ *   the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.indoqa.solr.utils.tests.validation;
+
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.indoqa.solr.utils.validation.SchemaCheck;
+import com.indoqa.solr.utils.validation.SchemaCheckConfiguration;
+import com.indoqa.solr.utils.validation.SolrSchema;
+import com.indoqa.solr.utils.validation.SolrSchemaException;
+import com.indoqa.solr.utils.validation.schema.*;
+import org.apache.solr.client.solrj.request.schema.FieldTypeDefinition;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class SolrSchemaTest {
+
+    private static final String CHANGED_PATH = "src/test/resources/solr/validation/changed/conf/schema.xml";
+
+    private static SolrSchema solrSchema;
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @BeforeClass
+    public static void setupSchema() throws SolrSchemaException {
+        solrSchema = new SolrSchema("changed", CHANGED_PATH);
+    }
+
+    @Test
+    public void testHeader() {
+        assertEquals("example core zero 1", solrSchema.getName());
+        assertEquals(1.2f, solrSchema.getVersion(), 0.0001);
+        assertEquals("type", solrSchema.getUniqueKey());
+    }
+
+    @Test
+    public void testFieldLookups() {
+        assertEquals(5, solrSchema.getFields().size());
+        assertEquals("strings", solrSchema.getField("name").get().get("type"));
+        assertFalse("Unknown field should not be found", solrSchema.getField("unknown").isPresent());
+
+        assertEquals(2, solrSchema.getDynamicFields().size());
+        assertEquals("date", solrSchema.getDynamicField("registered_*").get().get("type"));
+    }
+
+    @Test
+    public void testCopyFieldLookups() {
+        assertEquals(3, solrSchema.getCopyFields().size());
+
+        List<Map<String, Object>> copyFields = solrSchema.getCopyFields("*");
+        assertEquals(1, copyFields.size());
+        assertEquals(250, copyFields.get(0).get("maxChars"));
+        assertTrue("Unknown source should not have copy fields", solrSchema.getCopyFields("unknown").isEmpty());
+    }
+
+    @Test
+    public void testFieldTypeLookups() {
+        assertEquals(19, solrSchema.getFieldTypes().size());
+
+        FieldTypeDefinition textNgram = solrSchema.getFieldType("text_ngram").get();
+        assertEquals(4, textNgram.getIndexAnalyzer().getFilters().size() + textNgram.getIndexAnalyzer().getCharFilters().size());
+        assertEquals("solr.DFRSimilarityFactory", textNgram.getSimilarity().get("class"));
+        assertNotNull(solrSchema.getFieldType("new_text_ngram").get().getMultiTermAnalyzer());
+    }
+
+    @Test
+    public void testSectionsAreParsedOnce() {
+        assertSame(solrSchema.getFields(), solrSchema.getFields());
+        assertSame(solrSchema.getFieldTypes(), solrSchema.getFieldTypes());
+        assertSame(solrSchema.getField("id").get(), solrSchema.getFields().get(0));
+    }
+
+    @Test
+    public void testSectionsAreParsedLazily() throws SolrSchemaException {
+        SolrSchema lazySchema = new SolrSchema("changed", CHANGED_PATH);
+        assertEquals("example core zero 1", lazySchema.getName());
+        for (SchemaSection eachSection : SchemaSection.values()) {
+            assertFalse(eachSection + " should not be parsed", lazySchema.isParsed(eachSection));
+        }
+
+        assertEquals(5, lazySchema.getFields().size());
+        assertTrue(lazySchema.isParsed(SchemaSection.FIELDS));
+        assertFalse(lazySchema.isParsed(SchemaSection.FIELD_TYPES));
+
+        assertEquals(19, lazySchema.getFieldTypes().size());
+        assertTrue(lazySchema.isParsed(SchemaSection.FIELD_TYPES));
+        assertEquals(solrSchema.getFingerprint(), lazySchema.getFingerprint());
+    }
+
+    @Test
+    public void testMissingSectionsAreParsedInOnePass() throws SolrSchemaException {
+        CountingSchemaParser schemaParser = new CountingSchemaParser();
+        SolrSchema countingSchema = new SolrSchema("changed", CHANGED_PATH, schemaParser);
+        assertEquals(1, schemaParser.getParseCount());
+
+        countingSchema.parseSections(SchemaCheckConfiguration.of(countingSchema, SchemaCheck.COMPLETE).getSchemaSections());
+        assertEquals(2, schemaParser.getParseCount());
+
+        assertEquals(solrSchema.getFingerprint(), countingSchema.getFingerprint());
+        assertEquals(19, countingSchema.getFieldTypes().size());
+        assertEquals(2, schemaParser.getParseCount());
+    }
+
+    @Test
+    public void testFingerprintParsesAllSectionsInOnePass() throws SolrSchemaException {
+        CountingSchemaParser schemaParser = new CountingSchemaParser();
+        SolrSchema countingSchema = new SolrSchema("changed", CHANGED_PATH, schemaParser);
+
+        assertEquals(solrSchema.getFingerprint(), countingSchema.getFingerprint());
+        assertEquals(2, schemaParser.getParseCount());
+    }
+
+    @Test
+    public void testBasicCheckNeedsNoSections() throws SolrSchemaException {
+        SolrSchema lazySchema = new SolrSchema("changed", CHANGED_PATH);
+        assertTrue(SchemaCheckConfiguration.of(lazySchema, SchemaCheck.BASIC, SchemaCheck.UNIQUE_KEY).getSchemaSections().isEmpty());
+        assertEquals(EnumSet.of(SchemaSection.FIELDS, SchemaSection.FIELD_TYPES),
+            SchemaCheckConfiguration.of(lazySchema, SchemaCheck.FIELDS, SchemaCheck.FIELD_TYPES).getSchemaSections());
+    }
+
+    @Test
+    public void testCachedSchemaIsDecodedOnce() throws SolrSchemaException {
+        Path cacheDirectory = this.temporaryFolder.getRoot().toPath();
+        new SolrSchema("changed", CHANGED_PATH, new BinaryCachingSchemaParser(new StaxSchemaParser(), cacheDirectory));
+
+        CountingSchemaParser schemaParser = new CountingSchemaParser();
+        SolrSchema cachedSchema = new SolrSchema("changed", CHANGED_PATH, new BinaryCachingSchemaParser(schemaParser, cacheDirectory));
+        for (SchemaSection eachSection : SchemaSection.values()) {
+            assertTrue(eachSection + " should be parsed", cachedSchema.isParsed(eachSection));
+        }
+        assertEquals(solrSchema.getFingerprint(), cachedSchema.getFingerprint());
+        assertEquals(0, schemaParser.getParseCount());
+    }
+
+    @Test
+    public void testDomParserParsesAllSections() throws SolrSchemaException {
+        SolrSchema domSchema = new SolrSchema("changed", CHANGED_PATH, new DomSchemaParser());
+        for (SchemaSection eachSection : SchemaSection.values()) {
+            assertTrue(eachSection + " should be parsed", domSchema.isParsed(eachSection));
+        }
+        assertEquals(solrSchema.getFingerprint(), domSchema.getFingerprint());
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testFieldsAreImmutable() {
+        solrSchema.getField("id").get().put("stored", false);
+    }
+
+    private static class CountingSchemaParser implements SchemaParser {
+
+        private final SchemaParser schemaParser = new StaxSchemaParser();
+        private int parseCount;
+
+        @Override
+        public ParsedSchema parse(InputStream inputStream) throws IOException {
+            this.parseCount++;
+            return this.schemaParser.parse(inputStream);
+        }
+
+        @Override
+        public ParsedSchema parse(InputStream inputStream, Set<SchemaSection> sections) throws IOException {
+            this.parseCount++;
+            return this.schemaParser.parse(inputStream, sections);
+        }
+
+        public int getParseCount() {
+            return this.parseCount;
+        }
+    }
+}
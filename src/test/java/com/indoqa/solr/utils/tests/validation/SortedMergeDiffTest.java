@@ -0,0 +1,70 @@
+/*
+ *   Licensed to the Indoqa Software Design und Beratung GmbH (Indoqa) under
+ *   one or more contributor license agreements. See the NOTICE file distributed
+ *   with this work for additional information regarding copyright ownership.
+ *   Indoqa licenses this file to You under the Apache License, Version 2.0
+ *   (the "License"); you may not use this file except in compliance with
+ *   the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.indoqa.solr.utils.tests.validation;
+
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import com.indoqa.solr.utils.validation.checks.SortedMergeDiff;
+import org.junit.Test;
+
+public class SortedMergeDiffTest {
+
+    private static List<String> diff(List<String> schema, List<String> solr) {
+        List<String> result = new ArrayList<>();
+        SortedMergeDiff.diff(schema, solr, Comparator.<String>naturalOrder(), new SortedMergeDiff.DiffHandler<String>() {
+
+            @Override
+            public void onlyInSchema(String schemaElement) {
+                result.add("+" + schemaElement);
+            }
+
+            @Override
+            public void inBoth(String schemaElement, String solrElement) {
+                result.add("=" + schemaElement);
+            }
+
+            @Override
+            public void stillInSolr(String solrElement) {
+                result.add("-" + solrElement);
+            }
+        });
+        return result;
+    }
+
+    @Test
+    public void testDiff() {
+        assertEquals(asList("+a", "=b", "-c", "=d", "+e", "-f"), diff(asList("e", "d", "b", "a"), asList("f", "b", "c", "d")));
+    }
+
+    @Test
+    public void testEmptySides() {
+        assertEquals(asList("+a", "+b"), diff(asList("b", "a"), null));
+        assertEquals(asList("-a", "-b"), diff(new ArrayList<>(), asList("b", "a")));
+    }
+
+    @Test
+    public void testInputIsNotModified() {
+        List<String> schema = new ArrayList<>(asList("b", "a"));
+        diff(schema, asList("a"));
+        assertEquals(asList("b", "a"), schema);
+    }
+}
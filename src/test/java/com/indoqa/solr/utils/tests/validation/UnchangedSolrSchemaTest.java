@@ -16,9 +16,11 @@
  */
 package com.indoqa.solr.utils.tests.validation;
 
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
 import com.indoqa.solr.utils.validation.SchemaCheck;
+import com.indoqa.solr.utils.validation.SchemaCheckConfiguration;
 import com.indoqa.solr.utils.validation.SolrSchema;
 import com.indoqa.solr.utils.validation.SolrSchemaException;
 import com.indoqa.solr.utils.validation.results.SchemaValidationResult;
@@ -101,4 +103,16 @@ public class UnchangedSolrSchemaTest extends AbstractSolrSchemaCheckerTest {
         SchemaValidationResult schemaValidationResult = this.validateSchema(getInitialSolr(), INITIAL_SCHEMA, SchemaCheck.COMPLETE);
         assertTrue("Complete validation should not have errors.", schemaValidationResult.isEmpty());
     }
+
+    @Test
+    public void testIsInSync() throws SolrSchemaException {
+        assertTrue("Initial schema should be in sync.",
+            this.classpathSolrSchemaChecker.isInSync(SchemaCheckConfiguration.of(INITIAL_SCHEMA, SchemaCheck.COMPLETE), getInitialSolr()));
+    }
+
+    @Test
+    public void testIsNotInSync() throws SolrSchemaException {
+        assertFalse("Changed schema should not be in sync.",
+            this.classpathSolrSchemaChecker.isInSync(SchemaCheckConfiguration.of(CHANGED_SCHEMA, SchemaCheck.COMPLETE), getInitialSolr()));
+    }
 }
@@ -18,6 +18,9 @@ package com.indoqa.solr.utils.tests.validation;
 
 import static org.hamcrest.CoreMatchers.*;
 
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
 import com.indoqa.solr.utils.validation.SchemaCheck;
 import com.indoqa.solr.utils.validation.SchemaCheckConfiguration;
 import com.indoqa.solr.utils.validation.SolrSchema;
@@ -93,4 +96,82 @@ public class ValidationModesTest extends AbstractSolrSchemaCheckerTest {
         schemaChecker.initialize();
         Assert.fail("Should have thrown an exception.");
     }
+
+    @Test
+    public void testAfterAllCoresInParallel() throws SolrSchemaException {
+        ClasspathSolrSchemaChecker schemaChecker = getBuilder().afterAllCoresThrowException().validateCoresInParallel(3).build();
+
+        expectedException.expect(SolrSchemaException.class);
+        expectedException.expectMessage(allOf(
+            containsString(TEST_COLLECTION_2),
+            containsString(TEST_COLLECTION_3),
+            not(containsString(TEST_COLLECTION_1))
+        ));
+
+        schemaChecker.initialize();
+        Assert.fail("Should have thrown an exception.");
+    }
+
+    @Test
+    public void testAfterFirstCoreInParallel() throws SolrSchemaException {
+        ClasspathSolrSchemaChecker schemaChecker = getBuilder().afterFirstErroneousCoreThrowException().validateCoresInParallel(3).build();
+
+        expectedException.expect(SolrSchemaException.class);
+        expectedException.expectMessage(allOf(
+            either(containsString(TEST_COLLECTION_2)).or(containsString(TEST_COLLECTION_3)),
+            not(containsString(TEST_COLLECTION_1))
+        ));
+
+        schemaChecker.initialize();
+        Assert.fail("Should have thrown an exception.");
+    }
+
+    @Test
+    public void testLoggingOnlyInParallel() throws SolrSchemaException {
+        getBuilder().onlyLogErrors().validateCoresInParallel(3).build().initialize();
+    }
+
+    @Test
+    public void testOnFirstErrorWithConcurrentValidations() throws SolrSchemaException {
+        ExecutorService executorService = Executors.newFixedThreadPool(4);
+        try {
+            ClasspathSolrSchemaChecker schemaChecker = getBuilder().onFirstErrorThrowException()
+                .runValidationsConcurrently(executorService)
+                .build();
+
+            expectedException.expect(SolrSchemaException.class);
+            expectedException.expectMessage(allOf(
+                containsString(TEST_COLLECTION_2),
+                not(containsString(TEST_COLLECTION_3)),
+                not(containsString(TEST_COLLECTION_1))
+            ));
+
+            schemaChecker.initialize();
+            Assert.fail("Should have thrown an exception.");
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testAfterAllCoresWithConcurrentValidations() throws SolrSchemaException {
+        ExecutorService executorService = Executors.newFixedThreadPool(4);
+        try {
+            ClasspathSolrSchemaChecker schemaChecker = getBuilder().afterAllCoresThrowException()
+                .runValidationsConcurrently(executorService)
+                .build();
+
+            expectedException.expect(SolrSchemaException.class);
+            expectedException.expectMessage(allOf(
+                containsString(TEST_COLLECTION_2),
+                containsString(TEST_COLLECTION_3),
+                not(containsString(TEST_COLLECTION_1))
+            ));
+
+            schemaChecker.initialize();
+            Assert.fail("Should have thrown an exception.");
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
 }
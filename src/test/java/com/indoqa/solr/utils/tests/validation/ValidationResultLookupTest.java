@@ -0,0 +1,85 @@
+/*
+ *   Licensed to the Indoqa Software Design und Beratung GmbH (Indoqa) under
+ *   one or more contributor license agreements. See the NOTICE file distributed
+ *   with this work for additional information regarding copyright ownership.
+ *   Indoqa licenses this file to You under the Apache License, Version 2.0
+ *   (the "License"); you may not use this file except in compliance with
+ *   the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.indoqa.solr.utils.tests.validation;
+
+import static org.junit.Assert.*;
+
+import com.indoqa.solr.utils.validation.results.*;
+import org.junit.Test;
+
+public class ValidationResultLookupTest {
+
+    private static FieldAttributesValidationResult createFieldValidationResult(String name) {
+        FieldAttributesValidationResult result = new FieldAttributesValidationResult();
+        result.setName(name);
+        result.addAttributeOnlyInSchema("type", "string");
+        return result;
+    }
+
+    @Test
+    public void testFieldLookup() {
+        FieldsValidationResult fieldsValidationResult = new FieldsValidationResult();
+        FieldAttributesValidationResult title = createFieldValidationResult("Title");
+        fieldsValidationResult.addFieldsOnlyInSchema(title);
+        fieldsValidationResult.addFieldsOnlyInSchema(createFieldValidationResult("title"));
+
+        assertSame(title, fieldsValidationResult.getFieldOnlyInSchema("TITLE").get());
+        assertFalse(fieldsValidationResult.getFieldOnlyInSchema("text").isPresent());
+        assertFalse(fieldsValidationResult.getFieldOnlyInSchema(null).isPresent());
+        assertFalse(fieldsValidationResult.getFieldStillInSolr("title").isPresent());
+
+        FieldAttributesValidationResult text = createFieldValidationResult("text");
+        fieldsValidationResult.addFieldsOnlyInSchema(text);
+        assertSame(text, fieldsValidationResult.getFieldOnlyInSchema("text").get());
+
+        fieldsValidationResult.addFieldsOnlyInSchema(createFieldValidationResult("TEXT"));
+        assertSame(text, fieldsValidationResult.getFieldOnlyInSchema("Text").get());
+        assertEquals(4, fieldsValidationResult.getFieldsOnlyInSchema().size());
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testFieldsAreUnmodifiable() {
+        FieldsValidationResult fieldsValidationResult = new FieldsValidationResult();
+        fieldsValidationResult.getFieldsModified().add(createFieldValidationResult("title"));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testResultsAreUnmodifiable() {
+        SchemaValidationResult schemaValidationResult = new SchemaValidationResult();
+        schemaValidationResult.getResults().add(new FieldsValidationResult());
+    }
+
+    @Test
+    public void testResultLookup() {
+        FieldsValidationResult fieldsValidationResult = new FieldsValidationResult();
+        fieldsValidationResult.addFieldsModified(createFieldValidationResult("title"));
+
+        SchemaValidationResult schemaValidationResult = new SchemaValidationResult();
+        assertFalse(schemaValidationResult.getResult(FieldsValidationResult.class).isPresent());
+
+        schemaValidationResult.addValidationResult(fieldsValidationResult);
+        assertSame(fieldsValidationResult, schemaValidationResult.getResult(FieldsValidationResult.class).get());
+        assertFalse(schemaValidationResult.getResult(DynamicFieldsValidationResult.class).isPresent());
+        assertFalse(schemaValidationResult.getResult(null).isPresent());
+
+        DynamicFieldsValidationResult dynamicFieldsValidationResult = new DynamicFieldsValidationResult();
+        dynamicFieldsValidationResult.addFieldsModified(createFieldValidationResult("*_s"));
+        schemaValidationResult.addValidationResult(dynamicFieldsValidationResult);
+        assertSame(dynamicFieldsValidationResult, schemaValidationResult.getResult(DynamicFieldsValidationResult.class).get());
+        assertSame(fieldsValidationResult, schemaValidationResult.getResult(FieldsValidationResult.class).get());
+    }
+}
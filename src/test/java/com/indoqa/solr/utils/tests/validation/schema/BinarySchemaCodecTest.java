@@ -0,0 +1,92 @@
+/*
+ *   Licensed to the Indoqa Software Design und Beratung GmbH (Indoqa) under
+ *   one or more contributor license agreements. See the NOTICE file distributed
+ *   with this work for additional information regarding copyright ownership.
+ *   Indoqa licenses this file to You under the Apache License, Version 2.0
+ *   (the "License"); you may not use this file except in compliance with
+ *   the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.indoqa.solr.utils.tests.validation.schema;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import com.indoqa.solr.utils.validation.schema.*;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class BinarySchemaCodecTest {
+
+    private static final String SCHEMA = "src/test/resources/solr/validation/changed/conf/schema.xml";
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private static ParsedSchema parse(SchemaParser schemaParser) throws IOException {
+        try (InputStream inputStream = new FileInputStream(new File(SCHEMA))) {
+            return schemaParser.parse(inputStream);
+        }
+    }
+
+    private static byte[] write(ParsedSchema parsedSchema, String checksum) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        BinarySchemaCodec.write(parsedSchema, checksum, outputStream);
+        return outputStream.toByteArray();
+    }
+
+    @Test
+    public void testRoundTrip() throws IOException {
+        ParsedSchema parsedSchema = parse(new StaxSchemaParser());
+
+        ParsedSchema readSchema = BinarySchemaCodec.read(new ByteArrayInputStream(write(parsedSchema, "1234")), "1234").get();
+
+        assertEquals(parsedSchema.getName(), readSchema.getName());
+        assertEquals(parsedSchema.getVersion(), readSchema.getVersion());
+        assertEquals(parsedSchema.getUniqueKey(), readSchema.getUniqueKey());
+        assertEquals(parsedSchema.getFields(), readSchema.getFields());
+        assertEquals(parsedSchema.getCopyFields(), readSchema.getCopyFields());
+        assertEquals(SchemaFingerprints.fingerprint(parsedSchema), SchemaFingerprints.fingerprint(readSchema));
+    }
+
+    @Test
+    public void testChecksumMismatch() throws IOException {
+        byte[] content = write(parse(new StaxSchemaParser()), "1234");
+
+        assertFalse(BinarySchemaCodec.read(new ByteArrayInputStream(content), "5678").isPresent());
+    }
+
+    @Test
+    public void testCachingParserSkipsParsing() throws IOException {
+        AtomicInteger parseCount = new AtomicInteger();
+        SchemaParser countingParser = inputStream -> {
+            parseCount.incrementAndGet();
+            return new StaxSchemaParser().parse(inputStream);
+        };
+        Path cacheDirectory = this.temporaryFolder.getRoot().toPath();
+
+        ParsedSchema parsedSchema = parse(new BinaryCachingSchemaParser(countingParser, cacheDirectory));
+        ParsedSchema cachedSchema = parse(new BinaryCachingSchemaParser(countingParser, cacheDirectory));
+
+        assertEquals(1, parseCount.get());
+        assertEquals(SchemaFingerprints.fingerprint(parsedSchema), SchemaFingerprints.fingerprint(cachedSchema));
+        try (Stream<Path> files = Files.list(cacheDirectory)) {
+            assertTrue(files.allMatch(file -> file.getFileName().toString().endsWith(".schema")));
+        }
+    }
+}
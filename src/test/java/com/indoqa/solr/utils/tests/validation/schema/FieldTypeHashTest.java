@@ -0,0 +1,97 @@
+/*
+ *   Licensed to the Indoqa Software Design und Beratung GmbH (Indoqa) under
+ *   one or more contributor license agreements. See the NOTICE file distributed
+ *   with this work for additional information regarding copyright ownership.
+ *   Indoqa licenses this file to You under the Apache License, Version 2.0
+ *   (the "License"); you may not use this file except in compliance with
+ *   the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.indoqa.solr.utils.tests.validation.schema;
+
+import static com.indoqa.solr.utils.SolrConstants.*;
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.indoqa.solr.utils.validation.schema.FieldTypeHash;
+import org.apache.solr.client.solrj.request.schema.AnalyzerDefinition;
+import org.apache.solr.client.solrj.request.schema.FieldTypeDefinition;
+import org.junit.Test;
+
+public class FieldTypeHashTest {
+
+    private static Map<String, Object> createAttributes(String className, Object... keysAndValues) {
+        Map<String, Object> result = new HashMap<>();
+        result.put("class", className);
+        for (int i = 0; i < keysAndValues.length; i += 2) {
+            result.put((String) keysAndValues[i], keysAndValues[i + 1]);
+        }
+        return result;
+    }
+
+    private static AnalyzerDefinition createAnalyzer(String filterClassName) {
+        List<Map<String, Object>> filters = new ArrayList<>();
+        filters.add(createAttributes("solr.LowerCaseFilterFactory"));
+        filters.add(createAttributes(filterClassName, "ignoreCase", true));
+
+        AnalyzerDefinition result = new AnalyzerDefinition();
+        result.setTokenizer(createAttributes("solr.StandardTokenizerFactory"));
+        result.setFilters(filters);
+        return result;
+    }
+
+    private static FieldTypeDefinition createFieldType(String queryFilterClassName, Object positionIncrementGap) {
+        FieldTypeDefinition result = new FieldTypeDefinition();
+        result.setAttributes(createAttributes("solr.TextField", "name", "text", "positionIncrementGap", positionIncrementGap));
+        result.setIndexAnalyzer(createAnalyzer("solr.StopFilterFactory"));
+        result.setQueryAnalyzer(createAnalyzer(queryFilterClassName));
+        return result;
+    }
+
+    @Test
+    public void testEqualFieldTypes() {
+        FieldTypeHash hash = FieldTypeHash.of(createFieldType("solr.StopFilterFactory", "100"));
+        FieldTypeHash otherHash = FieldTypeHash.of(createFieldType("solr.StopFilterFactory", "100"));
+
+        assertTrue(hash.isEqual(otherHash));
+        assertTrue(hash.hasEqualAnalyzer(QUERY_ANALYZER, otherHash));
+        assertTrue(hash.hasEqualAnalyzer(DEFAULT_ANALYZER, otherHash));
+    }
+
+    @Test
+    public void testChangedAnalyzer() {
+        FieldTypeHash hash = FieldTypeHash.of(createFieldType("solr.StopFilterFactory", "100"));
+        FieldTypeHash otherHash = FieldTypeHash.of(createFieldType("solr.SynonymGraphFilterFactory", "100"));
+
+        assertFalse(hash.isEqual(otherHash));
+        assertTrue(hash.hasEqualAnalyzer(INDEX_ANALYZER, otherHash));
+        assertFalse(hash.hasEqualAnalyzer(QUERY_ANALYZER, otherHash));
+    }
+
+    @Test
+    public void testValuesOfDifferentTypes() {
+        FieldTypeHash hash = FieldTypeHash.of(createFieldType("solr.StopFilterFactory", "100"));
+        FieldTypeHash otherHash = FieldTypeHash.of(createFieldType("solr.StopFilterFactory", 100));
+
+        assertFalse(hash.isEqual(otherHash));
+        assertTrue(hash.hasEqualAnalyzer(QUERY_ANALYZER, otherHash));
+    }
+
+    @Test
+    public void testNullValuesAreNeverEqual() {
+        FieldTypeDefinition fieldType = createFieldType("solr.StopFilterFactory", null);
+
+        assertFalse(FieldTypeHash.of(fieldType).isEqual(FieldTypeHash.of(fieldType)));
+    }
+}
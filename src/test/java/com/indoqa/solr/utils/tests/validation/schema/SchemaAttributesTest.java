@@ -0,0 +1,115 @@
+/*
+ *   Licensed to the Indoqa Software Design und Beratung GmbH (Indoqa) under
+ *   one or more contributor license agreements. See the NOTICE file distributed
+ *   with this work for additional information regarding copyright ownership.
+ *   Indoqa licenses this file to You under the Apache License, Version 2.0
+ *   (the "License"); you may not use this file except in compliance with
+ *   the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.indoqa.solr.utils.tests.validation.schema;
+
+import static org.junit.Assert.*;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import com.indoqa.solr.utils.validation.checks.AttributesValidator;
+import com.indoqa.solr.utils.validation.results.AttributesValidationResult;
+import com.indoqa.solr.utils.validation.results.ValuesOrigin;
+import com.indoqa.solr.utils.validation.schema.SchemaAttributes;
+import org.junit.Test;
+
+public class SchemaAttributesTest {
+
+    private static Map<String, Object> createField(Object stored) {
+        Map<String, Object> result = new HashMap<>();
+        result.put("name", "title");
+        result.put("type", "string");
+        result.put("indexed", true);
+        result.put("stored", stored);
+        result.put("positionIncrementGap", 100);
+        return result;
+    }
+
+    @Test
+    public void testBehavesLikeTheOriginalMap() {
+        Map<String, Object> field = createField(false);
+        SchemaAttributes attributes = SchemaAttributes.of(field);
+
+        assertEquals(field, attributes);
+        assertEquals(field.hashCode(), attributes.hashCode());
+        assertEquals(5, attributes.size());
+        assertEquals(Boolean.TRUE, attributes.get("indexed"));
+        assertEquals(Boolean.FALSE, attributes.getProperty("stored"));
+        assertNull(attributes.getProperty("docValues"));
+        assertFalse(attributes.containsKey("docValues"));
+        assertEquals(100, attributes.get("positionIncrementGap"));
+    }
+
+    @Test
+    public void testEqualValues() {
+        assertTrue(SchemaAttributes.of(createField(false)).hasEqualValues(SchemaAttributes.of(createField(false))));
+        assertFalse(SchemaAttributes.of(createField(false)).hasEqualValues(SchemaAttributes.of(createField(true))));
+        assertTrue(SchemaAttributes.isEqualValue(Boolean.TRUE, "TRUE"));
+        assertFalse(SchemaAttributes.isEqualValue("false", Boolean.TRUE));
+    }
+
+    @Test
+    public void testValidationOfEqualAttributes() {
+        AttributesValidationResult result = AttributesValidator.validate(SchemaAttributes.of(createField(false)),
+            SchemaAttributes.of(createField(false)));
+
+        assertEquals("title", result.getName());
+        assertEquals(ValuesOrigin.BOTH, result.getValuesOrigin());
+        assertTrue(result.isEmpty());
+    }
+
+    @Test
+    public void testValidationOfEqualFieldType() {
+        Map<String, Object> fieldType = new HashMap<>();
+        fieldType.put("name", "text");
+        fieldType.put("class", "solr.TextField");
+        fieldType.put("positionIncrementGap", "100");
+
+        AttributesValidationResult result = AttributesValidator.validate(fieldType, new HashMap<>(fieldType));
+
+        assertTrue(AttributesValidator.isEqual(fieldType, SchemaAttributes.of(fieldType)));
+        assertEquals("text", result.getName());
+        assertEquals("solr.TextField", result.getClassName());
+        assertEquals(ValuesOrigin.BOTH, result.getValuesOrigin());
+        assertTrue(result.isEmpty());
+        assertTrue(result.getDifferentAttributeValues().isEmpty());
+
+        result.addDifferentAttribute("positionIncrementGap", "100", "95");
+        assertFalse(result.isEmpty());
+        assertTrue(AttributesValidator.validate(fieldType, new HashMap<>(fieldType)).isEmpty());
+    }
+
+    @Test
+    public void testEqualityWithoutNameOrClass() {
+        Map<String, Object> attributes = new HashMap<>();
+        attributes.put("positionIncrementGap", "100");
+
+        assertFalse(AttributesValidator.isEqual(attributes, new HashMap<>(attributes)));
+        assertEquals(ValuesOrigin.ONLY_IN_SCHEMA, AttributesValidator.validate(attributes, new HashMap<>(attributes)).getValuesOrigin());
+        assertTrue(AttributesValidator.isEqual(null, new HashMap<>()));
+    }
+
+    @Test
+    public void testValidationOfBooleanLiteral() {
+        Map<String, Object> solrField = createField("false");
+
+        AttributesValidationResult result = AttributesValidator.validate(SchemaAttributes.of(createField(false)),
+            SchemaAttributes.of(solrField));
+
+        assertTrue(result.isEmpty());
+    }
+}
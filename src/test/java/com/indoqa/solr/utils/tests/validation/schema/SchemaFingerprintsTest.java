@@ -0,0 +1,77 @@
+/*
+ *   Licensed to the Indoqa Software Design und Beratung GmbH (Indoqa) under
+ *   one or more contributor license agreements. See the NOTICE file distributed
+ *   with this work for additional information regarding copyright ownership.
+ *   Indoqa licenses this file to You under the Apache License, Version 2.0
+ *   (the "License"); you may not use this file except in compliance with
+ *   the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.indoqa.solr.utils.tests.validation.schema;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import com.indoqa.solr.utils.validation.schema.*;
+import org.junit.Test;
+
+public class SchemaFingerprintsTest {
+
+    private static final String INITIAL_SCHEMA = "src/test/resources/solr/validation/initial/conf/schema.xml";
+    private static final String CHANGED_SCHEMA = "src/test/resources/solr/validation/changed/conf/schema.xml";
+
+    private static ParsedSchema parse(SchemaParser schemaParser, String path) throws IOException {
+        try (InputStream inputStream = new FileInputStream(new File(path))) {
+            return schemaParser.parse(inputStream);
+        }
+    }
+
+    private static <T> List<T> reverse(List<T> values) {
+        List<T> result = new ArrayList<>(values);
+        Collections.reverse(result);
+        return result;
+    }
+
+    @Test
+    public void testSameSchemaSameFingerprint() throws IOException {
+        String expected = SchemaFingerprints.fingerprint(parse(new DomSchemaParser(), CHANGED_SCHEMA));
+
+        assertEquals(64, expected.length());
+        assertEquals(expected, SchemaFingerprints.fingerprint(parse(new DomSchemaParser(), CHANGED_SCHEMA)));
+        assertEquals(expected, SchemaFingerprints.fingerprint(parse(new StaxSchemaParser(), CHANGED_SCHEMA)));
+    }
+
+    @Test
+    public void testDifferentSchemaDifferentFingerprint() throws IOException {
+        assertNotEquals(
+            SchemaFingerprints.fingerprint(parse(new DomSchemaParser(), INITIAL_SCHEMA)),
+            SchemaFingerprints.fingerprint(parse(new DomSchemaParser(), CHANGED_SCHEMA)));
+    }
+
+    @Test
+    public void testOrderOfFieldsIsIgnored() throws IOException {
+        ParsedSchema schema = parse(new DomSchemaParser(), CHANGED_SCHEMA);
+        List<Map<String, Object>> fields = reverse(schema.getFields());
+        ParsedSchema reordered = new ParsedSchema(schema.getName(), schema.getVersion(), schema.getUniqueKey(),
+            schema.getDefaultSearchField(), fields, reverse(schema.getDynamicFields()), reverse(schema.getCopyFields()),
+            reverse(schema.getFieldTypes()));
+
+        assertEquals(SchemaFingerprints.fingerprint(schema), SchemaFingerprints.fingerprint(reordered));
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ *   Licensed to the Indoqa Software Design und Beratung GmbH (Indoqa) under
+ *   one or more contributor license agreements. See the NOTICE file distributed
+ *   with this work for additional information regarding copyright ownership.
+ *   Indoqa licenses this file to You under the Apache License, Version 2.0
+ *   (the "License"); you may not use this file except in compliance with
+ *   the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.indoqa.solr.utils.tests.validation.schema;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+import com.indoqa.solr.utils.validation.schema.DomSchemaParser;
+import com.indoqa.solr.utils.validation.schema.ParsedSchema;
+import com.indoqa.solr.utils.validation.schema.SchemaParser;
+import com.indoqa.solr.utils.validation.schema.StaxSchemaParser;
+import org.apache.solr.client.solrj.request.schema.AnalyzerDefinition;
+import org.apache.solr.client.solrj.request.schema.FieldTypeDefinition;
+import org.junit.Test;
+
+public class StaxSchemaParserTest {
+
+    private static final String[] SCHEMAS = {"src/test/resources/solr/validation/initial/conf/schema.xml",
+        "src/test/resources/solr/validation/changed/conf/schema.xml", "src/test/resources/solr/validation/full/conf/schema.xml",
+        "src/test/resources/solr/maintenance/add_modify_remove_changed/conf/schema.xml",
+        "src/test/resources/solr/maintenance/only_add_changed/conf/schema.xml"};
+
+    private static ParsedSchema parse(SchemaParser schemaParser, String path) throws IOException {
+        try (InputStream inputStream = new FileInputStream(new File(path))) {
+            return schemaParser.parse(inputStream);
+        }
+    }
+
+    private static List<Object> describe(List<FieldTypeDefinition> fieldTypes) {
+        List<Object> result = new ArrayList<>();
+        for (FieldTypeDefinition eachFieldType : fieldTypes) {
+            result.add(Arrays.asList(eachFieldType.getAttributes(),
+                describe(eachFieldType.getAnalyzer()),
+                describe(eachFieldType.getIndexAnalyzer()),
+                describe(eachFieldType.getQueryAnalyzer()),
+                describe(eachFieldType.getMultiTermAnalyzer()),
+                eachFieldType.getSimilarity()));
+        }
+        return result;
+    }
+
+    private static List<Object> describe(AnalyzerDefinition analyzer) {
+        if (analyzer == null) {
+            return null;
+        }
+        return Arrays.asList(analyzer.getAttributes(), analyzer.getCharFilters(), analyzer.getTokenizer(), analyzer.getFilters());
+    }
+
+    @Test
+    public void testSameResultAsDomParser() throws IOException {
+        for (String eachSchema : SCHEMAS) {
+            ParsedSchema expected = parse(new DomSchemaParser(), eachSchema);
+            ParsedSchema actual = parse(new StaxSchemaParser(), eachSchema);
+
+            assertEquals(eachSchema, expected.getName(), actual.getName());
+            assertEquals(eachSchema, expected.getVersion(), actual.getVersion());
+            assertEquals(eachSchema, expected.getUniqueKey(), actual.getUniqueKey());
+            assertEquals(eachSchema, expected.getDefaultSearchField(), actual.getDefaultSearchField());
+            assertEquals(eachSchema, expected.getFields(), actual.getFields());
+            assertEquals(eachSchema, expected.getDynamicFields(), actual.getDynamicFields());
+            assertEquals(eachSchema, expected.getCopyFields(), actual.getCopyFields());
+            assertEquals(eachSchema, describe(expected.getFieldTypes()), describe(actual.getFieldTypes()));
+        }
+    }
+
+    @Test
+    public void testInternalEntitiesAreReplaced() throws IOException {
+        String schema = "<?xml version=\"1.0\"?>\n"
+            + "<!DOCTYPE schema SYSTEM \"missing.dtd\" [\n"
+            + "  <!ENTITY stringType \"string\">\n"
+            + "  <!ENTITY stringFields \"<field name='title' type='&stringType;'/><field name='text' type='&stringType;'/>\">\n"
+            + "]>\n"
+            + "<schema name=\"&stringType;s\" version=\"1.6\">\n"
+            + "  <field name=\"id\" type=\"&stringType;\" />\n"
+            + "  &stringFields;\n"
+            + "  <uniqueKey>id</uniqueKey>\n"
+            + "</schema>";
+
+        ParsedSchema parsedSchema = new StaxSchemaParser().parse(new ByteArrayInputStream(schema.getBytes(StandardCharsets.UTF_8)));
+
+        assertEquals("strings", parsedSchema.getName());
+        assertEquals(3, parsedSchema.getFields().size());
+        for (Map<String, Object> eachField : parsedSchema.getFields()) {
+            assertEquals("string", eachField.get("type"));
+        }
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ *   Licensed to the Indoqa Software Design und Beratung GmbH (Indoqa) under
+ *   one or more contributor license agreements. See the NOTICE file distributed
+ *   with this work for additional information regarding copyright ownership.
+ *   Indoqa licenses this file to You under the Apache License, Version 2.0
+ *   (the "License"); you may not use this file except in compliance with
+ *   the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.indoqa.solr.utils.tests.validation.schema;
+
+import static com.indoqa.solr.utils.validation.SchemaCheck.FIELDS;
+import static com.indoqa.solr.utils.validation.SchemaCheckConfiguration.of;
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.indoqa.solr.utils.validation.SolrSchema;
+import com.indoqa.solr.utils.validation.SolrSchemaException;
+import com.indoqa.solr.utils.validation.schema.StringPool;
+import com.indoqa.solr.utils.validation.snapshot.SnapshotSolrSchemaChecker;
+import org.apache.solr.client.solrj.response.schema.SchemaRepresentation;
+import org.junit.Test;
+
+public class StringPoolTest {
+
+    @Test
+    public void testDeduplication() {
+        StringPool stringPool = new StringPool(10, 20);
+        String first = new String("solr.TextField");
+        String second = new String("solr.TextField");
+
+        assertSame(first, stringPool.intern(first));
+        assertSame(first, stringPool.intern(second));
+        assertEquals(1, stringPool.size());
+        assertEquals(1, stringPool.getDeduplicatedCount());
+        assertEquals(56, stringPool.getSavedBytes());
+    }
+
+    @Test
+    public void testLimits() {
+        StringPool stringPool = new StringPool(1, 5);
+
+        stringPool.intern("name");
+        String longValue = new String("multiValued");
+        String otherValue = new String("type");
+
+        assertSame(longValue, stringPool.intern(longValue));
+        assertSame(otherValue, stringPool.intern(otherValue));
+        assertEquals(1, stringPool.size());
+        assertEquals(Boolean.TRUE, stringPool.intern((Object) Boolean.TRUE));
+    }
+
+    @Test
+    public void testSchemaRepresentationIsPooled() {
+        StringPool stringPool = new StringPool(10, 20);
+        SchemaRepresentation first = createSchemaRepresentation();
+        SchemaRepresentation second = createSchemaRepresentation();
+
+        stringPool.intern(first);
+        stringPool.intern(second);
+
+        Map.Entry<String, Object> firstAttribute = first.getFields().get(0).entrySet().iterator().next();
+        Map.Entry<String, Object> secondAttribute = second.getFields().get(0).entrySet().iterator().next();
+        assertSame(firstAttribute.getKey(), secondAttribute.getKey());
+        assertSame(firstAttribute.getValue(), secondAttribute.getValue());
+        assertSame(first.getCopyFields().get(0).get("source"), second.getCopyFields().get(0).get("source"));
+        assertEquals(createSchemaRepresentation().getFields(), second.getFields());
+        assertEquals(3, stringPool.size());
+    }
+
+    private static SchemaRepresentation createSchemaRepresentation() {
+        Map<String, Object> field = new HashMap<>();
+        field.put(new String("type"), new String("text"));
+        Map<String, Object> copyField = new HashMap<>();
+        copyField.put(new String("source"), new String("text"));
+
+        SchemaRepresentation result = new SchemaRepresentation();
+        result.setFields(Collections.singletonList(field));
+        result.setCopyFields(Collections.singletonList(copyField));
+        return result;
+    }
+
+    @Test
+    public void testResponseIsNotPooled() throws SolrSchemaException {
+        SolrSchema solrSchema = new SolrSchema("changed", "src/test/resources/solr/validation/changed/conf/schema.xml");
+        List<Map<String, Object>> fields = new ArrayList<>();
+        for (Map<String, Object> eachField : solrSchema.getFields()) {
+            Map<String, Object> field = new HashMap<>();
+            for (Map.Entry<String, Object> eachAttribute : eachField.entrySet()) {
+                Object value = eachAttribute.getValue();
+                field.put(new String(eachAttribute.getKey()), value instanceof String ? new String((String) value) : value);
+            }
+            fields.add(field);
+        }
+        SchemaRepresentation schemaRepresentation = new SchemaRepresentation();
+        schemaRepresentation.setFields(fields);
+
+        long deduplicatedCount = StringPool.getInstance().getDeduplicatedCount();
+        assertTrue(new SnapshotSolrSchemaChecker().validateSolrSchema(of(solrSchema, FIELDS), schemaRepresentation).isEmpty());
+        assertEquals(deduplicatedCount, StringPool.getInstance().getDeduplicatedCount());
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ *   Licensed to the Indoqa Software Design und Beratung GmbH (Indoqa) under
+ *   one or more contributor license agreements. See the NOTICE file distributed
+ *   with this work for additional information regarding copyright ownership.
+ *   Indoqa licenses this file to You under the Apache License, Version 2.0
+ *   (the "License"); you may not use this file except in compliance with
+ *   the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.indoqa.solr.utils.tests.validation.snapshot;
+
+import static com.indoqa.solr.utils.validation.SchemaCheck.COMPLETE;
+import static com.indoqa.solr.utils.validation.SchemaCheck.FIELD_TYPES;
+import static com.indoqa.solr.utils.validation.SchemaCheckConfiguration.of;
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.indoqa.solr.utils.validation.SolrSchema;
+import com.indoqa.solr.utils.validation.SolrSchemaException;
+import com.indoqa.solr.utils.validation.results.FieldTypesValidationResult;
+import com.indoqa.solr.utils.validation.results.SchemaValidationResult;
+import com.indoqa.solr.utils.validation.snapshot.SchemaSnapshots;
+import com.indoqa.solr.utils.validation.snapshot.SnapshotSolrSchemaChecker;
+import org.apache.solr.client.solrj.request.schema.AnalyzerDefinition;
+import org.apache.solr.client.solrj.request.schema.FieldTypeDefinition;
+import org.apache.solr.client.solrj.response.schema.SchemaRepresentation;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class SnapshotSolrSchemaCheckerTest {
+
+    private static final String SCHEMA = "src/test/resources/solr/validation/changed/conf/schema.xml";
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private static SchemaRepresentation toSchemaRepresentation(SolrSchema solrSchema) {
+        SchemaRepresentation result = new SchemaRepresentation();
+        result.setName(solrSchema.getName());
+        result.setVersion(solrSchema.getVersion());
+        result.setUniqueKey(solrSchema.getUniqueKey());
+        result.setFields(solrSchema.getFields());
+        result.setDynamicFields(solrSchema.getDynamicFields());
+        result.setCopyFields(solrSchema.getCopyFields());
+        result.setFieldTypes(solrSchema.getFieldTypes());
+        return result;
+    }
+
+    private static FieldTypeDefinition withChangedIndexFilter(FieldTypeDefinition fieldType) {
+        List<Map<String, Object>> filters = new ArrayList<>();
+        for (Map<String, Object> eachFilter : fieldType.getIndexAnalyzer().getFilters()) {
+            Map<String, Object> filter = new HashMap<>(eachFilter);
+            if ("solr.NGramFilterFactory".equals(filter.get("class"))) {
+                filter.put("maxGramSize", "42");
+            }
+            filters.add(filter);
+        }
+
+        AnalyzerDefinition indexAnalyzer = new AnalyzerDefinition();
+        indexAnalyzer.setAttributes(fieldType.getIndexAnalyzer().getAttributes());
+        indexAnalyzer.setCharFilters(fieldType.getIndexAnalyzer().getCharFilters());
+        indexAnalyzer.setTokenizer(fieldType.getIndexAnalyzer().getTokenizer());
+        indexAnalyzer.setFilters(filters);
+
+        FieldTypeDefinition result = new FieldTypeDefinition();
+        result.setAttributes(fieldType.getAttributes());
+        result.setAnalyzer(fieldType.getAnalyzer());
+        result.setIndexAnalyzer(indexAnalyzer);
+        result.setQueryAnalyzer(fieldType.getQueryAnalyzer());
+        result.setMultiTermAnalyzer(fieldType.getMultiTermAnalyzer());
+        result.setSimilarity(fieldType.getSimilarity());
+        return result;
+    }
+
+    @Test
+    public void testUnchangedSnapshot() throws IOException, SolrSchemaException {
+        SolrSchema solrSchema = new SolrSchema("snapshot", SCHEMA);
+        Path snapshot = this.temporaryFolder.getRoot().toPath().resolve("schema.json");
+        SchemaSnapshots.write(toSchemaRepresentation(solrSchema), snapshot);
+
+        SchemaValidationResult result = new SnapshotSolrSchemaChecker().validateSolrSchema(of(solrSchema, COMPLETE), snapshot);
+
+        assertTrue(result.getErrorMessage(0), result.isEmpty());
+    }
+
+    @Test
+    public void testChangedSnapshot() throws SolrSchemaException {
+        SolrSchema solrSchema = new SolrSchema("snapshot", SCHEMA);
+        SchemaRepresentation schemaRepresentation = toSchemaRepresentation(solrSchema);
+        List<Map<String, Object>> fields = new ArrayList<>(solrSchema.getFields());
+        fields.remove(0);
+        schemaRepresentation.setFields(fields);
+
+        SchemaValidationResult result = new SnapshotSolrSchemaChecker().validateSolrSchema(of(solrSchema, COMPLETE),
+            schemaRepresentation);
+
+        assertFalse(result.isEmpty());
+    }
+
+    @Test
+    public void testChangedAnalyzer() throws SolrSchemaException {
+        SolrSchema solrSchema = new SolrSchema("snapshot", SCHEMA);
+        SchemaRepresentation schemaRepresentation = toSchemaRepresentation(solrSchema);
+        FieldTypeDefinition fieldType = solrSchema.getFieldType("text_ngram").get();
+        List<FieldTypeDefinition> fieldTypes = new ArrayList<>(solrSchema.getFieldTypes());
+        fieldTypes.set(fieldTypes.indexOf(fieldType), withChangedIndexFilter(fieldType));
+        schemaRepresentation.setFieldTypes(fieldTypes);
+
+        SnapshotSolrSchemaChecker schemaChecker = new SnapshotSolrSchemaChecker();
+        SchemaValidationResult result = schemaChecker.validateSolrSchema(of(solrSchema, FIELD_TYPES), schemaRepresentation);
+
+        FieldTypesValidationResult fieldTypesValidationResult = result.getResult(FieldTypesValidationResult.class).get();
+        assertTrue(fieldTypesValidationResult.getFieldModified("text_ngram").isPresent());
+        assertFalse(schemaChecker.isInSync(of(solrSchema, FIELD_TYPES), schemaRepresentation));
+        assertTrue(schemaChecker.isInSync(of(solrSchema, FIELD_TYPES), toSchemaRepresentation(solrSchema)));
+    }
+
+    @Test
+    public void testReadSchemaApiResponse() throws IOException {
+        SchemaRepresentation schemaRepresentation = SchemaSnapshots.read("{\"responseHeader\":{\"status\":0,\"QTime\":1},"
+            + "\"schema\":{\"name\":\"example\",\"version\":1.6,\"uniqueKey\":\"id\","
+            + "\"fieldTypes\":[{\"name\":\"text\",\"class\":\"solr.TextField\",\"indexAnalyzer\":{"
+            + "\"tokenizer\":{\"class\":\"solr.StandardTokenizerFactory\"},"
+            + "\"filters\":[{\"class\":\"solr.NGramFilterFactory\",\"maxGramSize\":\"30\"}]}}],"
+            + "\"fields\":[{\"name\":\"id\",\"type\":\"string\",\"stored\":true}],"
+            + "\"dynamicFields\":[],"
+            + "\"copyFields\":[{\"source\":\"id\",\"dest\":\"text\",\"maxChars\":250}]}}");
+
+        assertEquals("example", schemaRepresentation.getName());
+        assertEquals(1.6f, schemaRepresentation.getVersion(), 0.0f);
+        assertEquals("id", schemaRepresentation.getUniqueKey());
+        assertEquals(Boolean.TRUE, schemaRepresentation.getFields().get(0).get("stored"));
+        assertEquals(0, schemaRepresentation.getDynamicFields().size());
+        assertEquals(250, schemaRepresentation.getCopyFields().get(0).get("maxChars"));
+
+        FieldTypeDefinition fieldType = schemaRepresentation.getFieldTypes().get(0);
+        assertEquals("text", fieldType.getAttributes().get("name"));
+        assertFalse(fieldType.getAttributes().containsKey("indexAnalyzer"));
+        assertNull(fieldType.getAnalyzer());
+        assertEquals("solr.StandardTokenizerFactory", fieldType.getIndexAnalyzer().getTokenizer().get("class"));
+        assertEquals("30", fieldType.getIndexAnalyzer().getFilters().get(0).get("maxGramSize"));
+        assertNull(fieldType.getIndexAnalyzer().getCharFilters());
+    }
+}